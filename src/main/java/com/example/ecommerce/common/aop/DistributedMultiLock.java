@@ -0,0 +1,29 @@
+package com.example.ecommerce.common.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 키에 대한 분산락을 한 번에 획득 (Redisson MultiLock)
+ * 키는 정렬된 순서로 획득하므로 같은 키 집합을 잡는 요청끼리 교착되지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedMultiLock {
+
+    String prefix();
+
+    /**
+     * 락 대상 목록을 반환하는 SpEL (Collection), 각 원소는 prefix 뒤에 붙는다.
+     */
+    String keys();
+
+    long waitTime() default 5;
+
+    long leaseTime() default 3;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
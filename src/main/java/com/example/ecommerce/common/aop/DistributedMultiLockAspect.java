@@ -0,0 +1,116 @@
+package com.example.ecommerce.common.aop;
+
+import com.example.ecommerce.common.exception.LockTimeoutException;
+import java.util.Collection;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@org.springframework.core.annotation.Order(1)
+public class DistributedMultiLockAspect {
+
+    private final RedissonClient redissonClient;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    @Around("@annotation(distributedMultiLock)")
+    public Object handleDistributedMultiLock(ProceedingJoinPoint joinPoint,
+                                             DistributedMultiLock distributedMultiLock) throws Throwable {
+        TreeSet<String> lockKeys = generateKeys(joinPoint, distributedMultiLock);
+        if (lockKeys.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        RLock[] locks = lockKeys.stream()
+            .map(redissonClient::getLock)
+            .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+
+        boolean lockAcquired = false;
+        try {
+            log.debug("Attempting to acquire distributed multi lock for keys: {} with waitTime: {}, leaseTime: {} {}",
+                lockKeys, distributedMultiLock.waitTime(), distributedMultiLock.leaseTime(),
+                distributedMultiLock.timeUnit());
+
+            lockAcquired = multiLock.tryLock(
+                distributedMultiLock.waitTime(),
+                distributedMultiLock.leaseTime(),
+                distributedMultiLock.timeUnit()
+            );
+
+            if (!lockAcquired) {
+                log.error("Failed to acquire distributed multi lock for keys: {} within {} {}",
+                    lockKeys, distributedMultiLock.waitTime(), distributedMultiLock.timeUnit());
+                throw new LockTimeoutException("분산락 획득에 실패했습니다. keys: " + lockKeys);
+            }
+
+            log.debug("Distributed multi lock acquired for keys: {}", lockKeys);
+
+            return joinPoint.proceed();
+
+        } finally {
+            if (lockAcquired) {
+                unlock(locks, lockKeys);
+            }
+        }
+    }
+
+    /**
+     * MultiLock 은 isHeldByCurrentThread 를 지원하지 않으므로 개별 락마다 확인하고 해제한다.
+     * leaseTime 이 지나 이미 풀린 락을 unlock 하면 IllegalMonitorStateException 이 발생해
+     * 원래 결과/예외를 덮어쓰므로, 아직 보유 중인 락만 해제한다.
+     */
+    private void unlock(RLock[] locks, TreeSet<String> lockKeys) {
+        for (RLock lock : locks) {
+            if (!lock.isHeldByCurrentThread()) {
+                log.warn("Distributed lock already released (lease expired) for key: {}", lock.getName());
+                continue;
+            }
+            try {
+                lock.unlock();
+            } catch (IllegalMonitorStateException e) {
+                log.warn("Distributed lock released concurrently for key: {}", lock.getName(), e);
+            }
+        }
+        log.debug("Distributed multi lock released for keys: {}", lockKeys);
+    }
+
+    private TreeSet<String> generateKeys(ProceedingJoinPoint joinPoint, DistributedMultiLock distributedMultiLock) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String[] parameterNames = nameDiscoverer.getParameterNames(signature.getMethod());
+        Object[] args = joinPoint.getArgs();
+
+        EvaluationContext context = new StandardEvaluationContext();
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+        }
+
+        Collection<?> values = parser.parseExpression(distributedMultiLock.keys()).getValue(context, Collection.class);
+
+        // 정렬 + 중복 제거
+        TreeSet<String> lockKeys = new TreeSet<>();
+        if (values != null) {
+            values.forEach(value -> lockKeys.add(distributedMultiLock.prefix() + value));
+        }
+        return lockKeys;
+    }
+}
@@ -17,6 +17,7 @@ public enum ErrorCode {
     PRODUCT_ALREADY_EXISTS("PRODUCT_003", HttpStatus.CONFLICT, "이미 존재하는 상품입니다."),
     INVALID_PRODUCT_STATUS("PRODUCT_004", HttpStatus.BAD_REQUEST, "유효하지 않은 상품 상태입니다."),
     STOCK_RESERVATION_NOT_FOUND("PRODUCT_005", HttpStatus.NOT_FOUND, "재고 예약을 찾을 수 없습니다."),
+    STOCK_RESERVATION_EXPIRED("PRODUCT_006", HttpStatus.CONFLICT, "만료되어 해제된 재고 예약입니다."),
 
     // User
     USER_NOT_FOUND("USER_001", HttpStatus.NOT_FOUND, "조회된 유저가 없습니다."),
@@ -30,6 +31,7 @@ public enum ErrorCode {
     COUPON_ALREADY_ISSUED("COUPON_003",HttpStatus.CONFLICT, "이미 발급된 쿠폰입니다."),
     COUPON_EXPIRED("COUPON_004", HttpStatus.GONE, "만료된 쿠폰입니다."),
     COUPON_NOT_AVAILABLE("COUPON_005", HttpStatus.CONFLICT, "사용할 수 없는 쿠폰입니다."),
+    COUPON_ISSUE_THROTTLED("COUPON_006", HttpStatus.TOO_MANY_REQUESTS, "발급 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     //UserCoupon
     USER_COUPON_NOT_FOUND("USER_COUPON_001", HttpStatus.NOT_FOUND, "사용자의 쿠폰을 찾을 수 없습니다."),
@@ -1,6 +1,7 @@
 package com.example.ecommerce.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -54,6 +55,21 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn("Rate limit exceeded: code={}, retryAfter={}s", e.getCode(), e.getRetryAfterSeconds());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+            e.getCode(),
+            e.getMessage()
+        );
+
+        return ResponseEntity
+            .status(e.getErrorCode().getStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.warn("Validation failed: {}", e.getMessage());
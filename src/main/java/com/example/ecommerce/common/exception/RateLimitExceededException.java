@@ -0,0 +1,14 @@
+package com.example.ecommerce.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(ErrorCode errorCode, long retryAfterMillis) {
+        super(errorCode);
+        this.retryAfterSeconds = Math.max(1L, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.ecommerce.config;
 
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
+import com.example.ecommerce.coupon.dto.UserCouponResponse;
+import com.example.ecommerce.product.dto.ProductDetailResponse;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,11 +16,13 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,12 +33,15 @@ import java.util.Map;
 @EnableCaching
 public class RedisCacheConfig {
 
+    private static final String TYPED_CACHE_VERSION = "v2";
+
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
         // ObjectMapper 설정
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -53,9 +63,10 @@ public class RedisCacheConfig {
         cacheConfigurations.put("product:popular",
             defaultConfig.entryTtl(Duration.ofMinutes(30)));
 
-        // 2. 상품 상세 (10분) - 재고 정보 포함
+        // 2. 상품 상세 (10분) - 재고 정보 포함, 재고 확정 시 ProductDetailCache 가 덮어쓰며 TTL 은 갱신 누락 시의 상한
         cacheConfigurations.put("product:detail",
-            defaultConfig.entryTtl(Duration.ofMinutes(10)));
+            typedConfig(defaultConfig, objectMapper, typeFactory.constructType(ProductDetailResponse.class))
+                .entryTtl(Duration.ofMinutes(10)));
 
         // 3. 상품 목록 (5분) - 자주 변경되므로 짧은 TTL
         cacheConfigurations.put("product:list",
@@ -71,9 +82,18 @@ public class RedisCacheConfig {
 
         // 6. 사용자 쿠폰 목록 (10분)
         cacheConfigurations.put("user:coupons",
-            defaultConfig.entryTtl(Duration.ofMinutes(10)));
+            typedConfig(defaultConfig, objectMapper,
+                typeFactory.constructCollectionType(List.class, UserCouponResponse.class))
+                .entryTtl(Duration.ofMinutes(10)));
+
+        // 7. 주문 금액별 쿠폰 추천 (10분) - 지갑 변경 시 user:coupons 와 함께 제거
+        cacheConfigurations.put("coupon:recommendations",
+            typedConfig(defaultConfig, objectMapper,
+                typeFactory.constructMapType(Map.class, typeFactory.constructType(String.class),
+                    typeFactory.constructCollectionType(List.class, CouponRecommendationResponse.class)))
+                .entryTtl(Duration.ofMinutes(10)));
 
-        // 7. 사용자 정보 (15분)
+        // 8. 사용자 정보 (15분)
         cacheConfigurations.put("user:info",
             defaultConfig.entryTtl(Duration.ofMinutes(15)));
 
@@ -83,4 +103,19 @@ public class RedisCacheConfig {
             .transactionAware() // 트랜잭션과 캐시 동기화
             .build();
     }
+
+    /**
+     * 값 타입이 정해진 캐시 설정
+     * record 응답(final 클래스)을 타입 정보 없이 원래 타입으로 역직렬화한다.
+     * 이전 형식(기본 직렬화기)으로 저장된 항목을 읽지 않도록 키 접두사에 버전을 붙인다.
+     */
+    private RedisCacheConfiguration typedConfig(RedisCacheConfiguration base, ObjectMapper objectMapper, JavaType valueType) {
+        return base
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                    new Jackson2JsonRedisSerializer<>(objectMapper, valueType)
+                )
+            )
+            .computePrefixWith(cacheName -> cacheName + ":" + TYPED_CACHE_VERSION + "::");
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.ecommerce.coupon.admission;
+
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.common.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 쿠폰 발급 요청 입장 제어
+ * CouponIssueFacade 앞단에서 쿠폰별 토큰 버킷과 노드 전체 동시 처리 수 제한을 적용한다.
+ * 초과 요청은 Redis와 DB에 도달하기 전에 429와 Retry-After 힌트로 즉시 거절한다.
+ */
+@Slf4j
+@Component
+public class CouponIssueAdmission {
+
+    private static final long CONCURRENCY_RETRY_AFTER_MILLIS = 1000L;
+
+    private final CouponIssueRateLimiter rateLimiter;
+    private final Semaphore concurrencyPermits;
+
+    public CouponIssueAdmission(
+        CouponIssueRateLimiter rateLimiter,
+        @Value("${coupon.issue.admission.max-concurrency:200}") int maxConcurrency
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyPermits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 입장 허용 시 요청을 실행한다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param request  발급 요청
+     * @throws RateLimitExceededException 처리율 또는 동시 처리 수 초과
+     */
+    public void execute(Long couponId, Runnable request) {
+        // 동시 처리 수를 먼저 확인해, 동시 처리 초과로 거절되는 요청이 처리율 토큰을 소비하지 않게 한다
+        if (!concurrencyPermits.tryAcquire()) {
+            log.debug("동시 처리 수 초과 - couponId: {}", couponId);
+            throw new RateLimitExceededException(ErrorCode.COUPON_ISSUE_THROTTLED, CONCURRENCY_RETRY_AFTER_MILLIS);
+        }
+
+        try {
+            long waitMillis = rateLimiter.tryAcquire(couponId);
+            if (waitMillis > 0) {
+                log.debug("쿠폰별 처리율 초과 - couponId: {}, retryAfter: {}ms", couponId, waitMillis);
+                throw new RateLimitExceededException(ErrorCode.COUPON_ISSUE_THROTTLED, waitMillis);
+            }
+
+            request.run();
+        } finally {
+            concurrencyPermits.release();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.ecommerce.coupon.admission;
+
+/**
+ * 쿠폰별 발급 요청 처리율 제한
+ * coupon.issue.rate-limit.mode 로 노드 로컬(local) 또는 Redis 공유(redis) 구현을 선택한다.
+ */
+public interface CouponIssueRateLimiter {
+
+    /**
+     * 토큰 하나를 소비한다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(ms)
+     */
+    long tryAcquire(Long couponId);
+}
@@ -0,0 +1,86 @@
+package com.example.ecommerce.coupon.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 토큰 버킷 (기본값)
+ * 노드마다 독립적으로 동작하므로 전체 허용량은 노드 수에 비례한다.
+ *
+ * 버킷은 쿠폰 검증 전 클라이언트가 보낸 couponId 로 만들어지므로 최대 maxBuckets 개로 제한한다.
+ * 가득 차면 다시 가득 찰 만큼(burst / rate) 쉬고 있던 버킷을 정리하는데, 이런 버킷은 새 버킷과 상태가 같아
+ * 지워도 처리율에 영향이 없다. 정리 후에도 자리가 없으면 새 쿠폰 요청은 잠시 뒤 재시도하도록 거절한다.
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.issue.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+public class LocalCouponIssueRateLimiter implements CouponIssueRateLimiter {
+
+    private static final long FULL_RETRY_AFTER_MILLIS = 1000L;
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final int maxBuckets;
+    private final long idleNanos;
+    private final Map<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public LocalCouponIssueRateLimiter(
+        @Value("${coupon.issue.rate-limit.permits-per-second:1000}") double permitsPerSecond,
+        @Value("${coupon.issue.rate-limit.burst:2000}") double burst,
+        @Value("${coupon.issue.rate-limit.max-buckets:10000}") int maxBuckets
+    ) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxBuckets = maxBuckets;
+        this.idleNanos = (long) Math.ceil(burst / permitsPerSecond * 1_000_000_000L);
+    }
+
+    @Override
+    public long tryAcquire(Long couponId) {
+        TokenBucket bucket = buckets.get(couponId);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evictIdle();
+                if (buckets.size() >= maxBuckets) {
+                    return FULL_RETRY_AFTER_MILLIS;
+                }
+            }
+            bucket = buckets.computeIfAbsent(couponId, id -> new TokenBucket());
+        }
+        return bucket.tryAcquire();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private class TokenBucket {
+
+        private double tokens = burst;
+        private long lastRefillNanos = System.nanoTime();
+
+        synchronized long tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+            lastRefillNanos = now;
+
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            return (long) Math.ceil((1.0 - tokens) / permitsPerSecond * 1000);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now - lastRefillNanos >= idleNanos;
+        }
+    }
+}
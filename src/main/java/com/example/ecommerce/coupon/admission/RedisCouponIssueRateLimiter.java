@@ -0,0 +1,84 @@
+package com.example.ecommerce.coupon.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 공유 토큰 버킷
+ * 모든 노드가 쿠폰별 버킷 하나를 공유하므로 노드 수와 무관하게 전체 허용량이 유지된다.
+ * 요청마다 Redis 왕복이 하나 추가되며, Redis 오류 시에는 요청을 허용한다(발급 스크립트가 최종 판단).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.rate-limit.mode", havingValue = "redis")
+public class RedisCouponIssueRateLimiter implements CouponIssueRateLimiter {
+
+    private static final String BUCKET_KEY_PREFIX = "coupon:ratelimit:";
+
+    /**
+     * 토큰 버킷 스크립트 (Redis 서버 시각 기준)
+     *
+     * KEYS[1] bucket
+     * ARGV[1] permits per second, ARGV[2] burst
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+        """
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or burst
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+            return wait
+            """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double permitsPerSecond;
+    private final double burst;
+
+    public RedisCouponIssueRateLimiter(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${coupon.issue.rate-limit.permits-per-second:1000}") double permitsPerSecond,
+        @Value("${coupon.issue.rate-limit.burst:2000}") double burst
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    @Override
+    public long tryAcquire(Long couponId) {
+        try {
+            Long wait = redisTemplate.execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(BUCKET_KEY_PREFIX + couponId),
+                String.valueOf(permitsPerSecond),
+                String.valueOf(burst)
+            );
+            return wait != null ? wait : 0L;
+
+        } catch (Exception e) {
+            log.error("처리율 제한 확인 실패, 요청 허용 - couponId: {}", couponId, e);
+            return 0L;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.ecommerce.coupon.controller;
 
 import com.example.ecommerce.common.dto.PageResponse;
+import com.example.ecommerce.coupon.admission.CouponIssueAdmission;
 import com.example.ecommerce.coupon.dto.IssueCouponRequest;
 import com.example.ecommerce.coupon.dto.UserCouponResponse;
 import com.example.ecommerce.coupon.facade.CouponIssueFacade;
 import com.example.ecommerce.coupon.service.CouponIssueQueryService;
+import com.example.ecommerce.coupon.service.CouponIssueStatusNotifier;
 import com.example.ecommerce.coupon.service.UserCouponService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -13,9 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Validated
@@ -26,7 +30,9 @@ public class UserCouponController implements UserCouponApi {
 
     private final UserCouponService userCouponService;
     private final CouponIssueFacade couponIssueFacade; // 비동기 발급용
+    private final CouponIssueAdmission couponIssueAdmission; // 비동기 발급 입장 제어
     private final CouponIssueQueryService couponIssueQueryService; // 상태 조회용
+    private final CouponIssueStatusNotifier couponIssueStatusNotifier; // 상태 스트림용
 
     @Override
     public ResponseEntity<UserCouponResponse> issueCoupon(
@@ -63,7 +69,8 @@ public class UserCouponController implements UserCouponApi {
     ) {
         log.info("쿠폰 비동기 발급 요청 - couponId: {}, userId: {}", request.couponId(), request.userId());
 
-        couponIssueFacade.issueRequest(request.couponId(), request.userId());
+        couponIssueAdmission.execute(request.couponId(),
+            () -> couponIssueFacade.issueRequest(request.couponId(), request.userId()));
 
         return ResponseEntity.ok(new AsyncIssueResponse(
             true,
@@ -84,6 +91,20 @@ public class UserCouponController implements UserCouponApi {
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * 발급 상태 스트림 (SSE)
+     * 현재 상태를 즉시 보내고, PENDING이면 ISSUED 또는 FAILED가 기록될 때 최종 상태를 보낸 뒤 연결을 닫는다.
+     */
+    @GetMapping(value = "/issue-status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssueStatus(
+        @RequestParam @Positive Long couponId,
+        @RequestParam @Positive Long userId
+    ) {
+        log.info("쿠폰 발급 상태 구독 - couponId: {}, userId: {}", couponId, userId);
+
+        return couponIssueStatusNotifier.connect(couponId, userId);
+    }
+
     public record AsyncIssueResponse(
         boolean success,
         String message
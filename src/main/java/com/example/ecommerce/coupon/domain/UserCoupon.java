@@ -12,7 +12,11 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "user_coupons")
+@Table(name = "user_coupons", indexes = {
+    @Index(name = "idx_user_coupons_coupon_id", columnList = "coupon_id"),
+    @Index(name = "idx_user_coupons_user_id_status", columnList = "user_id, status"),
+    @Index(name = "idx_user_coupons_status_expires_at", columnList = "status, expires_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -38,13 +38,20 @@ public class DiscountValue {
 
     public Money calculateDiscountAmount(Money orderAmount) {
         if (discountType == DiscountType.FIXED) {
-            return Money.of(discountPrice);
+            return Money.of(calculateDiscountAmount(orderAmount.getAmount(), discountPrice, 0.0));
         } else {
-            long discountAmount = (long) (orderAmount.getAmount() * discountRate / 100.0);
-            return Money.of(discountAmount);
+            return Money.of(calculateDiscountAmount(orderAmount.getAmount(), 0L, discountRate));
         }
     }
 
+    /**
+     * 원시 타입 할인 계산 (정액은 discountRate = 0, 정률은 discountPrice = 0 으로 전달)
+     * 여러 쿠폰을 한 번에 계산할 때 객체 생성 없이 같은 규칙을 적용하기 위해 사용한다.
+     */
+    public static long calculateDiscountAmount(long orderAmount, long discountPrice, double discountRate) {
+        return discountPrice + (long) (orderAmount * discountRate / 100.0);
+    }
+
     public boolean isFixed() {
         return discountType == DiscountType.FIXED;
     }
@@ -0,0 +1,33 @@
+package com.example.ecommerce.coupon.dto;
+
+import com.example.ecommerce.common.exception.ErrorCode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 벌크 발급 결과
+ *
+ * @param couponId       쿠폰 ID
+ * @param issuedUserIds  발급 성공한 사용자 ID 목록
+ * @param failures       발급 실패한 사용자 ID → 실패 사유
+ */
+public record BulkIssueResult(
+    Long couponId,
+    List<Long> issuedUserIds,
+    Map<Long, ErrorCode> failures
+) {
+    public static BulkIssueResult allFailed(Long couponId, List<Long> userIds, ErrorCode reason) {
+        Map<Long, ErrorCode> failed = new LinkedHashMap<>();
+        userIds.forEach(userId -> failed.put(userId, reason));
+        return new BulkIssueResult(couponId, List.of(), failed);
+    }
+
+    public int issuedCount() {
+        return issuedUserIds.size();
+    }
+
+    public int failedCount() {
+        return failures.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.ecommerce.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 쿠폰 추천 응답")
+public record CouponRecommendationResponse(
+    @Schema(description = "사용자 쿠폰 ID") Long userCouponId,
+    @Schema(description = "쿠폰 ID") Long couponId,
+    @Schema(description = "쿠폰 이름") String couponName,
+    @Schema(description = "할인 금액") Long discountAmount,
+    @Schema(description = "할인 적용 후 결제 금액") Long finalAmount,
+    @Schema(description = "유효 기간 종료") LocalDateTime validUntil
+) {
+}
@@ -0,0 +1,34 @@
+package com.example.ecommerce.coupon.event;
+
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.service.CouponMetadataCache;
+import com.example.ecommerce.coupon.service.CouponPrewarmService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponEventListener {
+
+    private final CouponMetadataCache metadataCache;
+    private final CouponPrewarmService prewarmService;
+
+    /**
+     * 커밋 이후에 처리해야 다른 요청이 커밋 전 상태를 다시 캐시에 올리지 않는다.
+     * 활성화된 쿠폰은 무효화 대신 새 메타데이터로 덮어쓰며 발급 준비까지 마친다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCouponStatusChanged(CouponStatusChangedEvent event) {
+        log.info("쿠폰 상태 변경 이벤트 수신 - couponId: {}, status: {}", event.couponId(), event.status());
+
+        if (event.status() == CouponStatus.ACTIVE) {
+            prewarmService.prewarm(event.couponId());
+            return;
+        }
+        metadataCache.evict(event.couponId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.ecommerce.coupon.event;
+
+import com.example.ecommerce.common.event.DomainEvent;
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 쿠폰 상태 변경 이벤트
+ * 쿠폰이 활성화, 비활성화, 삭제되었을 때 발행
+ */
+public record CouponStatusChangedEvent(
+    String eventId,
+    String eventType,
+    LocalDateTime occurredAt,
+    String aggregateType,
+    Long aggregateId,
+    Long couponId,
+    CouponStatus status
+) implements DomainEvent {
+
+    public static CouponStatusChangedEvent of(Long couponId, CouponStatus status) {
+        return new CouponStatusChangedEvent(
+            UUID.randomUUID().toString(),
+            "CouponStatusChanged",
+            LocalDateTime.now(),
+            "Coupon",
+            couponId,
+            couponId,
+            status
+        );
+    }
+
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+}
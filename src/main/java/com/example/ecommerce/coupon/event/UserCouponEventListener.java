@@ -3,6 +3,7 @@ package com.example.ecommerce.coupon.event;
 import com.example.ecommerce.coupon.domain.UserCoupon;
 import com.example.ecommerce.coupon.repository.UserCouponRepository;
 import com.example.ecommerce.coupon.service.UserCouponService;
+import com.example.ecommerce.coupon.service.UserCouponWalletCache;
 import com.example.ecommerce.order.domain.Order;
 import com.example.ecommerce.order.repository.OrderRepository;
 import com.example.ecommerce.payment.event.PaymentCompletedEvent;
@@ -24,6 +25,7 @@ public class UserCouponEventListener {
     private final UserCouponService userCouponService;
     private final UserCouponRepository userCouponRepository;
     private final OrderRepository orderRepository;
+    private final UserCouponWalletCache walletCache;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -63,6 +65,7 @@ public class UserCouponEventListener {
                 UserCoupon userCoupon = userCouponRepository.findByIdOrElseThrow(order.getUserCouponId());
                 userCoupon.cancelReservation();
                 userCouponRepository.save(userCoupon);
+                walletCache.evict(userCoupon.getUserId());
 
                 log.info("쿠폰 예약 해제 완료 - orderId: {}, userCouponId: {}",
                     event.orderId(), order.getUserCouponId());
@@ -2,9 +2,11 @@ package com.example.ecommerce.coupon.facade;
 
 import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
-import com.example.ecommerce.coupon.domain.Coupon;
-import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.service.CouponMetadataCache;
+import com.example.ecommerce.coupon.service.CouponMetadataCache.CouponIssueMetadata;
 import com.example.ecommerce.coupon.service.CouponRedisService;
+import com.example.ecommerce.coupon.service.CouponRedisService.IssueResult;
+import com.example.ecommerce.coupon.service.CouponSoldOutRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,52 +17,46 @@ import org.springframework.stereotype.Component;
 public class CouponIssueFacade {
 
     private final CouponRedisService redisService;
-    private final CouponRepository couponRepository;
+    private final CouponMetadataCache metadataCache;
+    private final CouponSoldOutRegistry soldOutRegistry;
 
     public void issueRequest(Long couponId, Long userId) {
-        // 1. 쿠폰 유효성 검증
-        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+        // 0. 노드 로컬 매진 확인 (DB 조회, Redis 왕복 없이 즉시 거절)
+        if (soldOutRegistry.isSoldOut(couponId)) {
+            throw new CustomException(ErrorCode.COUPON_NOT_AVAILABLE, "선착순 마감되었습니다.");
+        }
+
+        // 1. 쿠폰 유효성 검증 (로컬 캐시, 남은 수량은 Redis 카운터가 판단)
+        CouponIssueMetadata coupon = metadataCache.get(couponId);
 
         if (!coupon.canIssue()) {
             log.warn("발급 불가능한 쿠폰 - couponId: {}, userId: {}", couponId, userId);
             throw new CustomException(ErrorCode.COUPON_NOT_AVAILABLE);
         }
 
-        int totalQuantity = coupon.getQuantity().getTotalQuantity();
-
-        // 2. 수량 예약 (INCR)
-        boolean quantityReserved = redisService.reserveQuantity(couponId, totalQuantity);
-
-        if (!quantityReserved) {
-            log.warn("수량 초과로 발급 실패 - couponId: {}, userId: {}", couponId, userId);
-            throw new CustomException(ErrorCode.COUPON_NOT_AVAILABLE, "선착순 마감되었습니다.");
-        }
+        int totalQuantity = coupon.totalQuantity();
 
-        // 3. 중복 체크 (SADD)
-        boolean isNew = redisService.checkDuplicate(couponId, userId);
+        // 2. 수량 예약 + 중복 체크 + 대기열 추가 + 상태 저장 (Lua 스크립트, 단일 왕복)
+        // 쿠폰별 순번을 score로 사용하여 FIFO 보장
+        long reopenVersion = soldOutRegistry.reopenVersion(couponId);
+        IssueResult result = redisService.issueRequest(couponId, userId, totalQuantity);
 
-        if (!isNew) {
-            // 중복 발급 시도 시 수량 롤백 (DECR)
-            redisService.rollbackQuantity(couponId);
+        if (result == IssueResult.DUPLICATE) {
             log.warn("중복 발급 시도 - couponId: {}, userId: {}", couponId, userId);
             throw new CustomException(ErrorCode.COUPON_ALREADY_ISSUED, "이미 발급 요청한 쿠폰입니다.");
         }
 
-        // 4. 대기열 추가 (ZADD) - timestamp를 score로 사용하여 FIFO 보장
-        long timestamp = System.currentTimeMillis();
-        boolean addedToQueue = redisService.addToWaitingQueue(couponId, userId, timestamp);
+        if (result == IssueResult.SOLD_OUT) {
+            soldOutRegistry.markSoldOut(couponId, reopenVersion);
+            log.warn("수량 초과로 발급 실패 - couponId: {}, userId: {}", couponId, userId);
+            throw new CustomException(ErrorCode.COUPON_NOT_AVAILABLE, "선착순 마감되었습니다.");
+        }
 
-        if (!addedToQueue) {
-            // 대기열 추가 실패 시 수량 롤백 (DECR)
-            redisService.rollbackQuantity(couponId);
-            log.error("대기열 추가 실패 - couponId: {}, userId: {}", couponId, userId);
+        if (result != IssueResult.SUCCESS) {
+            log.error("발급 요청 접수 실패 - couponId: {}, userId: {}", couponId, userId);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "발급 요청 처리 중 오류가 발생했습니다.");
         }
 
-        // 5. 상태 저장 (SET with TTL 24시간)
-        redisService.setUserStatus(couponId, userId, "PENDING");
-
-        log.info("쿠폰 발급 요청 접수 완료 - couponId: {}, userId: {}, timestamp: {}",
-            couponId, userId, timestamp);
+        log.info("쿠폰 발급 요청 접수 완료 - couponId: {}, userId: {}", couponId, userId);
     }
 }
@@ -3,9 +3,10 @@ package com.example.ecommerce.coupon.repository;
 import com.example.ecommerce.coupon.domain.Coupon;
 
 import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import javax.swing.ListModel;
+import org.springframework.data.domain.Pageable;
 
 public interface CouponRepository {
 
@@ -17,5 +18,13 @@ public interface CouponRepository {
 
     List<Coupon> findByStatus(CouponStatus status);
 
+    int increaseIssuedQuantity(Long couponId, int count);
+
+    List<Long> findIdsByStatusAfter(CouponStatus status, Long lastId, Pageable pageable);
+
+    List<Long> findIdsByStatusAndValidFromBetween(CouponStatus status, LocalDateTime from, LocalDateTime to);
+
+    int syncIssuedQuantity(Long couponId);
+
     void deleteAllInBatch();
 }
@@ -0,0 +1,13 @@
+package com.example.ecommerce.coupon.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 처리 대상 UserCoupon 키셋 조회 결과 (expires_at, id 커서)
+ */
+public record ExpiredUserCoupon(
+    Long id,
+    Long userId,
+    LocalDateTime expiresAt
+) {
+}
@@ -4,9 +4,14 @@ import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaCouponRepository extends JpaRepository<Coupon, Long>, CouponRepository {
 
@@ -24,4 +29,32 @@ public interface JpaCouponRepository extends JpaRepository<Coupon, Long>, Coupon
 
     @Override
     List<Coupon> findByStatus(CouponStatus status);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.quantity.issuedQuantity = c.quantity.issuedQuantity + :count " +
+        "WHERE c.id = :couponId AND c.quantity.issuedQuantity + :count <= c.quantity.totalQuantity")
+    int increaseIssuedQuantity(@Param("couponId") Long couponId, @Param("count") int count);
+
+    @Override
+    @Query("SELECT c.id FROM Coupon c WHERE c.status = :status AND c.id > :lastId ORDER BY c.id")
+    List<Long> findIdsByStatusAfter(@Param("status") CouponStatus status, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Override
+    @Query("SELECT c.id FROM Coupon c WHERE c.status = :status " +
+        "AND c.validPeriod.validFrom > :from AND c.validPeriod.validFrom <= :to")
+    List<Long> findIdsByStatusAndValidFromBetween(
+        @Param("status") CouponStatus status, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * issued_quantity를 user_coupons 발급 건수에 맞춘다. (값이 다를 때만 갱신)
+     * 조회와 갱신을 한 문장으로 처리하므로 동시에 진행되는 일괄 발급과 경합하지 않는다.
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE coupons c " +
+        "JOIN (SELECT COUNT(*) AS issued FROM user_coupons WHERE coupon_id = :couponId) uc " +
+        "SET c.issued_quantity = uc.issued " +
+        "WHERE c.id = :couponId AND c.issued_quantity <> uc.issued", nativeQuery = true)
+    int syncIssuedQuantity(@Param("couponId") Long couponId);
 }
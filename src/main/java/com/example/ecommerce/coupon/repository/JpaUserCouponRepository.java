@@ -3,9 +3,16 @@ package com.example.ecommerce.coupon.repository;
 import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.UserCoupon;
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaUserCouponRepository extends JpaRepository<UserCoupon, Long>, UserCouponRepository {
 
@@ -26,4 +33,44 @@ public interface JpaUserCouponRepository extends JpaRepository<UserCoupon, Long>
 
     @Override
     List<UserCoupon> findByUserId(Long userId);
+
+    @Override
+    @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon " +
+        "WHERE uc.userId = :userId AND uc.status IN :statuses")
+    List<UserCoupon> findByUserIdAndStatusInWithCoupon(@Param("userId") Long userId,
+                                                       @Param("statuses") Collection<UserCouponStatus> statuses);
+
+    /**
+     * (expires_at, id) 키셋 페이지네이션으로 만료 대상 조회
+     * idx_user_coupons_status_expires_at 인덱스 범위 스캔으로 처리된다.
+     */
+    @Override
+    @Query("SELECT new com.example.ecommerce.coupon.repository.ExpiredUserCoupon(uc.id, uc.userId, uc.expiresAt) " +
+        "FROM UserCoupon uc " +
+        "WHERE uc.status = :status AND uc.expiresAt < :now " +
+        "AND (uc.expiresAt > :lastExpiresAt OR (uc.expiresAt = :lastExpiresAt AND uc.id > :lastId)) " +
+        "ORDER BY uc.expiresAt, uc.id")
+    List<ExpiredUserCoupon> findExpiredAfter(@Param("status") UserCouponStatus status,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("lastExpiresAt") LocalDateTime lastExpiresAt,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
+
+    /**
+     * 조회 이후 예약/사용된 쿠폰은 status 조건으로 제외되고, 낙관적 락 버전을 함께 올린다.
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserCoupon uc SET uc.status = com.example.ecommerce.coupon.domain.status.UserCouponStatus.EXPIRED, " +
+        "uc.version = uc.version + 1, uc.updatedAt = :now " +
+        "WHERE uc.id IN :ids AND uc.status = com.example.ecommerce.coupon.domain.status.UserCouponStatus.UNUSED " +
+        "AND uc.expiresAt < :now")
+    int expireAll(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Override
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponId") Long couponId, @Param("userIds") List<Long> userIds);
+
+    @Override
+    long countByCouponId(Long couponId);
 }
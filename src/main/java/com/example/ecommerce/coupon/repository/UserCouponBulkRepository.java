@@ -0,0 +1,58 @@
+package com.example.ecommerce.coupon.repository;
+
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserCoupon 벌크 발급 전용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate 배치 INSERT가 동작하지 않으므로 multi-row INSERT를 직접 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponBulkRepository {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO user_coupons (user_id, coupon_id, status, expires_at, version, created_at, updated_at) VALUES ";
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * UNUSED 상태의 UserCoupon을 단일 multi-row INSERT로 저장
+     *
+     * @param couponId  쿠폰 ID
+     * @param userIds   사용자 ID 목록
+     * @param expiresAt 만료 일시
+     * @return 저장된 row 수
+     */
+    public int insertAll(Long couponId, List<Long> userIds, LocalDateTime expiresAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expires = Timestamp.valueOf(expiresAt);
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        sql.append(String.join(", ", Collections.nCopies(userIds.size(), INSERT_VALUES)));
+
+        List<Object> params = new ArrayList<>(userIds.size() * 6);
+        for (Long userId : userIds) {
+            params.add(userId);
+            params.add(couponId);
+            params.add(UserCouponStatus.UNUSED.name());
+            params.add(expires);
+            params.add(now);
+            params.add(now);
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
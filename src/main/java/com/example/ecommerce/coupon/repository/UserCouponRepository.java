@@ -1,7 +1,11 @@
 package com.example.ecommerce.coupon.repository;
 
 import com.example.ecommerce.coupon.domain.UserCoupon;
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,17 @@ public interface UserCouponRepository {
 
     List<UserCoupon> findByUserId(Long userId);
 
+    List<UserCoupon> findByUserIdAndStatusInWithCoupon(Long userId, Collection<UserCouponStatus> statuses);
+
+    List<ExpiredUserCoupon> findExpiredAfter(UserCouponStatus status, LocalDateTime now,
+                                             LocalDateTime lastExpiresAt, Long lastId, Pageable pageable);
+
+    int expireAll(List<Long> ids, LocalDateTime now);
+
+    List<Long> findIssuedUserIds(Long couponId, List<Long> userIds);
+
+    long countByCouponId(Long couponId);
+
     UserCoupon save(UserCoupon userCoupon);
 
     void deleteAllInBatch();
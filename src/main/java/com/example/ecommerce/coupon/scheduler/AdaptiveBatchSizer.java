@@ -0,0 +1,54 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 적응형 배치 크기
+ * 배치 처리 시간이 목표보다 짧으면 배치를 2배로 키우고, 길면 절반으로 줄인다.
+ */
+@Component
+public class AdaptiveBatchSizer {
+
+    static final int MIN_BATCH_SIZE = 10;
+    static final int INITIAL_BATCH_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final long TARGET_BATCH_MILLIS = 200L;
+
+    private final Map<Long, Integer> batchSizes = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 배치 크기
+     *
+     * @param couponId  쿠폰 ID
+     * @param queueSize 현재 대기열 크기
+     * @return 배치 크기 (대기열 크기를 넘지 않음)
+     */
+    public int next(Long couponId, long queueSize) {
+        int current = batchSizes.getOrDefault(couponId, INITIAL_BATCH_SIZE);
+        return (int) Math.min(current, queueSize);
+    }
+
+    /**
+     * 배치 처리 결과 반영
+     *
+     * @param couponId      쿠폰 ID
+     * @param batchSize     처리한 배치 크기
+     * @param elapsedMillis 처리 시간
+     */
+    public void record(Long couponId, int batchSize, long elapsedMillis) {
+        batchSizes.compute(couponId, (id, current) -> {
+            int size = current != null ? current : INITIAL_BATCH_SIZE;
+
+            if (elapsedMillis > TARGET_BATCH_MILLIS) {
+                return Math.max(MIN_BATCH_SIZE, size / 2);
+            }
+            // 배치를 꽉 채워 처리했고 여유가 있을 때만 증가
+            if (batchSize >= size && elapsedMillis < TARGET_BATCH_MILLIS / 2) {
+                return Math.min(MAX_BATCH_SIZE, size * 2);
+            }
+            return size;
+        });
+    }
+}
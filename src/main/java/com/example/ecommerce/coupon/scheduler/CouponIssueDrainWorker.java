@@ -0,0 +1,132 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 기반 쿠폰 대기열 드레인 워커
+ * 발급 요청 스크립트가 보내는 신호(coupon:issue:signal)를 BLPOP으로 기다렸다가
+ * 작업이 생긴 쿠폰의 대기열만 즉시 처리한다.
+ *
+ * - 노드 내: 쿠폰별 드레인을 제한된 워커 풀에서 병렬 처리 (핫 쿠폰이 다른 쿠폰을 막지 않음)
+ * - 노드 간: 신호는 BLPOP으로 한 노드에만 전달되고, 쿠폰별 리스로 중복 처리를 막는다.
+ *   여유 워커가 있을 때만 신호를 가져가므로 바쁜 노드의 몫은 다른 노드가 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.event-drain.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponIssueDrainWorker {
+
+    private static final Duration SIGNAL_WAIT_TIMEOUT = Duration.ofSeconds(1);
+    private static final long ERROR_BACKOFF_MILLIS = 1000L;
+
+    private final CouponRedisService redisService;
+    private final CouponQueueProcessor queueProcessor;
+    private final Semaphore workerPermits;
+    private final ExecutorService signalExecutor;
+    private final ExecutorService drainExecutor;
+
+    private volatile boolean running;
+
+    public CouponIssueDrainWorker(
+        CouponRedisService redisService,
+        CouponQueueProcessor queueProcessor,
+        @Value("${coupon.issue.drain.workers:4}") int drainWorkers
+    ) {
+        this.redisService = redisService;
+        this.queueProcessor = queueProcessor;
+        this.workerPermits = new Semaphore(drainWorkers);
+        this.signalExecutor = Executors.newSingleThreadExecutor(namedThreadFactory("coupon-drain-signal-"));
+        this.drainExecutor = Executors.newFixedThreadPool(drainWorkers, namedThreadFactory("coupon-drain-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        signalExecutor.submit(this::runLoop);
+        log.info("쿠폰 대기열 드레인 워커 시작 - workers: {}", workerPermits.availablePermits());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        signalExecutor.shutdownNow();
+        drainExecutor.shutdown();
+        drainExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        log.info("쿠폰 대기열 드레인 워커 종료");
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                // 여유 워커가 있을 때만 신호를 가져간다
+                workerPermits.acquire();
+
+                Long couponId = redisService.waitForIssueSignal(SIGNAL_WAIT_TIMEOUT);
+                if (couponId == null) {
+                    workerPermits.release();
+                    continue;
+                }
+
+                drainExecutor.execute(() -> drain(couponId));
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+
+            } catch (Exception e) {
+                workerPermits.release();
+                if (!running) {
+                    break;
+                }
+                log.error("쿠폰 발급 신호 대기 중 오류", e);
+                sleepQuietly(ERROR_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void drain(Long couponId) {
+        try {
+            int processed = queueProcessor.drain(couponId);
+            log.debug("쿠폰 대기열 드레인 완료 - couponId: {}, processed: {}", couponId, processed);
+
+        } catch (Exception e) {
+            log.error("쿠폰 대기열 드레인 중 오류 - couponId: {}", couponId, e);
+
+        } finally {
+            workerPermits.release();
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
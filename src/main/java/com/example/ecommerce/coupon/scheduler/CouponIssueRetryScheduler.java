@@ -0,0 +1,59 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import com.example.ecommerce.coupon.service.CouponRedisService.IssueRetry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 재시도 스케줄러
+ * 재시도 시각이 지난 항목을 최대 RETRY_BATCH_SIZE 건씩 선점해 쿠폰별 배치로 다시 발급한다.
+ * 선점한 항목은 처리를 마친 뒤에만 완료 처리하고, 처리 기한을 넘긴 선점 항목은 매 실행마다 재시도 큐로 되돌린다 (at-least-once).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueRetryScheduler {
+
+    private static final int RETRY_BATCH_SIZE = 500;
+    private static final long RETRY_VISIBILITY_MILLIS = 60_000L;
+
+    private final CouponRedisService redisService;
+    private final CouponQueueProcessor queueProcessor;
+
+    @Scheduled(fixedDelay = 1000) // 1초마다 실행
+    public void retryFailedIssues() {
+        long now = System.currentTimeMillis();
+        long recovered = redisService.recoverExpiredRetries(now);
+        if (recovered > 0) {
+            log.warn("처리 기한이 지난 재시도 항목 복구 - count: {}", recovered);
+        }
+
+        List<IssueRetry> dueRetries = redisService.claimDueRetries(now, RETRY_BATCH_SIZE, RETRY_VISIBILITY_MILLIS);
+
+        if (dueRetries.isEmpty()) {
+            return;
+        }
+
+        log.info("쿠폰 발급 재시도 시작 - size: {}", dueRetries.size());
+
+        Map<Long, List<IssueRetry>> byCoupon = dueRetries.stream()
+            .collect(Collectors.groupingBy(IssueRetry::couponId));
+
+        byCoupon.forEach((couponId, retries) -> {
+            try {
+                if (queueProcessor.retry(couponId, retries)) {
+                    redisService.ackRetries(retries);
+                }
+            } catch (Exception e) {
+                log.error("쿠폰 발급 재시도 처리 중 오류 - couponId: {}", couponId, e);
+            }
+        });
+    }
+}
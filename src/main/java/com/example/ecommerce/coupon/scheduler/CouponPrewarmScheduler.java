@@ -0,0 +1,80 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.service.CouponPrewarmService;
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 시작 사전 준비 스케줄러
+ * 미리 활성화해 둔 쿠폰은 발급 시작 시각(validFrom) 직전에 다시 준비하여
+ * 그 사이 만료된 로컬 캐시와 Redis 키를 시작 시점에 맞춰 채운다.
+ * 여러 노드 중 락을 잡은 한 노드만 실행하고, 조회 위치는 Redis 에 두어 재시작 후에도 빈 구간 없이 이어서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponPrewarmScheduler {
+
+    private static final String PREWARM_LOCK_KEY = "coupon:prewarm:lock";
+    private static final long LOOKAHEAD_SECONDS = 60L;
+
+    private final CouponRepository couponRepository;
+    private final CouponPrewarmService prewarmService;
+    private final CouponRedisService redisService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelay = 30000) // 30초마다 실행
+    public void prewarmUpcomingCoupons() {
+        RLock lock = redissonClient.getLock(PREWARM_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime scanUntil = LocalDateTime.now().plusSeconds(LOOKAHEAD_SECONDS);
+            LocalDateTime scanFrom = lastScannedUntil();
+
+            // 이전 실행에서 본 구간 이후만 조회하므로 쿠폰마다 한 번씩만 준비한다
+            List<Long> couponIds = couponRepository.findIdsByStatusAndValidFromBetween(
+                CouponStatus.ACTIVE, scanFrom, scanUntil);
+
+            for (Long couponId : couponIds) {
+                try {
+                    prewarmService.prewarm(couponId);
+                } catch (Exception e) {
+                    log.error("쿠폰 발급 사전 준비 실패 - couponId: {}", couponId, e);
+                }
+            }
+
+            redisService.setPrewarmScannedUntil(scanUntil.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        } catch (Exception e) {
+            // 조회 위치를 옮기지 않았으므로 다음 실행이 같은 구간부터 다시 조회한다
+            log.error("쿠폰 발급 사전 준비 스케줄 실패", e);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 기록이 없으면(최초 실행) 현재 시각부터 조회
+    private LocalDateTime lastScannedUntil() {
+        Long scannedUntil = redisService.getPrewarmScannedUntil();
+        if (scannedUntil == null) {
+            return LocalDateTime.now();
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(scannedUntil), ZoneId.systemDefault());
+    }
+}
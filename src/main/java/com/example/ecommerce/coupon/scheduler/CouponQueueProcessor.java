@@ -0,0 +1,222 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.coupon.dto.BulkIssueResult;
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import com.example.ecommerce.coupon.service.CouponRedisService.IssueRetry;
+import com.example.ecommerce.coupon.service.UserCouponService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 대기열 처리기
+ * 스케줄러와 이벤트 기반 드레인 워커가 공통으로 사용한다.
+ * 쿠폰별 드레인 리스(Redisson 락, watchdog 자동 연장)를 잡은 노드만 처리하므로
+ * 여러 노드가 같은 쿠폰을 중복 처리하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponQueueProcessor {
+
+    private final CouponRedisService redisService;
+    private final UserCouponService userCouponService;
+    private final AdaptiveBatchSizer batchSizer;
+    private final RedissonClient redissonClient;
+
+    private static final String DRAIN_LEASE_KEY_PREFIX = "coupon:drain:lease:";
+    private static final int MAX_RETRY_ATTEMPTS = 5;
+    private static final long BASE_RETRY_DELAY_MILLIS = 1000L; // 1s, 2s, 4s, 8s, 16s
+
+    /**
+     * 특정 쿠폰의 대기열을 비울 때까지 배치 처리
+     * 리스를 얻지 못하면 다른 노드(또는 스레드)가 처리 중이므로 바로 반환한다.
+     * 리스 보유자는 해제 후 completeDrain에서 남은 요청을 재신호하므로 신호가 유실되지 않는다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 처리한 사용자 수
+     */
+    public int drain(Long couponId) {
+        RLock lease = redissonClient.getLock(DRAIN_LEASE_KEY_PREFIX + couponId);
+
+        if (!lease.tryLock()) {
+            log.debug("다른 워커가 처리 중인 쿠폰 - couponId: {}", couponId);
+            return 0;
+        }
+
+        int processed = 0;
+        boolean failed = true;
+
+        try {
+            int popped;
+            do {
+                popped = processBatch(couponId);
+                processed += Math.max(popped, 0);
+            } while (popped > 0);
+            failed = popped < 0;
+
+        } finally {
+            if (lease.isHeldByCurrentThread()) {
+                lease.unlock();
+            }
+            // 리스 보유 중 도착한 신호는 다른 워커가 버렸을 수 있으므로 대기열이 남아 있으면 재신호한다.
+            // 실패로 중단한 경우에는 재신호하지 않음 (장애 중 무한 루프 방지, 스케줄러 스윕이 다시 처리)
+            redisService.completeDrain(couponId, !failed);
+        }
+
+        return processed;
+    }
+
+    /**
+     * 대기열에서 한 배치를 추출해 발급
+     *
+     * @param couponId 쿠폰 ID
+     * @return 추출한 사용자 수 (대기열이 비었으면 0, 처리에 실패하면 -1)
+     */
+    public int processBatch(Long couponId) {
+        // 1. 대기열 크기 확인
+        long queueSize = redisService.getWaitingQueueSize(couponId);
+        if (queueSize == 0) {
+            log.debug("대기열 없음 - couponId: {}", couponId);
+            return 0;
+        }
+
+        // 2. 배치 크기 결정 (적응형)
+        // 대기열에는 Redis 카운터로 이미 수량이 확보된 사용자만 들어오므로 남은 수량은 DB 발급 시 검증한다.
+        int batchSize = batchSizer.next(couponId, queueSize);
+
+        long start = System.currentTimeMillis();
+
+        // 3. 대기열에서 배치 추출 (ZPOPMIN)
+        List<Long> userIds = redisService.popFromWaitingQueue(couponId, batchSize);
+
+        if (userIds.isEmpty()) {
+            log.warn("대기열 추출 실패 - couponId: {}", couponId);
+            return -1;
+        }
+
+        log.info("쿠폰 발급 배치 시작 - couponId: {}, batchSize: {}, queueSize: {}",
+            couponId, userIds.size(), queueSize);
+
+        try {
+            // 4. DB 벌크 발급 (중복 조회 1회 + 수량 UPDATE 1회 + multi-row INSERT 1회)
+            BulkIssueResult result = userCouponService.issueCouponsBulk(couponId, userIds);
+
+            // 5. Redis 상태 업데이트
+            applyResult(couponId, result);
+
+        } catch (Exception e) {
+            // 일시 장애: 추출한 사용자는 재시도 큐로 보내고 PENDING 상태를 유지
+            log.error("쿠폰 발급 처리 실패, 재시도 예약 - couponId: {}, size: {}", couponId, userIds.size(), e);
+            if (!redisService.scheduleRetry(couponId, userIds, 1, nextRetryAt(1))) {
+                // 대기열에서 이미 꺼냈으므로 재시도 큐에도 못 넣으면 PENDING 으로 수량만 점유하게 된다
+                log.error("쿠폰 발급 재시도 예약 실패, 실패 처리 - couponId: {}, size: {}", couponId, userIds.size());
+                failAndDeadLetter(couponId, userIds, "RETRY_SCHEDULE_FAILED");
+            }
+            // 장애 중에는 대기열을 더 비우지 않도록 드레인을 중단
+            return -1;
+        }
+
+        batchSizer.record(couponId, userIds.size(), System.currentTimeMillis() - start);
+        return userIds.size();
+    }
+
+    /**
+     * 재시도 큐에서 꺼낸 사용자를 배치로 다시 발급
+     * 다시 실패하면 지수 백오프로 재예약하고, 최대 횟수를 넘기면 실패 확정 + Dead Letter로 보낸다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param retries  재시도 항목 목록 (같은 쿠폰)
+     * @return 처리 완료 여부 (재예약에 실패하면 false, 호출 측은 완료 처리하지 않아 기한 후 다시 시도된다)
+     */
+    public boolean retry(Long couponId, List<IssueRetry> retries) {
+        List<Long> userIds = retries.stream()
+            .map(IssueRetry::userId)
+            .collect(Collectors.toList());
+
+        try {
+            BulkIssueResult result = userCouponService.issueCouponsBulk(couponId, userIds);
+            applyResult(couponId, result);
+
+            log.info("쿠폰 발급 재시도 완료 - couponId: {}, issued: {}, failed: {}",
+                couponId, result.issuedCount(), result.failedCount());
+            return true;
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 재시도 실패 - couponId: {}, size: {}", couponId, userIds.size(), e);
+
+            Map<Integer, List<Long>> byNextAttempt = retries.stream()
+                .collect(Collectors.groupingBy(
+                    retry -> retry.attempt() + 1,
+                    Collectors.mapping(IssueRetry::userId, Collectors.toList())
+                ));
+
+            boolean rescheduled = true;
+            for (Map.Entry<Integer, List<Long>> entry : byNextAttempt.entrySet()) {
+                int attempt = entry.getKey();
+                if (attempt > MAX_RETRY_ATTEMPTS) {
+                    failAndDeadLetter(couponId, entry.getValue(), "RETRY_EXHAUSTED");
+                } else {
+                    rescheduled &= redisService.scheduleRetry(couponId, entry.getValue(), attempt, nextRetryAt(attempt));
+                }
+            }
+            return rescheduled;
+        }
+    }
+
+    /**
+     * 벌크 발급 결과를 Redis에 반영
+     * - 발급 성공, DB에 이미 발급된 사용자: ISSUED
+     *   (상태 저장/알림이 실패한 청크는 한 번 더 시도하고, 그래도 실패하면 재시도 큐로 보낸다.
+     *    재발급 시 COUPON_ALREADY_ISSUED 로 판정되어 ISSUED 가 다시 반영된다)
+     * - 그 외 실패 (마감, 만료 등): FAILED + 카운터 롤백 + Dead Letter
+     */
+    private void applyResult(Long couponId, BulkIssueResult result) {
+        List<Long> issued = new ArrayList<>(result.issuedUserIds());
+        Map<Long, String> failed = new LinkedHashMap<>();
+
+        result.failures().forEach((userId, errorCode) -> {
+            if (errorCode == ErrorCode.COUPON_ALREADY_ISSUED) {
+                issued.add(userId);
+            } else {
+                failed.put(userId, errorCode.name());
+            }
+        });
+
+        List<Long> unpublished = redisService.setUserStatusBatch(couponId, issued, "ISSUED");
+        if (!unpublished.isEmpty()) {
+            unpublished = redisService.setUserStatusBatch(couponId, unpublished, "ISSUED");
+        }
+        if (!unpublished.isEmpty()) {
+            log.error("발급 상태 반영 실패, 재시도 예약 - couponId: {}, size: {}", couponId, unpublished.size());
+            redisService.scheduleRetry(couponId, unpublished, 1, nextRetryAt(1));
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("쿠폰 발급 실패 사용자 - couponId: {}, failures: {}", couponId, failed);
+            redisService.failIssue(couponId, new ArrayList<>(failed.keySet()));
+            redisService.recordDeadLetters(couponId, failed);
+        }
+    }
+
+    private void failAndDeadLetter(Long couponId, List<Long> userIds, String reason) {
+        redisService.failIssue(couponId, userIds);
+
+        Map<Long, String> reasons = new LinkedHashMap<>();
+        userIds.forEach(userId -> reasons.put(userId, reason));
+        redisService.recordDeadLetters(couponId, reasons);
+    }
+
+    private long nextRetryAt(int attempt) {
+        return System.currentTimeMillis() + (BASE_RETRY_DELAY_MILLIS << (attempt - 1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.service.CouponReconciliationService;
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 수량 보정 스케줄러
+ * 한 번에 전체 쿠폰을 보지 않고, 대기열이 남은 쿠폰과 활성 쿠폰 BATCH_SIZE개씩만 ID 커서로 순회한다.
+ * 커서는 Redis 에 두어 재시작하거나 락을 넘겨받은 노드도 이어서 순회한다.
+ * 여러 노드 중 락을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponReconciliationScheduler {
+
+    private static final String RECONCILE_LOCK_KEY = "coupon:reconcile:lock";
+    private static final int BATCH_SIZE = 100;
+
+    private final CouponRepository couponRepository;
+    private final CouponRedisService redisService;
+    private final CouponReconciliationService reconciliationService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            long cursor = redisService.getReconcileCursor();
+            List<Long> activeCouponIds = couponRepository.findIdsByStatusAfter(
+                CouponStatus.ACTIVE, cursor, PageRequest.of(0, BATCH_SIZE));
+
+            Set<Long> couponIds = new LinkedHashSet<>(redisService.getPendingCouponIds());
+            couponIds.addAll(activeCouponIds);
+
+            int repaired = 0;
+            for (Long couponId : couponIds) {
+                try {
+                    CouponReconciliationService.ReconcileResult result = reconciliationService.reconcile(couponId);
+                    if (result.dbRepaired() || result.redisRepaired()) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.error("쿠폰 발급 수량 보정 실패 - couponId: {}", couponId, e);
+                }
+            }
+
+            // 활성 쿠폰을 ID 순으로 BATCH_SIZE개씩, 끝에 도달하면 처음부터 다시
+            long nextCursor = activeCouponIds.size() < BATCH_SIZE
+                ? 0L : activeCouponIds.get(activeCouponIds.size() - 1);
+            redisService.setReconcileCursor(nextCursor);
+
+            log.debug("쿠폰 발급 수량 보정 완료 - checked: {}, repaired: {}, cursor: {}",
+                couponIds.size(), repaired, nextCursor);
+
+        } catch (Exception e) {
+            // 커서를 옮기지 못했으면 다음 실행이 같은 구간부터 다시 확인한다
+            log.error("쿠폰 발급 수량 보정 스케줄 실패", e);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+}
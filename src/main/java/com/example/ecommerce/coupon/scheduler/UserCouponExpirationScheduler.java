@@ -0,0 +1,73 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import com.example.ecommerce.coupon.service.UserCouponExpirationService;
+import com.example.ecommerce.coupon.service.UserCouponExpirationService.ExpireChunkResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 쿠폰 만료 스케줄러
+ * (expires_at, id) 키셋으로 청크 단위 순회하며 UNUSED → EXPIRED 로 전환한다.
+ * 실행마다 기준 시각을 고정하고 커서를 처음부터 시작한다. 이미 전환된 행은 status 조건으로 빠지므로
+ * 매 실행은 아직 남은 만료 대상만 훑는다. 여러 노드 중 락을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCouponExpirationScheduler {
+
+    private static final String EXPIRE_LOCK_KEY = "coupon:expire:lock";
+
+    private final UserCouponExpirationService expirationService;
+    private final RedissonClient redissonClient;
+
+    @Value("${coupon.expire.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${coupon.expire.max-chunks-per-run:100}")
+    private int maxChunksPerRun = 100;
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void expire() {
+        RLock lock = redissonClient.getLock(EXPIRE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lastExpiresAt = UserCouponExpirationService.INITIAL_EXPIRES_AT;
+            Long lastId = UserCouponExpirationService.INITIAL_ID;
+
+            int scanned = 0;
+            int expired = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                ExpireChunkResult result = expirationService.expireChunk(now, lastExpiresAt, lastId, chunkSize);
+                scanned += result.scanned();
+                expired += result.expired();
+
+                if (result.scanned() < chunkSize) {
+                    break;
+                }
+                lastExpiresAt = result.lastExpiresAt();
+                lastId = result.lastId();
+            }
+
+            if (expired > 0) {
+                log.info("사용자 쿠폰 만료 처리 완료 - scanned: {}, expired: {}", scanned, expired);
+            }
+
+        } catch (Exception e) {
+            log.error("사용자 쿠폰 만료 처리 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
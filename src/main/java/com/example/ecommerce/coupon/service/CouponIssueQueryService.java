@@ -22,7 +22,7 @@ public class CouponIssueQueryService {
 
     /**
      * 쿠폰 발급 상태 조회
-     * 1. Redis에서 상태 조회 (빠른 응답)
+     * 1. Redis에서 상태와 대기 순번 조회 (MGET 단일 왕복, 순번 기반 O(1) 계산)
      * 2. Redis에 없으면 DB에서 조회
      *
      * @param couponId 쿠폰 ID
@@ -32,18 +32,16 @@ public class CouponIssueQueryService {
     @Transactional(readOnly = true)
     public CouponIssueStatusResponse getIssueStatus(Long couponId, Long userId) {
         // 1. Redis 상태 조회
-        String redisStatus = redisService.getUserStatus(couponId, userId);
+        CouponRedisService.IssueStatusSnapshot snapshot = redisService.getIssueStatusSnapshot(couponId, userId);
+        String redisStatus = snapshot != null ? snapshot.status() : null;
 
         if (redisStatus != null) {
             // PENDING 상태인 경우 대기 순번 포함
             if ("PENDING".equals(redisStatus)) {
-                Long waitingRank = redisService.getWaitingRank(couponId, userId);
-                long queueSize = redisService.getWaitingQueueSize(couponId);
-
                 return CouponIssueStatusResponse.builder()
                     .status(redisStatus)
-                    .waitingRank(waitingRank)
-                    .queueSize(queueSize)
+                    .waitingRank(snapshot.waitingRank())
+                    .queueSize(snapshot.queueSize())
                     .message("발급 대기 중입니다.")
                     .build();
             }
@@ -73,6 +71,20 @@ public class CouponIssueQueryService {
             .build();
     }
 
+    /**
+     * 최종 상태(ISSUED, FAILED) 응답 생성
+     * 상태 변경 알림을 받은 시점에 추가 조회 없이 응답을 만들 때 사용한다.
+     *
+     * @param status 상태
+     * @return 발급 상태 응답 DTO
+     */
+    public CouponIssueStatusResponse toFinalStatus(String status) {
+        return CouponIssueStatusResponse.builder()
+            .status(status)
+            .message(getMessageForStatus(status))
+            .build();
+    }
+
     /**
      * 상태에 따른 메시지 반환
      *
@@ -0,0 +1,138 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.service.CouponIssueQueryService.CouponIssueStatusResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 발급 상태 스트림 (Server-Sent Events)
+ *
+ * 클라이언트가 issue-status를 반복 조회하는 대신 연결을 하나 열어두고,
+ * 발급 처리기가 ISSUED 또는 FAILED를 기록할 때 PUBLISH 하는 상태 변경 메시지를 받아 응답을 완료한다.
+ * SseEmitter는 서블릿 비동기 요청으로 처리되므로 대기 중인 연결이 요청 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStatusNotifier implements MessageListener {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 60_000L;
+    private static final String EVENT_NAME = "issue-status";
+
+    private final CouponIssueQueryService queryService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // couponId -> userId -> 구독 중인 연결
+    private final Map<Long, Map<Long, Set<SseEmitter>>> subscribers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CouponRedisService.ISSUE_STATUS_CHANNEL));
+    }
+
+    /**
+     * 발급 상태 구독
+     * 먼저 구독을 등록한 뒤 현재 상태를 조회하므로, 그 사이에 최종 상태가 기록되어도 알림을 놓치지 않는다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId   사용자 ID
+     * @return SSE 연결
+     */
+    public SseEmitter connect(Long couponId, Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        register(couponId, userId, emitter);
+
+        emitter.onCompletion(() -> unregister(couponId, userId, emitter));
+        emitter.onTimeout(() -> {
+            unregister(couponId, userId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> unregister(couponId, userId, emitter));
+
+        CouponIssueStatusResponse current = queryService.getIssueStatus(couponId, userId);
+        send(emitter, current);
+
+        if (!"PENDING".equals(current.getStatus())) {
+            unregister(couponId, userId, emitter);
+            emitter.complete();
+        }
+
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+
+        if (parts.length < 3 || parts[2].isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Set<SseEmitter>> couponSubscribers = subscribers.get(Long.valueOf(parts[0]));
+            if (couponSubscribers == null) {
+                return;
+            }
+
+            CouponIssueStatusResponse response = queryService.toFinalStatus(parts[1]);
+            for (String userId : parts[2].split(",")) {
+                Set<SseEmitter> emitters = couponSubscribers.remove(Long.valueOf(userId));
+                if (emitters == null) {
+                    continue;
+                }
+
+                for (SseEmitter emitter : emitters) {
+                    send(emitter, response);
+                    emitter.complete();
+                }
+            }
+
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 발급 상태 메시지 - body: {}", body);
+        }
+    }
+
+    int getSubscriberCount(Long couponId) {
+        Map<Long, Set<SseEmitter>> couponSubscribers = subscribers.get(couponId);
+        return couponSubscribers == null ? 0 : couponSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void register(Long couponId, Long userId, SseEmitter emitter) {
+        subscribers.computeIfAbsent(couponId, id -> new ConcurrentHashMap<>())
+            .computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet())
+            .add(emitter);
+    }
+
+    private void unregister(Long couponId, Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(couponId, (id, couponSubscribers) -> {
+            couponSubscribers.computeIfPresent(userId, (uid, emitters) -> {
+                emitters.remove(emitter);
+                return emitters.isEmpty() ? null : emitters;
+            });
+            return couponSubscribers.isEmpty() ? null : couponSubscribers;
+        });
+    }
+
+    private void send(SseEmitter emitter, CouponIssueStatusResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("발급 상태 전송 실패 (연결 종료) - status: {}", response.getStatus());
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.domain.Coupon;
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 발급 메타데이터 로컬 캐시 (Near Cache)
+ *
+ * 발급 요청 경로에서 필요한 상태, 유효기간, 총 수량만 JVM 메모리에 보관하여
+ * 요청마다 MySQL에서 Coupon 엔티티를 조회하지 않도록 한다.
+ * 쿠폰 상태가 바뀌면 커밋 이후 무효화 채널로 PUBLISH 하여 모든 노드의 항목을 함께 제거한다.
+ * 활성화나 발급 시작 직전에는 사전 적재 채널로 메타데이터 자체를 PUBLISH 하여 모든 노드가 DB 조회 없이 채운다.
+ * 메시지를 놓친 노드를 위해 항목은 MAX_AGE가 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponMetadataCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "coupon:metadata:evict";
+    public static final String PREWARM_CHANNEL = "coupon:metadata:prewarm";
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final CouponRepository couponRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Long, CouponIssueMetadata> cache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(
+            new ChannelTopic(EVICT_CHANNEL),
+            new ChannelTopic(PREWARM_CHANNEL)
+        ));
+    }
+
+    /**
+     * 발급 메타데이터 조회 (Read-Through)
+     * 쿠폰이 없으면 COUPON_NOT_FOUND 예외가 그대로 전파되고 캐시에 남지 않는다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 발급 메타데이터
+     */
+    public CouponIssueMetadata get(Long couponId) {
+        CouponIssueMetadata cached = cache.get(couponId);
+        if (cached != null && !cached.isStale()) {
+            return cached;
+        }
+
+        CouponIssueMetadata loaded = CouponIssueMetadata.from(couponRepository.findByIdOrElseThrow(couponId));
+        cache.put(couponId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 모든 노드의 캐시 항목 제거
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void evict(Long couponId) {
+        cache.remove(couponId);
+
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            log.error("쿠폰 메타데이터 무효화 메시지 발행 실패 - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * 모든 노드에 발급 메타데이터 사전 적재
+     * DB에서 한 번 읽은 값을 메시지로 전달하므로 노드 수만큼 DB 조회가 늘어나지 않는다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 적재한 메타데이터
+     */
+    public CouponIssueMetadata prewarm(Long couponId) {
+        CouponIssueMetadata loaded = CouponIssueMetadata.from(couponRepository.findByIdOrElseThrow(couponId));
+        cache.put(couponId, loaded);
+
+        try {
+            redisTemplate.convertAndSend(PREWARM_CHANNEL, loaded.encode());
+        } catch (Exception e) {
+            log.error("쿠폰 메타데이터 사전 적재 메시지 발행 실패 - couponId: {}", couponId, e);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            if (PREWARM_CHANNEL.equals(channel)) {
+                CouponIssueMetadata metadata = CouponIssueMetadata.decode(body);
+                cache.put(metadata.couponId(), metadata);
+            } else {
+                cache.remove(Long.valueOf(body));
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 메타데이터 메시지 - channel: {}, body: {}", channel, body);
+        }
+    }
+
+    /**
+     * 발급 판단에 필요한 쿠폰 메타데이터
+     * 발급 수량 자체는 Redis 카운터가 관리하므로 보관하지 않는다.
+     */
+    public record CouponIssueMetadata(
+        Long couponId,
+        CouponStatus status,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil,
+        int totalQuantity,
+        long loadedAt
+    ) {
+
+        static CouponIssueMetadata from(Coupon coupon) {
+            return new CouponIssueMetadata(
+                coupon.getId(),
+                coupon.getStatus(),
+                coupon.getValidPeriod().getValidFrom(),
+                coupon.getValidPeriod().getValidUntil(),
+                coupon.getQuantity().getTotalQuantity(),
+                System.currentTimeMillis()
+            );
+        }
+
+        // 사전 적재 메시지 형식: "couponId|status|validFrom|validUntil|totalQuantity"
+        String encode() {
+            return couponId + "|" + status + "|" + validFrom + "|" + validUntil + "|" + totalQuantity;
+        }
+
+        static CouponIssueMetadata decode(String message) {
+            String[] parts = message.split("\\|");
+            return new CouponIssueMetadata(
+                Long.valueOf(parts[0]),
+                CouponStatus.valueOf(parts[1]),
+                LocalDateTime.parse(parts[2]),
+                LocalDateTime.parse(parts[3]),
+                Integer.parseInt(parts[4]),
+                System.currentTimeMillis()
+            );
+        }
+
+        public boolean canIssue() {
+            LocalDateTime now = LocalDateTime.now();
+            return status == CouponStatus.ACTIVE
+                && !now.isBefore(validFrom)
+                && !now.isAfter(validUntil);
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - loadedAt > MAX_AGE.toMillis();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.service.CouponMetadataCache.CouponIssueMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 발급 사전 준비 서비스
+ * 캠페인 시작 직후 요청이 몰릴 때 Redis 키 생성, 스크립트 로드, DB 조회가 한꺼번에 일어나지 않도록
+ * 활성화 시점 또는 발급 시작 직전에 미리 준비한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponPrewarmService {
+
+    private final CouponRedisService redisService;
+    private final CouponMetadataCache metadataCache;
+    private final CouponSoldOutRegistry soldOutRegistry;
+
+    public void prewarm(Long couponId) {
+        // 1. 모든 노드의 발급 메타데이터 로컬 캐시 적재
+        CouponIssueMetadata metadata = metadataCache.prewarm(couponId);
+
+        // 2. Redis 키 생성 및 발급 스크립트 로드
+        redisService.prewarm(couponId);
+
+        // 3. 이전 캠페인에서 남은 매진 표시 정리 (남은 수량이 있으면 발급 스크립트가 판단)
+        //    이 노드는 바로 정리하고, 다른 노드는 재개 알림을 받아 정리한다
+        soldOutRegistry.reopen(couponId);
+        redisService.publishReopened(couponId);
+
+        log.info("쿠폰 발급 사전 준비 완료 - couponId: {}, validFrom: {}, totalQuantity: {}",
+            couponId, metadata.validFrom(), metadata.totalQuantity());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import com.example.ecommerce.coupon.domain.vo.DiscountValue;
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
+import com.example.ecommerce.coupon.dto.UserCouponResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 주문 금액 기준 최적 쿠폰 추천
+ * 지갑(user:coupons)의 쿠폰을 원시 배열로 펼친 뒤 한 번의 루프로 할인 금액을 계산하고
+ * 상위 N개만 선택한다. 결과는 (사용자, 주문 금액) 단위로 캐싱된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponRecommendationService {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final long NOT_APPLICABLE = -1L;
+
+    private final UserCouponService userCouponService;
+    private final UserCouponWalletCache walletCache;
+
+    /**
+     * @param appliedUserCouponId 주문에 이미 적용된 쿠폰 (재적용 시 예약이 해제되므로 후보에 포함), 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public List<CouponRecommendationResponse> recommend(Long userId, long orderAmount,
+                                                        Long appliedUserCouponId, int limit) {
+        int topN = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String amountKey = orderAmount + ":" + (appliedUserCouponId != null ? appliedUserCouponId : 0L);
+
+        List<CouponRecommendationResponse> ranked = walletCache.getRecommendations(userId, amountKey,
+            () -> rank(userCouponService.getAvailableUserCoupons(userId), orderAmount, appliedUserCouponId, MAX_LIMIT));
+
+        // 캐시 TTL 안에 유효기간이 끝난 쿠폰이 있으면 (지갑도 읽을 때 걸러내므로) 다시 계산해 덮어쓴다
+        LocalDateTime now = LocalDateTime.now();
+        if (ranked.stream().anyMatch(recommendation -> now.isAfter(recommendation.validUntil()))) {
+            ranked = rank(userCouponService.getAvailableUserCoupons(userId), orderAmount, appliedUserCouponId, MAX_LIMIT);
+            walletCache.putRecommendations(userId, amountKey, ranked);
+        }
+
+        return ranked.size() > topN ? ranked.subList(0, topN) : ranked;
+    }
+
+    /**
+     * 할인 금액 내림차순, 동일하면 유효기간이 먼저 끝나는 쿠폰 우선
+     * 최소 주문 금액 미달이거나 할인 금액이 주문 금액을 넘는 쿠폰(적용 시 실패)은 제외한다.
+     */
+    static List<CouponRecommendationResponse> rank(List<UserCouponResponse> wallet, long orderAmount,
+                                                   Long appliedUserCouponId, int topN) {
+        int n = wallet.size();
+        long[] discountPrices = new long[n];
+        double[] discountRates = new double[n];
+        long[] minOrderAmounts = new long[n];
+        boolean[] reservable = new boolean[n];
+
+        for (int i = 0; i < n; i++) {
+            UserCouponResponse coupon = wallet.get(i);
+            discountPrices[i] = coupon.discountPrice() != null ? coupon.discountPrice() : 0L;
+            discountRates[i] = coupon.discountRate() != null ? coupon.discountRate() : 0.0;
+            minOrderAmounts[i] = coupon.minOrderAmount() != null ? coupon.minOrderAmount() : 0L;
+            reservable[i] = coupon.status() == UserCouponStatus.UNUSED
+                || Objects.equals(coupon.id(), appliedUserCouponId);
+        }
+
+        // 분기 없는 단일 루프로 할인 금액 계산
+        long[] discounts = new long[n];
+        for (int i = 0; i < n; i++) {
+            long discount = DiscountValue.calculateDiscountAmount(orderAmount, discountPrices[i], discountRates[i]);
+            boolean applicable = reservable[i] && orderAmount >= minOrderAmounts[i] && discount <= orderAmount;
+            discounts[i] = applicable ? discount : NOT_APPLICABLE;
+        }
+
+        // 상위 N개 선택 (삽입 정렬, N은 작음)
+        int[] top = new int[Math.min(topN, n)];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            if (discounts[i] <= 0) {
+                continue;
+            }
+            int pos = size;
+            while (pos > 0 && isBetter(wallet, discounts, i, top[pos - 1])) {
+                pos--;
+            }
+            if (pos >= top.length) {
+                continue;
+            }
+            int end = Math.min(size, top.length - 1);
+            System.arraycopy(top, pos, top, pos + 1, end - pos);
+            top[pos] = i;
+            size = Math.min(size + 1, top.length);
+        }
+
+        List<CouponRecommendationResponse> result = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            UserCouponResponse coupon = wallet.get(top[k]);
+            long discount = discounts[top[k]];
+            result.add(new CouponRecommendationResponse(
+                coupon.id(),
+                coupon.couponId(),
+                coupon.couponName(),
+                discount,
+                orderAmount - discount,
+                coupon.validUntil()
+            ));
+        }
+        return result;
+    }
+
+    private static boolean isBetter(List<UserCouponResponse> wallet, long[] discounts, int a, int b) {
+        if (discounts[a] != discounts[b]) {
+            return discounts[a] > discounts[b];
+        }
+        return wallet.get(a).validUntil().isBefore(wallet.get(b).validUntil());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import com.example.ecommerce.coupon.service.CouponRedisService.CounterReconciliation;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쿠폰 발급 수량 정합성 보정 서비스
+ *
+ * 쿠폰 하나에 대해 다음을 비교하고 어긋난 값을 바로잡는다.
+ * 1. DB: coupons.issued_quantity ↔ user_coupons 발급 건수 (coupon_id 인덱스 COUNT)
+ * 2. Redis: 카운터 ↔ 발급 사용자 수, DB 발급 건수 + 대기열 크기
+ *
+ * DB 보정은 별도 트랜잭션으로 먼저 커밋한 뒤 Redis 를 보정한다.
+ * Redis 변경은 롤백되지 않으므로, DB 가 롤백된 값을 기준으로 Redis 카운터를 바꾸는 일이 없게 하기 위함이다.
+ *
+ * 보정 건수와 카운터 오차는 coupon.reconcile.* 메트릭으로 내보낸다.
+ */
+@Slf4j
+@Service
+public class CouponReconciliationService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponRedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public CouponReconciliationService(
+        CouponRepository couponRepository,
+        UserCouponRepository userCouponRepository,
+        CouponRedisService redisService,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 쿠폰 발급 수량 보정
+     *
+     * @param couponId 쿠폰 ID
+     * @return 보정 결과 (Redis 오류 시 counter는 null)
+     */
+    public ReconcileResult reconcile(Long couponId) {
+        // 1. DB issued_quantity 보정 (커밋까지 완료)
+        DbReconciliation db = transactionTemplate.execute(status -> new DbReconciliation(
+            couponRepository.syncIssuedQuantity(couponId) > 0,
+            userCouponRepository.countByCouponId(couponId)
+        ));
+        boolean dbRepaired = db.repaired();
+        long dbIssuedCount = db.issuedCount();
+
+        if (dbRepaired) {
+            log.warn("DB 발급 수량 보정 - couponId: {}, issuedQuantity: {}", couponId, dbIssuedCount);
+            meterRegistry.counter("coupon.reconcile.repairs", "target", "db").increment();
+        }
+
+        // 2. Redis 카운터 보정 (DB 커밋 이후)
+        CounterReconciliation counter = redisService.reconcileCounter(couponId, dbIssuedCount);
+
+        if (counter == null) {
+            meterRegistry.counter("coupon.reconcile.errors", "target", "redis").increment();
+        } else if (counter.drift() != 0) {
+            log.warn("Redis 카운터 보정 - couponId: {}, counter: {} -> {}, members: {}, queued: {}, dbIssued: {}",
+                couponId, counter.counter(), counter.expected(), counter.members(), counter.queued(), dbIssuedCount);
+            meterRegistry.counter("coupon.reconcile.repairs", "target", "redis").increment();
+            meterRegistry.summary("coupon.reconcile.redis.drift").record(Math.abs(counter.drift()));
+        }
+
+        return new ReconcileResult(couponId, dbIssuedCount, dbRepaired, counter);
+    }
+
+    private record DbReconciliation(boolean repaired, long issuedCount) {
+    }
+
+    public record ReconcileResult(
+        Long couponId,
+        long dbIssuedCount,
+        boolean dbRepaired,
+        CounterReconciliation counter
+    ) {
+
+        public boolean redisRepaired() {
+            return counter != null && counter.drift() != 0;
+        }
+    }
+}
@@ -2,12 +2,21 @@ package com.example.ecommerce.coupon.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,83 +27,371 @@ public class CouponRedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * 발급 사용자 중복 체크 자료구조
+     * SET: userId 문자열 집합 (기본값)
+     * BITMAP: userId를 오프셋으로 사용하는 비트맵. 메모리가 참여자 수가 아닌 최대 userId에 비례하므로
+     *         숫자 ID가 촘촘한 대규모 캠페인에서 SET 대비 수십~수백 배 작다. (userId < 2^32)
+     */
+    @Value("${coupon.issue.dedupe-mode:SET}")
+    private DedupeMode dedupeMode = DedupeMode.SET;
+
     private static final String COUNTER_KEY_PREFIX = "coupon:";
     private static final String COUNTER_KEY_SUFFIX = ":counter";
     private static final String ISSUED_USERS_KEY_SUFFIX = ":issued:users";
+    private static final String ISSUED_BITMAP_KEY_SUFFIX = ":issued:bitmap";
+    private static final String SEQUENCE_KEY_SUFFIX = ":seq";
+    private static final String DRAINED_SEQUENCE_KEY_SUFFIX = ":drained:seq";
     private static final String WAITING_QUEUE_KEY_SUFFIX = ":waiting:queue";
     private static final String USER_STATUS_KEY_PREFIX = "coupon:";
     private static final String USER_STATUS_KEY_SUFFIX = ":user:";
     private static final String STATUS_KEY_SUFFIX = ":status";
+    private static final String PENDING_COUPONS_KEY = "coupon:issue:pending";
+    private static final String ISSUE_SIGNAL_KEY = "coupon:issue:signal";
+    private static final String RETRY_QUEUE_KEY = "coupon:issue:retry";
+    private static final String RETRY_PROCESSING_KEY = "coupon:issue:retry:processing";
+    private static final String DEAD_LETTER_KEY = "coupon:issue:dlq";
+    private static final String PREWARM_SCANNED_UNTIL_KEY = "coupon:prewarm:scanned-until";
+    private static final String RECONCILE_CURSOR_KEY = "coupon:reconcile:cursor";
+    private static final long DEAD_LETTER_MAX_SIZE = 10000L;
+    private static final int STATUS_PIPELINE_CHUNK_SIZE = 1000;
+
+    public static final String SOLD_OUT_CHANNEL = "coupon:soldout";
+    public static final String REOPENED_CHANNEL = "coupon:reopened";
+    public static final String ISSUE_STATUS_CHANNEL = "coupon:issue:status";
 
     private static final long STATUS_TTL_SECONDS = 86400L; // 24시간
 
-    public boolean reserveQuantity(Long couponId, int limit) {
-        try {
-            String key = getCounterKey(couponId);
-            Long count = redisTemplate.opsForValue().increment(key);
+    /**
+     * 발급 요청 스크립트
+     * 중복 체크(SISMEMBER/GETBIT) → 수량 확인(GET) → 예약(INCR) → 중복 등록(SADD/SETBIT)
+     * → 순번 발급(INCR) → 대기열(ZADD, score = 순번) → 상태(SET EX, "PENDING:순번")
+     * 를 하나의 EVALSHA 로 원자적으로 수행한다.
+     * 쿠폰별 순번을 score로 사용하므로 동시 요청도 접수 순서대로 엄격하게 정렬된다.
+     * 처리할 작업이 없던 쿠폰이 대기 쿠폰 집합에 새로 들어오면 발급 신호(RPUSH)를 함께 보낸다.
+     * 마지막 수량을 예약한 요청은 매진 메시지(PUBLISH)를 보내 모든 노드의 매진 레지스트리를 갱신한다.
+     *
+     * KEYS[1] counter, KEYS[2] issued users (SET 또는 BITMAP), KEYS[3] waiting queue, KEYS[4] user status,
+     * KEYS[5] pending coupons, KEYS[6] issue signal, KEYS[7] sequence
+     * ARGV[1] limit, ARGV[2] userId, ARGV[3] status, ARGV[4] ttl(sec), ARGV[5] couponId,
+     * ARGV[6] sold-out channel, ARGV[7] dedupe mode
+     */
+    private static final RedisScript<Long> ISSUE_REQUEST_SCRIPT = new DefaultRedisScript<>(
+        """
+            local bitmap = ARGV[7] == 'BITMAP'
+            local member
+            if bitmap then
+                member = redis.call('GETBIT', KEYS[2], ARGV[2])
+            else
+                member = redis.call('SISMEMBER', KEYS[2], ARGV[2])
+            end
+            if member == 1 then
+                return -1
+            end
+            local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if count >= tonumber(ARGV[1]) then
+                return -2
+            end
+            local issued = redis.call('INCR', KEYS[1])
+            if bitmap then
+                redis.call('SETBIT', KEYS[2], ARGV[2], 1)
+            else
+                redis.call('SADD', KEYS[2], ARGV[2])
+            end
+            local seq = redis.call('INCR', KEYS[7])
+            redis.call('ZADD', KEYS[3], seq, ARGV[2])
+            redis.call('SET', KEYS[4], ARGV[3] .. ':' .. seq, 'EX', ARGV[4])
+            if redis.call('SADD', KEYS[5], ARGV[5]) == 1 then
+                redis.call('RPUSH', KEYS[6], ARGV[5])
+            end
+            if issued >= tonumber(ARGV[1]) then
+                redis.call('PUBLISH', ARGV[6], ARGV[5])
+            end
+            return 1
+            """,
+        Long.class
+    );
 
-            if (count != null && count <= limit) {
-                log.debug("수량 예약 성공 - couponId: {}, count: {}/{}", couponId, count, limit);
-                return true;
-            }
+    /**
+     * 대기열 배치 추출 스크립트
+     * ZPOPMIN으로 꺼낸 마지막 순번을 처리 완료 순번으로 기록한다. (대기 순번 = 내 순번 - 처리 완료 순번)
+     *
+     * KEYS[1] waiting queue, KEYS[2] drained sequence
+     * ARGV[1] batch size
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_WAITING_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            if #items > 0 then
+                local last = tonumber(items[#items])
+                local drained = tonumber(redis.call('GET', KEYS[2]) or '0')
+                if last > drained then
+                    redis.call('SET', KEYS[2], last)
+                end
+            end
+            return items
+            """,
+        List.class
+    );
 
-            // 수량 초과 시 롤백 (DECR)
-            redisTemplate.opsForValue().decrement(key);
-            log.warn("수량 초과로 예약 실패 - couponId: {}, count: {}/{}", couponId, count, limit);
-            return false;
+    /**
+     * 대기열 처리 완료 스크립트
+     * 대기열이 비었을 때만 대기 쿠폰 집합에서 제거한다.
+     * 남은 요청이 있으면 집합에 그대로 두어 스케줄러 스윕이 다시 찾게 하고, resignal 이면 바로 다시 신호를 보낸다.
+     * (리스 보유 중 도착한 요청의 신호는 다른 워커가 버리므로, 실패하지 않은 드레인은 항상 resignal 로 호출한다.)
+     *
+     * KEYS[1] pending coupons, KEYS[2] waiting queue, KEYS[3] issue signal
+     * ARGV[1] couponId, ARGV[2] resignal 여부 (1/0)
+     */
+    private static final RedisScript<Long> COMPLETE_DRAIN_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('ZCARD', KEYS[2]) == 0 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                return 0
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            if ARGV[2] == '1' then
+                redis.call('RPUSH', KEYS[3], ARGV[1])
+                return 1
+            end
+            return 0
+            """,
+        Long.class
+    );
 
-        } catch (Exception e) {
-            log.error("수량 예약 실패 - couponId: {}", couponId, e);
-            return false;
-        }
-    }
+    /**
+     * 재시도 대상 선점 스크립트
+     * 재시도 시각이 지난 항목을 처리 중 집합(score = 처리 기한)으로 옮기므로 여러 노드가 같은 항목을 중복 처리하지 않고,
+     * 처리 도중 장애가 나도 기한이 지나면 재시도 큐로 되돌아간다. 처리가 끝나면 ackRetries 로 제거한다.
+     *
+     * KEYS[1] retry queue, KEYS[2] retry processing
+     * ARGV[1] now(ms), ARGV[2] limit, ARGV[3] 처리 기한(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_RETRY_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, item in ipairs(items) do
+                redis.call('ZADD', KEYS[2], ARGV[3], item)
+            end
+            if #items > 0 then
+                redis.call('ZREM', KEYS[1], unpack(items))
+            end
+            return items
+            """,
+        List.class
+    );
 
-    public void rollbackQuantity(Long couponId) {
-        try {
-            String key = getCounterKey(couponId);
-            Long count = redisTemplate.opsForValue().decrement(key);
-            log.debug("수량 예약 롤백 - couponId: {}, remaining: {}", couponId, count);
+    /**
+     * 처리 기한이 지난 재시도 항목 복구 스크립트 (처리 중 집합 → 재시도 큐, 즉시 재시도)
+     *
+     * KEYS[1] retry processing, KEYS[2] retry queue
+     * ARGV[1] now(ms)
+     */
+    private static final RedisScript<Long> RECOVER_RETRY_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            for _, item in ipairs(items) do
+                redis.call('ZADD', KEYS[2], ARGV[1], item)
+            end
+            if #items > 0 then
+                redis.call('ZREM', KEYS[1], unpack(items))
+            end
+            return #items
+            """,
+        Long.class
+    );
 
-        } catch (Exception e) {
-            log.error("수량 예약 롤백 실패 - couponId: {}", couponId, e);
+    /**
+     * 발급 실패 확정 스크립트
+     * 발급 사용자 집합에 남아 있는 사용자만 제거하고 그 수만큼 카운터를 되돌린 뒤 FAILED 상태를 저장한다.
+     * 이미 롤백된 사용자는 SREM(또는 SETBIT 이전 값) 결과가 0이므로 중복 롤백되지 않는다.
+     * 수량이 되돌아오면 재오픈 메시지(PUBLISH)로 모든 노드의 매진 표시를 해제한다.
+     *
+     * KEYS[1] counter, KEYS[2] issued users (SET 또는 BITMAP), KEYS[3..] user status
+     * ARGV[1] ttl(sec), ARGV[2] couponId, ARGV[3] reopened channel, ARGV[4] dedupe mode,
+     * ARGV[5..] userId (KEYS[3..]와 같은 순서)
+     */
+    private static final RedisScript<Long> FAIL_ISSUE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local bitmap = ARGV[4] == 'BITMAP'
+            local removed = 0
+            for i = 5, #ARGV do
+                if bitmap then
+                    removed = removed + redis.call('SETBIT', KEYS[2], ARGV[i], 0)
+                else
+                    removed = removed + redis.call('SREM', KEYS[2], ARGV[i])
+                end
+                redis.call('SET', KEYS[i - 2], 'FAILED', 'EX', ARGV[1])
+            end
+            if removed > 0 then
+                redis.call('DECRBY', KEYS[1], removed)
+                redis.call('PUBLISH', ARGV[3], ARGV[2])
+            end
+            return removed
+            """,
+        Long.class
+    );
+
+    /**
+     * 카운터 보정 스크립트
+     * 발급 사용자 수와 대기열 크기를 같은 시점에 읽어 기대 카운터를 계산하고, 다르면 덮어쓴다.
+     * 기대값 = max(발급 사용자 수, DB 발급 건수 + 대기열 크기)
+     * Redis 데이터가 유실되어 발급 사용자 수가 줄어든 경우에도 DB 기준 하한 덕분에 초과 발급이 생기지 않는다.
+     *
+     * KEYS[1] counter, KEYS[2] issued users (SET 또는 BITMAP), KEYS[3] waiting queue
+     * ARGV[1] DB 발급 건수, ARGV[2] dedupe mode
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECONCILE_COUNTER_SCRIPT = new DefaultRedisScript<>(
+        """
+            local counter = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local members
+            if ARGV[2] == 'BITMAP' then
+                members = redis.call('BITCOUNT', KEYS[2])
+            else
+                members = redis.call('SCARD', KEYS[2])
+            end
+            local queued = redis.call('ZCARD', KEYS[3])
+            local expected = math.max(members, tonumber(ARGV[1]) + queued)
+            if counter ~= expected then
+                redis.call('SET', KEYS[1], expected)
+            end
+            return {counter, members, queued, expected}
+            """,
+        List.class
+    );
+
+    /**
+     * 사전 준비 스크립트
+     * 카운터와 순번 키를 미리 만들어 둔다. 이미 있는 키는 건드리지 않는다(SETNX).
+     *
+     * KEYS[1] counter, KEYS[2] sequence, KEYS[3] drained sequence
+     */
+    private static final RedisScript<Long> PREWARM_SCRIPT = new DefaultRedisScript<>(
+        """
+            local created = 0
+            for i = 1, #KEYS do
+                created = created + redis.call('SETNX', KEYS[i], 0)
+            end
+            return created
+            """,
+        Long.class
+    );
+
+    /**
+     * 카운터 보정 결과
+     */
+    public record CounterReconciliation(long counter, long members, long queued, long expected) {
+
+        public long drift() {
+            return counter - expected;
         }
     }
 
-    public boolean checkDuplicate(Long couponId, Long userId) {
-        try {
-            String key = getIssuedUsersKey(couponId);
-            Long result = redisTemplate.opsForSet().add(key, userId.toString());
+    /**
+     * 발급 상태 스냅샷 (대기 순번은 1부터 시작, PENDING일 때만 존재)
+     */
+    public record IssueStatusSnapshot(String status, Long waitingRank, Long queueSize) {
+    }
 
-            boolean isNew = result != null && result == 1;
-            if (isNew) {
-                log.debug("중복 체크 통과 - couponId: {}, userId: {}", couponId, userId);
-            } else {
-                log.warn("중복 발급 시도 차단 - couponId: {}, userId: {}", couponId, userId);
-            }
+    /**
+     * 발급 사용자 중복 체크 모드
+     */
+    public enum DedupeMode {
+        SET,
+        BITMAP
+    }
 
-            return isNew;
+    /**
+     * 발급 재시도 항목
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId   사용자 ID
+     * @param attempt  재시도 회차 (1부터)
+     */
+    public record IssueRetry(Long couponId, Long userId, int attempt) {
 
-        } catch (Exception e) {
-            log.error("중복 체크 실패 - couponId: {}, userId: {}", couponId, userId, e);
-            return false;
+        private static IssueRetry parse(String member) {
+            String[] parts = member.split(":");
+            return new IssueRetry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+        }
+
+        private String toMember() {
+            return couponId + ":" + userId + ":" + attempt;
         }
     }
 
-    public boolean addToWaitingQueue(Long couponId, Long userId, long timestamp) {
-        try {
-            String key = getWaitingQueueKey(couponId);
-            Boolean result = redisTemplate.opsForZSet().add(key, userId.toString(), timestamp);
+    /**
+     * 발급 요청 스크립트 결과 코드
+     */
+    public enum IssueResult {
+        SUCCESS(1L),
+        DUPLICATE(-1L),
+        SOLD_OUT(-2L),
+        ERROR(0L);
+
+        private final long code;
 
-            if (Boolean.TRUE.equals(result)) {
-                log.debug("대기열 추가 - couponId: {}, userId: {}, timestamp: {}", couponId, userId, timestamp);
-                return true;
+        IssueResult(long code) {
+            this.code = code;
+        }
+
+        public static IssueResult fromCode(Long code) {
+            if (code == null) {
+                return ERROR;
             }
+            for (IssueResult result : values()) {
+                if (result.code == code) {
+                    return result;
+                }
+            }
+            return ERROR;
+        }
+    }
 
-            return false;
+    /**
+     * 발급 요청 접수 (Lua 스크립트, 단일 왕복)
+     * 수량 예약, 중복 체크, 대기열 추가, 상태 저장을 원자적으로 처리한다.
+     * 중복/마감 시에는 카운터를 건드리지 않으므로 별도의 롤백(DECR)이 필요 없다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId   사용자 ID
+     * @param limit    총 발급 수량
+     * @return 처리 결과 코드
+     */
+    public IssueResult issueRequest(Long couponId, Long userId, int limit) {
+        try {
+            List<String> keys = List.of(
+                getCounterKey(couponId),
+                getIssuedMembershipKey(couponId),
+                getWaitingQueueKey(couponId),
+                getUserStatusKey(couponId, userId),
+                PENDING_COUPONS_KEY,
+                ISSUE_SIGNAL_KEY,
+                getSequenceKey(couponId)
+            );
+
+            Long code = redisTemplate.execute(
+                ISSUE_REQUEST_SCRIPT,
+                keys,
+                String.valueOf(limit),
+                userId.toString(),
+                "PENDING",
+                String.valueOf(STATUS_TTL_SECONDS),
+                couponId.toString(),
+                SOLD_OUT_CHANNEL,
+                dedupeMode.name()
+            );
+
+            IssueResult result = IssueResult.fromCode(code);
+            log.debug("발급 요청 스크립트 실행 - couponId: {}, userId: {}, result: {}", couponId, userId, result);
+            return result;
 
         } catch (Exception e) {
-            log.error("대기열 추가 실패 - couponId: {}, userId: {}", couponId, userId, e);
-            return false;
+            log.error("발급 요청 스크립트 실행 실패 - couponId: {}, userId: {}", couponId, userId, e);
+            return IssueResult.ERROR;
         }
     }
 
@@ -109,10 +406,49 @@ public class CouponRedisService {
         }
     }
 
+    /**
+     * 사용자 상태 일괄 저장 (Pipeline)
+     * 콜백으로 전달된 커넥션에 SETEX를 쌓아 STATUS_PIPELINE_CHUNK_SIZE 건당 한 번의 왕복으로 전송한다.
+     * 같은 파이프라인에서 상태 변경 메시지를 PUBLISH 하여 상태 스트림 구독자에게 알린다.
+     * 청크 단위로 실패를 모아 반환하므로 호출자는 실패한 사용자만 다시 반영하면 된다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  사용자 ID 목록
+     * @param status   상태
+     * @return 저장/알림에 실패한 사용자 목록 (모두 성공하면 빈 목록)
+     */
+    public List<Long> setUserStatusBatch(Long couponId, List<Long> userIds, String status) {
+        List<Long> failed = new ArrayList<>();
+
+        for (int from = 0; from < userIds.size(); from += STATUS_PIPELINE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + STATUS_PIPELINE_CHUNK_SIZE, userIds.size()));
+
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = new DefaultStringRedisConnection(connection);
+                    for (Long userId : chunk) {
+                        stringConnection.setEx(getUserStatusKey(couponId, userId), STATUS_TTL_SECONDS, status);
+                    }
+                    stringConnection.publish(ISSUE_STATUS_CHANNEL, toIssueStatusMessage(couponId, status, chunk));
+                    return null;
+                });
+
+            } catch (Exception e) {
+                log.error("사용자 상태 일괄 저장 실패 - couponId: {}, count: {}", couponId, chunk.size(), e);
+                failed.addAll(chunk);
+            }
+        }
+
+        log.debug("사용자 상태 일괄 저장 - couponId: {}, count: {}, failed: {}, status: {}",
+            couponId, userIds.size(), failed.size(), status);
+        return failed;
+    }
+
     public String getUserStatus(Long couponId, Long userId) {
         try {
             String key = getUserStatusKey(couponId, userId);
-            return redisTemplate.opsForValue().get(key);
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? parseStatus(value) : null;
 
         } catch (Exception e) {
             log.error("사용자 상태 조회 실패 - couponId: {}, userId: {}", couponId, userId, e);
@@ -131,6 +467,45 @@ public class CouponRedisService {
         }
     }
 
+    /**
+     * 발급 상태와 대기 순번 조회 (MGET, 단일 왕복)
+     * 대기 순번은 내 순번 - 처리 완료 순번, 대기열 크기는 마지막 순번 - 처리 완료 순번으로 O(1)에 계산한다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId   사용자 ID
+     * @return 상태 스냅샷, 상태가 없으면 status가 null, Redis 오류 시 null
+     */
+    public IssueStatusSnapshot getIssueStatusSnapshot(Long couponId, Long userId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                getUserStatusKey(couponId, userId),
+                getDrainedSequenceKey(couponId),
+                getSequenceKey(couponId)
+            ));
+
+            if (values == null || values.get(0) == null) {
+                return new IssueStatusSnapshot(null, null, null);
+            }
+
+            String value = values.get(0);
+            String status = parseStatus(value);
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                return new IssueStatusSnapshot(status, null, null);
+            }
+
+            long sequence = Long.parseLong(value.substring(separator + 1));
+            long drained = values.get(1) != null ? Long.parseLong(values.get(1)) : 0L;
+            long last = values.get(2) != null ? Long.parseLong(values.get(2)) : sequence;
+
+            return new IssueStatusSnapshot(status, Math.max(1L, sequence - drained), Math.max(0L, last - drained));
+
+        } catch (Exception e) {
+            log.error("발급 상태 스냅샷 조회 실패 - couponId: {}, userId: {}", couponId, userId, e);
+            return null;
+        }
+    }
+
     /**
      * 현재 발급된 수량 조회 (GET)
      *
@@ -149,6 +524,40 @@ public class CouponRedisService {
         }
     }
 
+    /**
+     * Redis 카운터 보정
+     *
+     * @param couponId      쿠폰 ID
+     * @param dbIssuedCount DB 발급 건수 (user_coupons)
+     * @return 보정 결과, Redis 오류 시 null
+     */
+    public CounterReconciliation reconcileCounter(Long couponId, long dbIssuedCount) {
+        try {
+            List<?> result = redisTemplate.execute(
+                RECONCILE_COUNTER_SCRIPT,
+                List.of(getCounterKey(couponId), getIssuedMembershipKey(couponId), getWaitingQueueKey(couponId)),
+                String.valueOf(dbIssuedCount),
+                dedupeMode.name()
+            );
+
+            if (result == null || result.size() < 4) {
+                return null;
+            }
+
+            return new CounterReconciliation(
+                toLong(result.get(0)), toLong(result.get(1)), toLong(result.get(2)), toLong(result.get(3))
+            );
+
+        } catch (Exception e) {
+            log.error("Redis 카운터 보정 실패 - couponId: {}", couponId, e);
+            return null;
+        }
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
     /**
      * 대기열에서 배치 추출 (ZPOPMIN)
      * Score가 낮은 순서대로 (먼저 요청한 순서) 추출
@@ -159,17 +568,21 @@ public class CouponRedisService {
      */
     public List<Long> popFromWaitingQueue(Long couponId, int batchSize) {
         try {
-            String key = getWaitingQueueKey(couponId);
-            Set<ZSetOperations.TypedTuple<String>> result =
-                redisTemplate.opsForZSet().popMin(key, batchSize);
+            List<?> result = redisTemplate.execute(
+                POP_WAITING_SCRIPT,
+                List.of(getWaitingQueueKey(couponId), getDrainedSequenceKey(couponId)),
+                String.valueOf(batchSize)
+            );
 
             if (result == null || result.isEmpty()) {
                 return List.of();
             }
 
-            List<Long> userIds = result.stream()
-                .map(tuple -> Long.parseLong(tuple.getValue()))
-                .collect(Collectors.toList());
+            // ZPOPMIN 응답: member, score 반복
+            List<Long> userIds = new ArrayList<>(result.size() / 2);
+            for (int i = 0; i < result.size(); i += 2) {
+                userIds.add(Long.parseLong(result.get(i).toString()));
+            }
 
             log.info("대기열에서 배치 추출 - couponId: {}, size: {}", couponId, userIds.size());
             return userIds;
@@ -198,6 +611,306 @@ public class CouponRedisService {
         }
     }
 
+    /**
+     * 발급 신호 대기 (BLPOP)
+     * 대기열에 처리할 요청이 생긴 쿠폰 ID를 블로킹으로 꺼낸다.
+     * 드레인 워커의 루프에서 사용하므로 Redis 오류는 호출자에게 그대로 전달한다.
+     *
+     * @param timeout 최대 대기 시간
+     * @return 쿠폰 ID, 타임아웃 시 null
+     */
+    public Long waitForIssueSignal(Duration timeout) {
+        String value = redisTemplate.opsForList().leftPop(ISSUE_SIGNAL_KEY, timeout);
+        return value != null ? Long.parseLong(value) : null;
+    }
+
+    /**
+     * 처리할 대기열이 남아 있는 쿠폰 ID 목록 조회 (SMEMBERS)
+     *
+     * @return 쿠폰 ID 목록
+     */
+    public Set<Long> getPendingCouponIds() {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(PENDING_COUPONS_KEY);
+            if (members == null || members.isEmpty()) {
+                return Set.of();
+            }
+
+            return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+
+        } catch (Exception e) {
+            log.error("대기 쿠폰 목록 조회 실패", e);
+            return Set.of();
+        }
+    }
+
+    /**
+     * 대기열 처리 완료 표시
+     * 대기열이 남아 있으면 대기 쿠폰 집합에 유지하고, resignal 이면 다시 발급 신호를 보낸다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param resignal 대기열이 남아 있을 때 재신호 여부 (드레인이 실패 없이 끝났으면 true)
+     * @return 재신호 여부
+     */
+    public boolean completeDrain(Long couponId, boolean resignal) {
+        try {
+            Long result = redisTemplate.execute(
+                COMPLETE_DRAIN_SCRIPT,
+                List.of(PENDING_COUPONS_KEY, getWaitingQueueKey(couponId), ISSUE_SIGNAL_KEY),
+                couponId.toString(),
+                resignal ? "1" : "0"
+            );
+            return result != null && result == 1L;
+
+        } catch (Exception e) {
+            log.error("대기열 처리 완료 표시 실패 - couponId: {}", couponId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 발급 재시도 예약 (ZADD, score = 재시도 시각)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  사용자 ID 목록
+     * @param attempt  재시도 회차
+     * @param retryAt  재시도 시각 (epoch ms)
+     * @return 예약 성공 여부
+     */
+    public boolean scheduleRetry(Long couponId, List<Long> userIds, int attempt, long retryAt) {
+        if (userIds.isEmpty()) {
+            return true;
+        }
+
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = userIds.stream()
+                .map(userId -> ZSetOperations.TypedTuple.of(
+                    new IssueRetry(couponId, userId, attempt).toMember(), (double) retryAt))
+                .collect(Collectors.toSet());
+
+            redisTemplate.opsForZSet().add(RETRY_QUEUE_KEY, tuples);
+            log.info("발급 재시도 예약 - couponId: {}, size: {}, attempt: {}", couponId, userIds.size(), attempt);
+            return true;
+
+        } catch (Exception e) {
+            log.error("발급 재시도 예약 실패 - couponId: {}, userIds: {}", couponId, userIds, e);
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 시각이 지난 항목 선점
+     * 선점한 항목은 visibilityMillis 안에 ackRetries 로 완료 처리해야 하며, 그렇지 않으면 recoverExpiredRetries 가 되돌린다.
+     *
+     * @param now              현재 시각 (epoch ms)
+     * @param limit            최대 개수
+     * @param visibilityMillis 처리 기한 (ms)
+     * @return 재시도 항목 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<IssueRetry> claimDueRetries(long now, int limit, long visibilityMillis) {
+        try {
+            List<String> members = redisTemplate.execute(
+                CLAIM_RETRY_SCRIPT,
+                List.of(RETRY_QUEUE_KEY, RETRY_PROCESSING_KEY),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(now + visibilityMillis)
+            );
+
+            if (members == null || members.isEmpty()) {
+                return List.of();
+            }
+
+            return members.stream()
+                .map(IssueRetry::parse)
+                .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("발급 재시도 항목 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 처리를 마친 재시도 항목 완료 (처리 중 집합에서 제거)
+     */
+    public void ackRetries(List<IssueRetry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForZSet().remove(RETRY_PROCESSING_KEY,
+                retries.stream().map(IssueRetry::toMember).toArray());
+        } catch (Exception e) {
+            // 완료 표시에 실패하면 기한 후 다시 재시도되며, 이미 발급된 사용자는 ISSUED 로 처리된다
+            log.error("발급 재시도 완료 처리 실패 - size: {}", retries.size(), e);
+        }
+    }
+
+    /**
+     * 처리 기한이 지난 선점 항목을 재시도 큐로 되돌림 (처리 중 장애 복구)
+     *
+     * @param now 현재 시각 (epoch ms)
+     * @return 되돌린 항목 수
+     */
+    public long recoverExpiredRetries(long now) {
+        try {
+            Long recovered = redisTemplate.execute(
+                RECOVER_RETRY_SCRIPT,
+                List.of(RETRY_PROCESSING_KEY, RETRY_QUEUE_KEY),
+                String.valueOf(now)
+            );
+            return recovered != null ? recovered : 0L;
+
+        } catch (Exception e) {
+            log.error("발급 재시도 선점 항목 복구 실패", e);
+            return 0L;
+        }
+    }
+
+    /**
+     * 발급 실패 확정
+     * FAILED 상태 저장 + 발급 사용자 집합 제거 + 카운터 롤백을 원자적으로 처리한다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  사용자 ID 목록
+     * @return 롤백된 수량
+     */
+    public long failIssue(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(userIds.size() + 2);
+            keys.add(getCounterKey(couponId));
+            keys.add(getIssuedMembershipKey(couponId));
+
+            List<String> args = new ArrayList<>(userIds.size() + 4);
+            args.add(String.valueOf(STATUS_TTL_SECONDS));
+            args.add(couponId.toString());
+            args.add(REOPENED_CHANNEL);
+            args.add(dedupeMode.name());
+
+            for (Long userId : userIds) {
+                keys.add(getUserStatusKey(couponId, userId));
+                args.add(userId.toString());
+            }
+
+            Long removed = redisTemplate.execute(FAIL_ISSUE_SCRIPT, keys, args.toArray());
+            redisTemplate.convertAndSend(ISSUE_STATUS_CHANNEL, toIssueStatusMessage(couponId, "FAILED", userIds));
+            log.warn("발급 실패 확정 - couponId: {}, size: {}, rollback: {}", couponId, userIds.size(), removed);
+            return removed != null ? removed : 0L;
+
+        } catch (Exception e) {
+            log.error("발급 실패 확정 처리 실패 - couponId: {}, userIds: {}", couponId, userIds, e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Dead Letter 기록 (RPUSH, 최근 DEAD_LETTER_MAX_SIZE 건 유지)
+     * 운영자가 확인할 수 있도록 "couponId:userId:reason" 형식으로 남긴다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param reasons  사용자 ID → 실패 사유
+     */
+    public void recordDeadLetters(Long couponId, Map<Long, String> reasons) {
+        if (reasons.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> entries = reasons.entrySet().stream()
+                .map(entry -> couponId + ":" + entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.toList());
+
+            redisTemplate.opsForList().rightPushAll(DEAD_LETTER_KEY, entries);
+            redisTemplate.opsForList().trim(DEAD_LETTER_KEY, -DEAD_LETTER_MAX_SIZE, -1);
+
+        } catch (Exception e) {
+            log.error("Dead Letter 기록 실패 - couponId: {}, reasons: {}", couponId, reasons, e);
+        }
+    }
+
+    /**
+     * 발급 시작 전 Redis 사전 준비
+     * 1. 카운터/순번 키 생성 (첫 요청에서 키가 생기는 비용 제거)
+     * 2. 발급 경로 스크립트 SCRIPT LOAD (첫 EVALSHA의 NOSCRIPT 재시도 제거)
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void prewarm(Long couponId) {
+        try {
+            redisTemplate.execute(PREWARM_SCRIPT, List.of(
+                getCounterKey(couponId),
+                getSequenceKey(couponId),
+                getDrainedSequenceKey(couponId)
+            ));
+
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                for (RedisScript<?> script : List.of(ISSUE_REQUEST_SCRIPT, POP_WAITING_SCRIPT, COMPLETE_DRAIN_SCRIPT)) {
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            log.info("쿠폰 발급 Redis 사전 준비 완료 - couponId: {}", couponId);
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 Redis 사전 준비 실패 - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * 발급 재개 알림 발행
+     * 모든 노드가 로컬 매진 표시를 정리하도록 REOPENED_CHANNEL 로 브로드캐스트한다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void publishReopened(Long couponId) {
+        try {
+            redisTemplate.convertAndSend(REOPENED_CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            // 발행에 실패해도 로컬 매진 표시는 TTL 이 지나면 사라진다
+            log.error("쿠폰 발급 재개 알림 발행 실패 - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * 사전 준비 스케줄러가 마지막으로 조회한 validFrom 상한 (epoch ms)
+     * 재시작한 노드나 락을 넘겨받은 노드도 이어서 조회하도록 Redis 에 둔다.
+     *
+     * @return 기록이 없으면 null
+     */
+    public Long getPrewarmScannedUntil() {
+        String value = redisTemplate.opsForValue().get(PREWARM_SCANNED_UNTIL_KEY);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    public void setPrewarmScannedUntil(long epochMillis) {
+        redisTemplate.opsForValue().set(PREWARM_SCANNED_UNTIL_KEY, String.valueOf(epochMillis));
+    }
+
+    /**
+     * 보정 스케줄러가 마지막으로 확인한 활성 쿠폰 ID
+     * 재시작한 노드나 락을 넘겨받은 노드도 이어서 순회하도록 Redis 에 둔다.
+     *
+     * @return 기록이 없으면 0
+     */
+    public long getReconcileCursor() {
+        String value = redisTemplate.opsForValue().get(RECONCILE_CURSOR_KEY);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public void setReconcileCursor(long couponId) {
+        redisTemplate.opsForValue().set(RECONCILE_CURSOR_KEY, String.valueOf(couponId));
+    }
+
     /**
      * Redis 카운터 초기화
      * 테스트 또는 관리 목적
@@ -212,7 +925,12 @@ public class CouponRedisService {
 
             redisTemplate.delete(counterKey);
             redisTemplate.delete(usersKey);
+            redisTemplate.delete(getIssuedBitmapKey(couponId));
+            redisTemplate.delete(getSequenceKey(couponId));
+            redisTemplate.delete(getDrainedSequenceKey(couponId));
             redisTemplate.delete(queueKey);
+            redisTemplate.opsForSet().remove(PENDING_COUPONS_KEY, couponId.toString());
+            redisTemplate.convertAndSend(REOPENED_CHANNEL, couponId.toString());
 
             log.info("Redis 카운터 초기화 완료 - couponId: {}", couponId);
 
@@ -221,11 +939,43 @@ public class CouponRedisService {
         }
     }
 
+    /**
+     * 상태 변경 메시지 형식: "couponId|status|userId,userId,..."
+     */
+    private String toIssueStatusMessage(Long couponId, String status, List<Long> userIds) {
+        return couponId + "|" + status + "|" + userIds.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+    }
+
+    // 상태 값 형식: "STATUS" 또는 "PENDING:순번"
+    private String parseStatus(String value) {
+        int separator = value.indexOf(':');
+        return separator < 0 ? value : value.substring(0, separator);
+    }
+
     // Key 생성 헬퍼 메서드
     private String getCounterKey(Long couponId) {
         return COUNTER_KEY_PREFIX + couponId + COUNTER_KEY_SUFFIX;
     }
 
+    private String getSequenceKey(Long couponId) {
+        return COUNTER_KEY_PREFIX + couponId + SEQUENCE_KEY_SUFFIX;
+    }
+
+    private String getDrainedSequenceKey(Long couponId) {
+        return COUNTER_KEY_PREFIX + couponId + DRAINED_SEQUENCE_KEY_SUFFIX;
+    }
+
+    private String getIssuedBitmapKey(Long couponId) {
+        return COUNTER_KEY_PREFIX + couponId + ISSUED_BITMAP_KEY_SUFFIX;
+    }
+
+    // 현재 중복 체크 모드에 해당하는 발급 사용자 키
+    private String getIssuedMembershipKey(Long couponId) {
+        return dedupeMode == DedupeMode.BITMAP ? getIssuedBitmapKey(couponId) : getIssuedUsersKey(couponId);
+    }
+
     private String getIssuedUsersKey(Long couponId) {
         return COUNTER_KEY_PREFIX + couponId + ISSUED_USERS_KEY_SUFFIX;
     }
@@ -1,19 +1,23 @@
 package com.example.ecommerce.coupon.service;
 
+import com.example.ecommerce.common.event.MessagePublisher;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.status.CouponStatus;
 import com.example.ecommerce.coupon.dto.CouponResponse;
+import com.example.ecommerce.coupon.event.CouponStatusChangedEvent;
 import com.example.ecommerce.coupon.repository.CouponRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final MessagePublisher eventPublisher;
 
     public List<CouponResponse> getAllCouponsAvailable() {
         List<Coupon> coupons = couponRepository.findByStatus(CouponStatus.ACTIVE);
@@ -26,4 +30,32 @@ public class CouponService {
         Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
         return CouponResponse.from(coupon);
     }
+
+    @Transactional
+    public CouponResponse activateCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+        coupon.activate();
+        return changeStatus(coupon);
+    }
+
+    @Transactional
+    public CouponResponse deactivateCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+        coupon.deactivate();
+        return changeStatus(coupon);
+    }
+
+    @Transactional
+    public void deleteCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+        coupon.delete();
+        changeStatus(coupon);
+    }
+
+    // 상태 변경 저장 후 이벤트 발행 (커밋 이후 발급 메타데이터 캐시 무효화)
+    private CouponResponse changeStatus(Coupon coupon) {
+        Coupon saved = couponRepository.save(coupon);
+        eventPublisher.publish(CouponStatusChangedEvent.of(saved.getId(), saved.getStatus()));
+        return CouponResponse.from(saved);
+    }
 }
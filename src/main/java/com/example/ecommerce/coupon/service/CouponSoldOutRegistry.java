@@ -0,0 +1,124 @@
+package com.example.ecommerce.coupon.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 매진 레지스트리
+ *
+ * 매진된 쿠폰에 대한 요청을 DB 조회와 Redis 왕복 없이 즉시 거절하기 위해 사용한다.
+ * 마지막 수량을 예약한 Lua 스크립트가 매진 채널로 PUBLISH 하면 모든 노드가 함께 매진으로 표시하고,
+ * 발급 실패 롤백이나 카운터 초기화로 수량이 돌아오면 재오픈 채널로 표시를 해제한다.
+ *
+ * 메시지를 놓친 노드도 다음 요청에서 스크립트가 SOLD_OUT을 반환하면 스스로 매진으로 표시하므로,
+ * 레지스트리는 최적화 용도일 뿐 정합성은 여전히 Redis 카운터가 보장한다.
+ *
+ * 재오픈 이후에 도착한 오래된 SOLD_OUT 결과가 표시를 되살리지 않도록, 요청 전에 읽은 재오픈 버전이
+ * 현재 버전과 다르면 표시하지 않는다. 재오픈 메시지를 놓친 경우에 대비해 표시는 TTL 이 지나면 사라지고,
+ * 다음 요청이 Redis 카운터로 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponSoldOutRegistry implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /** couponId → 매진 표시 만료 시각 (epoch ms) */
+    private final Map<Long, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+    /** couponId → 재오픈 버전 (재오픈마다 증가) */
+    private final Map<Long, Long> reopenVersions = new ConcurrentHashMap<>();
+
+    @Value("${coupon.issue.sold-out-ttl-ms:10000}")
+    private long soldOutTtlMillis = 10000L;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(
+            new ChannelTopic(CouponRedisService.SOLD_OUT_CHANNEL),
+            new ChannelTopic(CouponRedisService.REOPENED_CHANNEL)
+        ));
+    }
+
+    public boolean isSoldOut(Long couponId) {
+        Long until = soldOutUntil.get(couponId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            soldOutUntil.remove(couponId, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 재오픈 버전 (Redis 요청 전에 읽어 두었다가 markSoldOut 에 전달)
+     */
+    public long reopenVersion(Long couponId) {
+        return reopenVersions.getOrDefault(couponId, 0L);
+    }
+
+    /**
+     * 매진 메시지 수신 시 표시 (Pub/Sub 은 발행 순서대로 전달되므로 현재 버전으로 표시)
+     */
+    public void markSoldOut(Long couponId) {
+        markSoldOut(couponId, reopenVersion(couponId));
+    }
+
+    /**
+     * 요청 결과로 매진 표시
+     * 요청 이후 재오픈되었다면(버전 불일치) 오래된 결과이므로 무시한다.
+     */
+    public void markSoldOut(Long couponId, long observedVersion) {
+        long until = System.currentTimeMillis() + soldOutTtlMillis;
+        reopenVersions.compute(couponId, (id, version) -> {
+            long current = version != null ? version : 0L;
+            if (current == observedVersion && soldOutUntil.put(couponId, until) == null) {
+                log.info("쿠폰 매진 표시 - couponId: {}", couponId);
+            }
+            return version;
+        });
+    }
+
+    public void reopen(Long couponId) {
+        reopenVersions.compute(couponId, (id, version) -> {
+            if (soldOutUntil.remove(couponId) != null) {
+                log.info("쿠폰 매진 표시 해제 - couponId: {}", couponId);
+            }
+            return (version != null ? version : 0L) + 1;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long couponId = Long.valueOf(body);
+
+            if (CouponRedisService.SOLD_OUT_CHANNEL.equals(channel)) {
+                markSoldOut(couponId);
+            } else if (CouponRedisService.REOPENED_CHANNEL.equals(channel)) {
+                reopen(couponId);
+            }
+
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 매진 메시지 - channel: {}, body: {}", channel, body);
+        }
+    }
+}
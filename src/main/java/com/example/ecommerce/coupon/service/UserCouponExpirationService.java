@@ -0,0 +1,59 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import com.example.ecommerce.coupon.repository.ExpiredUserCoupon;
+import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유효기간이 지난 UNUSED 쿠폰을 EXPIRED 로 일괄 전환
+ * 청크 하나를 하나의 트랜잭션으로 처리하여 락 보유 시간을 짧게 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCouponExpirationService {
+
+    /** 키셋 커서 시작값 */
+    public static final LocalDateTime INITIAL_EXPIRES_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final long INITIAL_ID = 0L;
+
+    private final UserCouponRepository userCouponRepository;
+    private final UserCouponWalletCache walletCache;
+
+    /**
+     * 커서 (lastExpiresAt, lastId) 이후의 만료 대상을 chunkSize 만큼 조회하여 UPDATE 1회로 만료 처리
+     */
+    @Transactional
+    public ExpireChunkResult expireChunk(LocalDateTime now, LocalDateTime lastExpiresAt, Long lastId, int chunkSize) {
+        List<ExpiredUserCoupon> targets = userCouponRepository.findExpiredAfter(
+            UserCouponStatus.UNUSED, now, lastExpiresAt, lastId, PageRequest.of(0, chunkSize));
+
+        if (targets.isEmpty()) {
+            return new ExpireChunkResult(0, 0, lastExpiresAt, lastId);
+        }
+
+        List<Long> ids = targets.stream().map(ExpiredUserCoupon::id).toList();
+        int expired = userCouponRepository.expireAll(ids, now);
+
+        walletCache.evictAll(targets.stream().map(ExpiredUserCoupon::userId).distinct().toList());
+
+        ExpiredUserCoupon last = targets.get(targets.size() - 1);
+        return new ExpireChunkResult(targets.size(), expired, last.expiresAt(), last.id());
+    }
+
+    public record ExpireChunkResult(
+        int scanned,
+        int expired,
+        LocalDateTime lastExpiresAt,
+        Long lastId
+    ) {
+    }
+}
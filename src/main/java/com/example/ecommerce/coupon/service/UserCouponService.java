@@ -5,10 +5,20 @@ import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.UserCoupon;
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import com.example.ecommerce.coupon.dto.BulkIssueResult;
 import com.example.ecommerce.coupon.dto.UserCouponResponse;
 import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.repository.UserCouponBulkRepository;
 import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,8 +32,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserCouponService {
 
+    private static final List<UserCouponStatus> WALLET_STATUSES =
+        List.of(UserCouponStatus.UNUSED, UserCouponStatus.RESERVED);
+
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final UserCouponBulkRepository userCouponBulkRepository;
+    private final UserCouponWalletCache walletCache;
 
     @DistributedLock(key = "'coupon:lock:' + #couponId", waitTime = 5, leaseTime = 3)
     @Transactional
@@ -47,22 +62,34 @@ public class UserCouponService {
             .build();
 
         UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        walletCache.evict(userId);
 
         log.info("쿠폰 발급 완료 - userCouponId: {}", savedUserCoupon.getId());
 
         return UserCouponResponse.from(savedUserCoupon, coupon);
     }
 
+    /**
+     * 사용 가능한 쿠폰 조회 (user:coupons 캐시)
+     * 캐시 미스 시 쿠폰을 fetch join 으로 함께 조회하여 쿼리 1회로 처리한다.
+     * 만료 처리는 UserCouponExpirationScheduler 가 status 로 반영하므로 status 인덱스로 거르고,
+     * 아직 스윕되지 않은 만료 쿠폰은 canUse 로 한 번 더 거른다.
+     * 캐시에 머무는 동안 유효기간이 지난 쿠폰은 반환 시점에 다시 거른다.
+     */
     @Transactional(readOnly = true)
     public List<UserCouponResponse> getAvailableUserCoupons(Long userId) {
-        List<UserCoupon> userCoupons = userCouponRepository.findByUserId(userId);
+        List<UserCouponResponse> wallet = walletCache.get(userId, () -> loadAvailableUserCoupons(userId));
+
+        LocalDateTime now = LocalDateTime.now();
+        return wallet.stream()
+            .filter(response -> !now.isAfter(response.validUntil()))
+            .collect(Collectors.toList());
+    }
 
-        return userCoupons.stream()
+    private List<UserCouponResponse> loadAvailableUserCoupons(Long userId) {
+        return userCouponRepository.findByUserIdAndStatusInWithCoupon(userId, WALLET_STATUSES).stream()
             .filter(UserCoupon::canUse)
-            .map(userCoupon -> {
-                Coupon coupon = couponRepository.findByIdOrElseThrow(userCoupon.getCoupon().getId());
-                return UserCouponResponse.from(userCoupon, coupon);
-            })
+            .map(userCoupon -> UserCouponResponse.from(userCoupon, userCoupon.getCoupon()))
             .collect(Collectors.toList());
     }
 
@@ -81,6 +108,7 @@ public class UserCouponService {
         // 쿠폰 유효성 검증 및 예약
         userCoupon.reserve();
         userCouponRepository.save(userCoupon);
+        walletCache.evict(userId);
 
         log.info("쿠폰 예약 완료 - userCouponId: {}", userCouponId);
     }
@@ -92,6 +120,7 @@ public class UserCouponService {
 
         userCoupon.use();
         UserCoupon usedCoupon = userCouponRepository.save(userCoupon);
+        walletCache.evict(usedCoupon.getUserId());
 
         Coupon coupon = couponRepository.findByIdOrElseThrow(usedCoupon.getCoupon().getId());
 
@@ -127,9 +156,73 @@ public class UserCouponService {
         // UserCoupon 생성
         UserCoupon userCoupon = UserCoupon.create(userId, coupon);
         UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        walletCache.evict(userId);
 
         log.info("쿠폰 비동기 발급 완료 - userCouponId: {}", savedUserCoupon.getId());
 
         return savedUserCoupon;
     }
+
+    /**
+     * 대기열 배치 벌크 발급
+     * 사용자별 트랜잭션 대신 배치 전체를 한 트랜잭션으로 처리한다.
+     * 1. 중복 체크: 단일 IN 조회
+     * 2. 수량 증가: issued_quantity = issued_quantity + n (1회, 총 수량 초과 시 0 row)
+     * 3. 발급: user_coupons multi-row INSERT (1회)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  대기열에서 추출한 사용자 ID 목록 (FIFO 순서)
+     * @return 사용자별 성공/실패 결과
+     */
+    @Transactional
+    public BulkIssueResult issueCouponsBulk(Long couponId, List<Long> userIds) {
+        log.info("쿠폰 벌크 발급 시작 - couponId: {}, size: {}", couponId, userIds.size());
+
+        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+
+        if (coupon.getStatus() != CouponStatus.ACTIVE) {
+            return BulkIssueResult.allFailed(couponId, userIds, ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+        if (!coupon.isValid()) {
+            return BulkIssueResult.allFailed(couponId, userIds, ErrorCode.COUPON_EXPIRED);
+        }
+
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        Set<Long> alreadyIssued = new HashSet<>(
+            userCouponRepository.findIssuedUserIds(couponId, distinctUserIds));
+
+        int remaining = coupon.getQuantity().getRemainingQuantity();
+        List<Long> candidates = new ArrayList<>();
+        Map<Long, ErrorCode> failures = new LinkedHashMap<>();
+
+        for (Long userId : distinctUserIds) {
+            if (alreadyIssued.contains(userId)) {
+                failures.put(userId, ErrorCode.COUPON_ALREADY_ISSUED);
+            } else if (candidates.size() >= remaining) {
+                failures.put(userId, ErrorCode.COUPON_NOT_AVAILABLE);
+            } else {
+                candidates.add(userId);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return new BulkIssueResult(couponId, List.of(), failures);
+        }
+
+        int updated = couponRepository.increaseIssuedQuantity(couponId, candidates.size());
+        if (updated == 0) {
+            // 다른 트랜잭션이 먼저 수량을 소진한 경우
+            log.warn("벌크 발급 수량 부족 - couponId: {}, requested: {}", couponId, candidates.size());
+            candidates.forEach(userId -> failures.put(userId, ErrorCode.COUPON_NOT_AVAILABLE));
+            return new BulkIssueResult(couponId, List.of(), failures);
+        }
+
+        userCouponBulkRepository.insertAll(couponId, candidates, coupon.getValidPeriod().getValidUntil());
+        walletCache.evictAll(candidates);
+
+        log.info("쿠폰 벌크 발급 완료 - couponId: {}, issued: {}, failed: {}",
+            couponId, candidates.size(), failures.size());
+
+        return new BulkIssueResult(couponId, candidates, failures);
+    }
 }
@@ -0,0 +1,104 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
+import com.example.ecommerce.coupon.dto.UserCouponResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 쿠폰 지갑 캐시 (user:coupons) 및 주문 금액별 쿠폰 추천 캐시 (coupon:recommendations)
+ * 발급, 예약, 사용, 예약 취소 시 해당 사용자의 두 항목을 함께 제거한다.
+ * CacheManager가 transactionAware 이므로 트랜잭션 안에서의 제거는 커밋 이후에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCouponWalletCache {
+
+    public static final String CACHE_NAME = "user:coupons";
+    public static final String RECOMMENDATION_CACHE_NAME = "coupon:recommendations";
+
+    /** 사용자별로 보관하는 주문 금액 수 (초과 시 가장 오래된 금액부터 제거) */
+    private static final int MAX_RECOMMENDATION_AMOUNTS = 16;
+
+    private final CacheManager cacheManager;
+
+    @SuppressWarnings("unchecked")
+    public List<UserCouponResponse> get(Long userId, Supplier<List<UserCouponResponse>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+        return cache.get(userId, loader::get);
+    }
+
+    /**
+     * 주문 금액별 추천 결과 조회
+     * 사용자 키 하나에 금액 → 추천 목록 맵을 저장하여 지갑 변경 시 한 번의 evict 로 무효화한다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<CouponRecommendationResponse> getRecommendations(Long userId, String amountKey,
+                                                                 Supplier<List<CouponRecommendationResponse>> loader) {
+        Cache cache = cacheManager.getCache(RECOMMENDATION_CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        Map<String, List<CouponRecommendationResponse>> byAmount = cache.get(userId, Map.class);
+        if (byAmount != null && byAmount.containsKey(amountKey)) {
+            return byAmount.get(amountKey);
+        }
+
+        List<CouponRecommendationResponse> recommendations = loader.get();
+        put(cache, userId, byAmount, amountKey, recommendations);
+        return recommendations;
+    }
+
+    /**
+     * 주문 금액별 추천 결과 덮어쓰기 (캐시된 추천 중 유효기간이 지난 쿠폰이 있어 다시 계산한 경우)
+     */
+    @SuppressWarnings("unchecked")
+    public void putRecommendations(Long userId, String amountKey, List<CouponRecommendationResponse> recommendations) {
+        Cache cache = cacheManager.getCache(RECOMMENDATION_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        put(cache, userId, cache.get(userId, Map.class), amountKey, recommendations);
+    }
+
+    private void put(Cache cache, Long userId, Map<String, List<CouponRecommendationResponse>> byAmount,
+                     String amountKey, List<CouponRecommendationResponse> recommendations) {
+        Map<String, List<CouponRecommendationResponse>> updated =
+            byAmount != null ? new LinkedHashMap<>(byAmount) : new LinkedHashMap<>();
+        updated.put(amountKey, recommendations);
+        Iterator<String> oldest = updated.keySet().iterator();
+        while (updated.size() > MAX_RECOMMENDATION_AMOUNTS) {
+            oldest.next();
+            oldest.remove();
+        }
+        cache.put(userId, updated);
+    }
+
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    public void evictAll(Collection<Long> userIds) {
+        for (String cacheName : List.of(CACHE_NAME, RECOMMENDATION_CACHE_NAME)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                userIds.forEach(cache::evict);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.ecommerce.order.controller;
 
 import com.example.ecommerce.common.exception.ErrorResponse;
 import com.example.ecommerce.common.dto.PageResponse;
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
 import com.example.ecommerce.order.dto.OrderRequest;
 import com.example.ecommerce.order.dto.OrderResponse;
 import com.example.ecommerce.payment.dto.PaymentRequest;
@@ -13,6 +14,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -20,6 +23,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "주문 및 결제", description = "주문 생성 및 결제 처리 API")
 public interface OrderApi {
 
@@ -168,4 +173,32 @@ public interface OrderApi {
         @Parameter(description = "주문 ID")
         @PathVariable @Positive Long orderId
     );
+
+    @Operation(
+        summary = "주문 쿠폰 추천",
+        description = """
+            주문 금액 기준으로 보유 쿠폰의 할인 금액을 계산하여 높은 순으로 추천합니다.
+            최소 주문 금액을 충족하지 않는 쿠폰은 제외됩니다. 쿠폰을 적용하지는 않습니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "쿠폰 추천 성공",
+            content = @Content(schema = @Schema(implementation = CouponRecommendationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "주문을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/{orderId}/coupon-recommendations")
+    ResponseEntity<List<CouponRecommendationResponse>> recommendCoupons(
+        @Parameter(description = "주문 ID")
+        @PathVariable @Positive Long orderId,
+
+        @Parameter(description = "추천 개수 (최대 20)")
+        @RequestParam(defaultValue = "3") @Min(1) @Max(20) int limit
+    );
 }
@@ -1,13 +1,17 @@
 package com.example.ecommerce.order.controller;
 
 import com.example.ecommerce.common.dto.PageResponse;
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
 import com.example.ecommerce.order.dto.OrderRequest;
 import com.example.ecommerce.order.dto.OrderResponse;
 import com.example.ecommerce.order.orchestrator.OrderCreationOrchestrator;
+import com.example.ecommerce.order.service.OrderService;
 import com.example.ecommerce.payment.dto.PaymentRequest;
 import com.example.ecommerce.payment.dto.PaymentResponse;
 import com.example.ecommerce.payment.orchestrator.PaymentOrchestrator;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +31,7 @@ public class OrderController implements OrderApi {
 
     private final OrderCreationOrchestrator orderCreationOrchestrator;
     private final PaymentOrchestrator paymentOrchestrator;
+    private final OrderService orderService;
 
     @Override
     public ResponseEntity<PageResponse<OrderResponse>> getOrders(
@@ -106,4 +111,13 @@ public class OrderController implements OrderApi {
         // TODO: 서비스 레이어 구현 후 연결
         return ResponseEntity.ok(mockResponse);
     }
+
+    @Override
+    public ResponseEntity<List<CouponRecommendationResponse>> recommendCoupons(
+        @PathVariable @Positive Long orderId,
+        @RequestParam(defaultValue = "3") @Min(1) @Max(20) int limit
+    ) {
+        List<CouponRecommendationResponse> result = orderService.recommendCoupons(orderId, limit);
+        return ResponseEntity.ok(result);
+    }
 }
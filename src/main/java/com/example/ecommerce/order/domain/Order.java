@@ -129,6 +129,19 @@ public class Order extends BaseEntity {
         this.status = OrderStatus.CANCELLED;
     }
 
+    /**
+     * 재고 예약 만료로 주문 취소 (결제 전 주문만)
+     *
+     * @return 취소했으면 true, 이미 결제/취소된 주문이면 false
+     */
+    public boolean expireReservation() {
+        if (this.status != OrderStatus.PENDING && this.status != OrderStatus.PENDING_RESERVATION) {
+            return false;
+        }
+        this.status = OrderStatus.CANCELLED;
+        return true;
+    }
+
     public void failReservation() {
         if (this.status != OrderStatus.PENDING_RESERVATION) {
             throw new IllegalStateException("예약 실패 처리는 PENDING_RESERVATION 상태에서만 가능합니다.");
@@ -5,6 +5,7 @@ import com.example.ecommerce.order.repository.OrderRepository;
 import com.example.ecommerce.payment.event.PaymentCompletedEvent;
 import com.example.ecommerce.payment.event.PaymentFailedEvent;
 import com.example.ecommerce.product.event.ReservationCompletedEvent;
+import com.example.ecommerce.product.event.ReservationExpiredEvent;
 import com.example.ecommerce.product.event.ReservationFailedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -59,6 +60,28 @@ public class OrderEventListener {
         }
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleReservationExpired(ReservationExpiredEvent event) {
+        log.warn("재고 예약 만료 이벤트 수신 - orderId: {}", event.orderId());
+
+        try {
+            Order order = orderRepository.findByIdOrElseThrow(event.orderId());
+            if (!order.expireReservation()) {
+                log.info("결제 전 주문이 아니므로 만료 취소 생략 - orderId: {}, status: {}",
+                    event.orderId(), order.getStatus());
+                return;
+            }
+            orderRepository.save(order);
+
+            log.info("주문 상태 변경 완료 - orderId: {}, status: CANCELLED (예약 만료)", event.orderId());
+        } catch (Exception e) {
+            log.error("주문 상태 변경 실패 - orderId: {}, error: {}",
+                event.orderId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -7,7 +7,10 @@ import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.UserCoupon;
 import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
 import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import com.example.ecommerce.coupon.service.CouponRecommendationService;
+import com.example.ecommerce.coupon.service.UserCouponWalletCache;
 import com.example.ecommerce.order.domain.Order;
 import com.example.ecommerce.order.domain.OrderItem;
 import com.example.ecommerce.order.dto.OrderItemRequest;
@@ -35,6 +38,8 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
+    private final UserCouponWalletCache walletCache;
+    private final CouponRecommendationService couponRecommendationService;
 
     @Transactional
     public Order createOrderEntity(OrderRequest request) {
@@ -94,6 +99,7 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
         userCouponRepository.save(userCoupon);
+        walletCache.evict(order.getUserId());
 
         log.info("쿠폰 적용 완료 - orderId: {}, userCouponId: {}, discountAmount: {}",
             orderId, userCouponId, discountAmount.getAmount());
@@ -101,6 +107,17 @@ public class OrderService {
         return OrderResponse.from(savedOrder);
     }
 
+    /**
+     * 주문 금액 기준 적용 가능한 쿠폰을 할인 금액 순으로 추천 (쓰기 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<CouponRecommendationResponse> recommendCoupons(Long orderId, int limit) {
+        Order order = orderRepository.findByIdOrElseThrow(orderId);
+
+        return couponRecommendationService.recommend(
+            order.getUserId(), order.getTotalAmount(), order.getUserCouponId(), limit);
+    }
+
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long orderId) {
         Order order = orderRepository.findByIdOrElseThrow(orderId);
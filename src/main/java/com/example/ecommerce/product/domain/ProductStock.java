@@ -59,6 +59,21 @@ public class ProductStock extends BaseEntity {
         return this.currentStock.getQuantity() - this.reservedStock >= quantity;
     }
 
+    /**
+     * 버킷 수량을 더한 조회용 재고 (sharded 모드, 영속 상태가 아닌 새 인스턴스)
+     * 버킷의 예약 가능 수량과 예약 수량은 모두 실재고이므로 currentStock 에 더하고, 예약 수량은 reservedStock 에도 더한다.
+     */
+    public ProductStock withBuckets(int bucketAvailable, int bucketReserved) {
+        return ProductStock.builder()
+            .id(getId())
+            .productId(this.productId)
+            .currentStock(this.currentStock.increase(bucketAvailable + bucketReserved))
+            .reservedStock(this.reservedStock + bucketReserved)
+            .createdAt(getCreatedAt())
+            .updatedAt(getUpdatedAt())
+            .build();
+    }
+
     public StockStatus getStockStatus(int threshold) {
         return this.currentStock.getStatus(threshold);
     }
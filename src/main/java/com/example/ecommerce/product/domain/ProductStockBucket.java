@@ -0,0 +1,49 @@
+package com.example.ecommerce.product.domain;
+
+import com.example.ecommerce.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 재고 버킷 (stock.reservation.mode=sharded)
+ * 인기 상품의 가용 재고를 여러 행으로 나눠 예약이 한 행(한 락)에 몰리지 않게 한다.
+ * 상품의 실제 재고는 product_stocks 행과 모든 버킷의 합이다.
+ */
+@Entity
+@Table(name = "product_stock_buckets", indexes = {
+    @Index(name = "uk_product_stock_buckets_product_id_bucket_no", columnList = "product_id, bucket_no", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+public class ProductStockBucket extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    // 예약 가능한 수량
+    @Column(name = "available_stock", nullable = false)
+    private int availableStock;
+
+    // 이 버킷에서 예약되어 확정/해제를 기다리는 수량
+    @Column(name = "reserved_stock", nullable = false)
+    private int reservedStock;
+
+    public static ProductStockBucket create(Long productId, int bucketNo, int availableStock) {
+        return ProductStockBucket.builder()
+            .productId(productId)
+            .bucketNo(bucketNo)
+            .availableStock(availableStock)
+            .reservedStock(0)
+            .build();
+    }
+}
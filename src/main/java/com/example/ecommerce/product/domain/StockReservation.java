@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -14,7 +15,11 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "stock_reservations")
+@Table(name = "stock_reservations", indexes = {
+    @Index(name = "uk_stock_reservations_reservation_key", columnList = "reservation_key", unique = true),
+    @Index(name = "idx_stock_reservations_order_id", columnList = "order_id"),
+    @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -39,6 +44,14 @@ public class StockReservation extends BaseEntity {
     @Column(name = "confirmed_at")
     private LocalDateTime confirmedAt;
 
+    // write-behind 로 저장되는 예약의 멱등 키 (동기 저장 시 null)
+    @Column(name = "reservation_key", length = 36)
+    private String reservationKey;
+
+    // 버킷에서 예약된 경우의 버킷 번호 (sharded 모드, 그 외 null)
+    @Column(name = "bucket_no")
+    private Integer bucketNo;
+
     public static StockReservation create(Long orderId, Long productId, int quantity, LocalDateTime expiresAt) {
         return StockReservation.builder()
             .orderId(orderId)
@@ -49,6 +62,10 @@ public class StockReservation extends BaseEntity {
             .build();
     }
 
+    public boolean isBucketReservation() {
+        return bucketNo != null;
+    }
+
     public LocalDateTime getReservedAt() {
         return getCreatedAt();
     }
@@ -0,0 +1,10 @@
+package com.example.ecommerce.product.dto;
+
+/**
+ * 주문 단위 일괄 예약 항목
+ */
+public record StockReserveItem(
+    Long productId,
+    int quantity
+) {
+}
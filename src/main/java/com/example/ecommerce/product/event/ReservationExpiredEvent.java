@@ -0,0 +1,54 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.common.event.DomainEvent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 재고 예약 만료 이벤트 (결제 전에 예약 유효 시간이 지나 재고가 해제됨)
+ */
+public record ReservationExpiredEvent(
+    String eventId,
+    String eventType,
+    LocalDateTime occurredAt,
+    String aggregateType,
+    Long aggregateId,
+    Long orderId
+) implements DomainEvent {
+
+    public static ReservationExpiredEvent of(Long orderId) {
+        return new ReservationExpiredEvent(
+            UUID.randomUUID().toString(),
+            "ReservationExpired",
+            LocalDateTime.now(),
+            "Order",
+            orderId,
+            orderId
+        );
+    }
+
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+}
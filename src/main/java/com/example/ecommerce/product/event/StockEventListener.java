@@ -5,8 +5,10 @@ import com.example.ecommerce.order.event.OrderCreatedEvent;
 import com.example.ecommerce.payment.event.PaymentCompletedEvent;
 import com.example.ecommerce.payment.event.PaymentFailedEvent;
 import com.example.ecommerce.product.domain.StockReservation;
-import com.example.ecommerce.product.repository.StockReservationRepository;
-import com.example.ecommerce.product.service.StockService;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import com.example.ecommerce.product.service.StockReservationEngine;
+import com.example.ecommerce.product.service.StockReservationExpiryQueue;
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +24,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class StockEventListener {
 
-    private final StockService stockService;
-    private final StockReservationRepository reservationRepository;
+    private final StockReservationEngine reservationEngine;
+    private final StockReservationExpiryQueue expiryQueue;
     private final MessagePublisher eventPublisher;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -32,10 +34,15 @@ public class StockEventListener {
         log.info("재고 예약 시작 - orderId: {}, items: {}", event.aggregateId(), event.orderItems().size());
 
         try {
-            event.orderItems().forEach(item -> {
-                log.debug("재고 예약 - productId: {}, quantity: {}", item.productId(), item.quantity());
-                stockService.reserve(event.aggregateId(), item.productId(), item.quantity());
-            });
+            // 전체 항목을 한 번에 예약 (일부만 예약된 채로 남지 않음)
+            List<StockReserveItem> items = event.orderItems().stream()
+                .map(item -> new StockReserveItem(item.productId(), item.quantity()))
+                .toList();
+            List<StockReservation> reservations = reservationEngine.reserveAll(event.aggregateId(), items);
+            reservations.stream()
+                .map(StockReservation::getExpiresAt)
+                .min(Comparator.naturalOrder())
+                .ifPresent(expiresAt -> expiryQueue.schedule(event.aggregateId(), expiresAt));
 
             log.info("재고 예약 완료 - orderId: {}", event.aggregateId());
 
@@ -58,19 +65,14 @@ public class StockEventListener {
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 이벤트 수신 - 재고 확정 시작, orderId: {}", event.orderId());
 
         try {
-            List<StockReservation> reservations =
-                reservationRepository.findPendingByOrderId(event.orderId());
+            // 주문의 모든 예약을 한 트랜잭션으로 확정 (상품별 UPDATE 1회)
+            reservationEngine.confirmAll(event.orderId());
 
-            reservations.forEach(reservation -> {
-                log.debug("재고 확정 - productId: {}, quantity: {}",
-                    reservation.getProductId(), reservation.getQuantity());
-                stockService.confirmReservation(reservation.getProductId(), reservation.getId());
-            });
+            expiryQueue.cancel(event.orderId());
 
             log.info("재고 확정 완료 - orderId: {}", event.orderId());
 
@@ -82,19 +84,14 @@ public class StockEventListener {
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentFailed(PaymentFailedEvent event) {
         log.warn("결제 실패 이벤트 수신 - 재고 해제 시작, orderId: {}", event.orderId());
 
         try {
-            List<StockReservation> reservations =
-                reservationRepository.findPendingByOrderId(event.orderId());
-
-            reservations.forEach(reservation -> {
-                log.debug("재고 해제 - productId: {}, quantity: {}",
-                    reservation.getProductId(), reservation.getQuantity());
-                stockService.releaseReservation(reservation.getProductId(), reservation.getId());
-            });
+            // 주문의 모든 예약을 한 트랜잭션으로 해제 (상품별 UPDATE 1회)
+            reservationEngine.releaseAll(event.orderId());
+
+            expiryQueue.cancel(event.orderId());
 
             log.info("재고 해제 완료 - orderId: {}", event.orderId());
 
@@ -0,0 +1,63 @@
+package com.example.ecommerce.product.repository;
+
+import com.example.ecommerce.product.domain.ProductStockBucket;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 버킷 수량은 모두 조건부 상대값 UPDATE 로 갱신한다.
+ * 영향받은 행이 0이면 해당 버킷의 수량이 부족한 것이다.
+ */
+public interface JpaProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long>, ProductStockBucketRepository {
+
+    @Override
+    ProductStockBucket save(ProductStockBucket bucket);
+
+    @Override
+    List<ProductStockBucket> findByProductIdOrderByBucketNo(Long productId);
+
+    @Override
+    @Query("SELECT new com.example.ecommerce.product.repository.StockBucketTotals(" +
+        "COUNT(b), COALESCE(SUM(b.availableStock), 0), COALESCE(SUM(b.reservedStock), 0)) " +
+        "FROM ProductStockBucket b WHERE b.productId = :productId")
+    StockBucketTotals findTotals(@Param("productId") Long productId);
+
+    @Override
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b")
+    List<Long> findShardedProductIds();
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.availableStock = b.availableStock - :quantity, " +
+        "b.reservedStock = b.reservedStock + :quantity " +
+        "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.availableStock >= :quantity")
+    int reserve(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.reservedStock = b.reservedStock - :quantity " +
+        "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.reservedStock >= :quantity")
+    int confirmReserved(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.reservedStock = b.reservedStock - :quantity, " +
+        "b.availableStock = b.availableStock + :quantity " +
+        "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.reservedStock >= :quantity")
+    int releaseReserved(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.availableStock = b.availableStock - :quantity " +
+        "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.availableStock >= :quantity")
+    int decreaseAvailable(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.availableStock = b.availableStock + :quantity " +
+        "WHERE b.productId = :productId AND b.bucketNo = :bucketNo")
+    int increaseAvailable(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+}
@@ -4,9 +4,12 @@ import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.ProductStock;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,4 +30,49 @@ public interface JpaProductStockRepository extends JpaRepository<ProductStock, L
             .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    @Override
+    List<ProductStock> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Pageable pageable);
+
+    /**
+     * 엔티티를 읽지 않고 상대값으로 갱신하는 UPDATE
+     * 동시에 실행되어도 서로의 변경을 덮어쓰지 않는다.
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStock ps SET ps.reservedStock = ps.reservedStock + :quantity " +
+        "WHERE ps.productId = :productId")
+    int increaseReservedStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * 가용 재고(current - reserved)가 충분할 때만 reserved 를 늘리는 조건부 UPDATE
+     * 행 잠금만으로 검증과 증가가 원자적으로 처리되며, 영향받은 행이 0이면 재고 부족이다.
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStock ps SET ps.reservedStock = ps.reservedStock + :quantity " +
+        "WHERE ps.productId = :productId AND ps.currentStock.quantity - ps.reservedStock >= :quantity")
+    int reserveIfAvailable(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * 예약되지 않은 재고를 행에서 빼내는 조건부 UPDATE (버킷으로 옮길 때 사용)
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStock ps SET ps.currentStock.quantity = ps.currentStock.quantity - :quantity " +
+        "WHERE ps.productId = :productId AND ps.currentStock.quantity - ps.reservedStock >= :quantity")
+    int decreaseAvailableStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStock ps SET ps.currentStock.quantity = ps.currentStock.quantity - :quantity, " +
+        "ps.reservedStock = ps.reservedStock - :quantity " +
+        "WHERE ps.productId = :productId AND ps.currentStock.quantity >= :quantity")
+    int confirmReservedStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStock ps SET ps.reservedStock = ps.reservedStock - :quantity " +
+        "WHERE ps.productId = :productId")
+    int releaseReservedStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
 }
@@ -4,9 +4,14 @@ import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.StockReservation;
 import com.example.ecommerce.product.domain.status.ReservationStatus;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -25,7 +30,52 @@ public interface JpaStockReservationRepository extends JpaRepository<StockReserv
     @Query("SELECT sr FROM StockReservation sr WHERE sr.orderId = :orderId AND sr.status = 'RESERVED'")
     List<StockReservation> findPendingByOrderId(@Param("orderId") Long orderId);
 
+    /**
+     * 주문의 RESERVED 예약을 행 잠금과 함께 조회 (일괄 확정/해제 중 개별 확정/해제와 겹치지 않도록)
+     */
     @Override
-    @Query("SELECT sr FROM StockReservation sr WHERE sr.expiresAt < :time AND sr.status = 'RESERVED'")
-    List<StockReservation> findExpiredReservations(@Param("time") LocalDateTime time);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sr FROM StockReservation sr WHERE sr.orderId = :orderId AND sr.status = 'RESERVED' " +
+        "ORDER BY sr.id")
+    List<StockReservation> findPendingByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    @Override
+    boolean existsByOrderId(Long orderId);
+
+    @Override
+    boolean existsByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+    @Override
+    @Query("SELECT sr FROM StockReservation sr WHERE sr.expiresAt < :time AND sr.status = 'RESERVED' " +
+        "ORDER BY sr.expiresAt")
+    List<StockReservation> findExpiredReservations(@Param("time") LocalDateTime time, Pageable pageable);
+
+    @Override
+    @Query("SELECT sr FROM StockReservation sr WHERE sr.orderId IN :orderIds AND sr.expiresAt < :time " +
+        "AND sr.status = 'RESERVED'")
+    List<StockReservation> findExpiredByOrderIds(@Param("orderIds") Collection<Long> orderIds,
+                                                 @Param("time") LocalDateTime time);
+
+    @Override
+    @Query("SELECT sr.reservationKey FROM StockReservation sr WHERE sr.reservationKey IN :reservationKeys")
+    List<String> findExistingReservationKeys(@Param("reservationKeys") Collection<String> reservationKeys);
+
+    /**
+     * RESERVED 상태일 때만 상태 변경 (중복 확정/해제 방지)
+     */
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StockReservation sr SET sr.status = :status, sr.confirmedAt = :confirmedAt " +
+        "WHERE sr.id = :id AND sr.status = com.example.ecommerce.product.domain.status.ReservationStatus.RESERVED")
+    int updateStatusIfReserved(@Param("id") Long id,
+                               @Param("status") ReservationStatus status,
+                               @Param("confirmedAt") LocalDateTime confirmedAt);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StockReservation sr SET sr.status = :status, sr.confirmedAt = :confirmedAt " +
+        "WHERE sr.id IN :ids AND sr.status = com.example.ecommerce.product.domain.status.ReservationStatus.RESERVED")
+    int updateStatusIfReserved(@Param("ids") Collection<Long> ids,
+                               @Param("status") ReservationStatus status,
+                               @Param("confirmedAt") LocalDateTime confirmedAt);
 }
@@ -0,0 +1,27 @@
+package com.example.ecommerce.product.repository;
+
+import com.example.ecommerce.product.domain.ProductStockBucket;
+import java.util.List;
+
+public interface ProductStockBucketRepository {
+
+    ProductStockBucket save(ProductStockBucket bucket);
+
+    List<ProductStockBucket> findByProductIdOrderByBucketNo(Long productId);
+
+    StockBucketTotals findTotals(Long productId);
+
+    List<Long> findShardedProductIds();
+
+    int reserve(Long productId, int bucketNo, int quantity);
+
+    int confirmReserved(Long productId, int bucketNo, int quantity);
+
+    int releaseReserved(Long productId, int bucketNo, int quantity);
+
+    int decreaseAvailable(Long productId, int bucketNo, int quantity);
+
+    int increaseAvailable(Long productId, int bucketNo, int quantity);
+
+    void deleteAllInBatch();
+}
@@ -1,7 +1,9 @@
 package com.example.ecommerce.product.repository;
 
 import com.example.ecommerce.product.domain.ProductStock;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 
 public interface ProductStockRepository {
     ProductStock save(ProductStock productStock);
@@ -12,5 +14,17 @@ public interface ProductStockRepository {
 
     ProductStock findByIdOrElseThrow(Long id);
 
+    List<ProductStock> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Pageable pageable);
+
+    int increaseReservedStock(Long productId, int quantity);
+
+    int reserveIfAvailable(Long productId, int quantity);
+
+    int decreaseAvailableStock(Long productId, int quantity);
+
+    int confirmReservedStock(Long productId, int quantity);
+
+    int releaseReservedStock(Long productId, int quantity);
+
     void deleteAllInBatch();
 }
@@ -0,0 +1,15 @@
+package com.example.ecommerce.product.repository;
+
+/**
+ * 상품의 버킷 합계
+ *
+ * @param buckets   버킷 수 (0이면 샤딩되지 않은 상품)
+ * @param available 버킷 전체의 예약 가능 수량
+ * @param reserved  버킷 전체의 예약 수량
+ */
+public record StockBucketTotals(long buckets, long available, long reserved) {
+
+    public boolean isSharded() {
+        return buckets > 0;
+    }
+}
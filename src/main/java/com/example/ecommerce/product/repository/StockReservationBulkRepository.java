@@ -0,0 +1,58 @@
+package com.example.ecommerce.product.repository;
+
+import com.example.ecommerce.product.domain.StockReservation;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * StockReservation 벌크 저장 전용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate 배치 INSERT가 동작하지 않으므로 multi-row INSERT를 직접 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationBulkRepository {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO stock_reservations " +
+            "(order_id, product_id, quantity, status, expires_at, reservation_key, created_at, updated_at) VALUES ";
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약 목록을 단일 multi-row INSERT로 저장
+     *
+     * @param reservations 저장할 예약 (id 미할당)
+     * @return 저장된 row 수
+     */
+    public int insertAll(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        sql.append(String.join(", ", Collections.nCopies(reservations.size(), INSERT_VALUES)));
+
+        List<Object> params = new ArrayList<>(reservations.size() * 8);
+        for (StockReservation reservation : reservations) {
+            params.add(reservation.getOrderId());
+            params.add(reservation.getProductId());
+            params.add(reservation.getQuantity());
+            params.add(reservation.getStatus().name());
+            params.add(reservation.getExpiresAt() != null ? Timestamp.valueOf(reservation.getExpiresAt()) : null);
+            params.add(reservation.getReservationKey());
+            params.add(now);
+            params.add(now);
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.ecommerce.product.repository;
 
 import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 
 public interface StockReservationRepository {
 
@@ -12,7 +15,21 @@ public interface StockReservationRepository {
 
     List<StockReservation> findPendingByOrderId(Long orderId);
 
-    List<StockReservation> findExpiredReservations(LocalDateTime time);
+    List<StockReservation> findPendingByOrderIdForUpdate(Long orderId);
+
+    boolean existsByOrderId(Long orderId);
+
+    boolean existsByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+    List<StockReservation> findExpiredReservations(LocalDateTime time, Pageable pageable);
+
+    List<StockReservation> findExpiredByOrderIds(Collection<Long> orderIds, LocalDateTime time);
+
+    List<String> findExistingReservationKeys(Collection<String> reservationKeys);
+
+    int updateStatusIfReserved(Long id, ReservationStatus status, LocalDateTime confirmedAt);
+
+    int updateStatusIfReserved(Collection<Long> ids, ReservationStatus status, LocalDateTime confirmedAt);
 
     void deleteAllInBatch();
 }
@@ -0,0 +1,53 @@
+package com.example.ecommerce.product.scheduler;
+
+import com.example.ecommerce.product.service.ProductDetailCache;
+import com.example.ecommerce.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 상세 캐시 갱신 스케줄러
+ * 재고 확정 등으로 갱신 대상이 된 상품을 모아 DB 값으로 캐시를 덮어쓴다.
+ * 같은 상품의 여러 번 확정은 한 번의 갱신으로 합쳐지며, 꺼내기가 원자적이라 모든 노드가 락 없이 함께 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCacheRefreshScheduler {
+
+    private final ProductDetailCache detailCache;
+    private final ProductService productService;
+
+    @Value("${product.detail-cache.refresh-batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${product.detail-cache.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Scheduled(fixedDelayString = "${product.detail-cache.refresh-interval-ms:500}")
+    public void refresh() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> productIds = detailCache.claimStale(batchSize);
+            if (productIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                productService.refreshProductDetails(productIds);
+            } catch (Exception e) {
+                log.error("상품 상세 캐시 갱신 실패 - products: {}", productIds.size(), e);
+                detailCache.markStale(productIds);
+                return;
+            }
+
+            if (productIds.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ecommerce.product.scheduler;
+
+import com.example.ecommerce.product.repository.ProductStockBucketRepository;
+import com.example.ecommerce.product.service.StockBucketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 버킷 재분배 스케줄러 (stock.reservation.mode=sharded)
+ * 예약이 몰려 비어 가는 버킷에 다른 버킷의 재고를 나눠 주어, 예약이 다른 버킷으로 넘어가거나
+ * 버킷 모으기(consolidate)로 빠지는 경우를 줄인다. 락을 잡은 한 노드만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "sharded")
+public class StockBucketRebalanceScheduler {
+
+    private static final String REBALANCE_LOCK_KEY = "stock:bucket:rebalance:lock";
+
+    private final StockBucketService bucketService;
+    private final ProductStockBucketRepository bucketRepository;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sharded.rebalance-interval-ms:1000}")
+    public void rebalance() {
+        RLock lock = redissonClient.getLock(REBALANCE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            int moved = 0;
+            for (Long productId : bucketRepository.findShardedProductIds()) {
+                try {
+                    moved += bucketService.rebalance(productId);
+                } catch (Exception e) {
+                    log.error("재고 버킷 재분배 실패 - productId: {}", productId, e);
+                }
+            }
+
+            if (moved > 0) {
+                log.debug("재고 버킷 재분배 완료 - moved: {}", moved);
+            }
+
+        } finally {
+            lock.unlock();
+        }
+    }
+}
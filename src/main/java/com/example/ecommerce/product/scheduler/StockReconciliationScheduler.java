@@ -0,0 +1,79 @@
+package com.example.ecommerce.product.scheduler;
+
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.service.StockRedisService;
+import com.example.ecommerce.product.service.StockRedisService.StockReconciliation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 재고 보정 스케줄러 (stock.reservation.mode=redis)
+ * 확정/해제는 DB 커밋 뒤 Redis 에 반영하므로, 반영이 실패하면 stock:{productId} 의 reserved 가 어긋난 채 남는다.
+ * 상품을 ID 커서로 BATCH_SIZE개씩 순회하며 DB 재고 + 반영 대기 예약 기준으로 보정한다.
+ * write-behind 반영과 같은 락을 잡아, 큐 항목이 DB 로 옮겨지는 도중의 값을 읽지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "redis")
+public class StockReconciliationScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ProductStockRepository stockRepository;
+    private final StockRedisService stockRedisService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(StockRedisService.WRITE_BEHIND_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            long cursor = stockRedisService.getReconcileCursor();
+            List<ProductStock> stocks = stockRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                cursor, PageRequest.of(0, BATCH_SIZE));
+
+            int repaired = 0;
+            for (ProductStock stock : stocks) {
+                StockReconciliation result = stockRedisService.reconcile(
+                    stock.getProductId(), stock.getCurrentStock().getQuantity(), stock.getReservedStock());
+
+                if (result == null || !result.drifted()) {
+                    continue;
+                }
+                if (result.repaired()) {
+                    repaired++;
+                    log.warn("Redis 재고 보정 - productId: {}, current: {} -> {}, reserved: {} -> {}, pending: {}",
+                        stock.getProductId(), result.current(), result.expectedCurrent(),
+                        result.reserved(), result.expectedReserved(), result.pending());
+                } else {
+                    log.info("Redis 재고 차이 관측, 다음 실행에서 재확인 - productId: {}, reserved: {}, expected: {}",
+                        stock.getProductId(), result.reserved(), result.expectedReserved());
+                }
+            }
+
+            // 끝에 도달하면 처음부터 다시
+            long nextCursor = stocks.size() < BATCH_SIZE ? 0L : stocks.get(stocks.size() - 1).getProductId();
+            stockRedisService.setReconcileCursor(nextCursor);
+
+            log.debug("Redis 재고 보정 완료 - checked: {}, repaired: {}, cursor: {}", stocks.size(), repaired, nextCursor);
+
+        } catch (Exception e) {
+            log.error("Redis 재고 보정 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
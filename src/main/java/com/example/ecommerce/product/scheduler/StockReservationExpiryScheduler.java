@@ -0,0 +1,95 @@
+package com.example.ecommerce.product.scheduler;
+
+import com.example.ecommerce.product.service.StockReservationExpiryQueue;
+import com.example.ecommerce.product.service.StockReservationExpiryService;
+import com.example.ecommerce.product.service.StockReservationExpiryService.ExpireResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 예약 만료 스케줄러
+ *
+ * - 지연 큐: 짧은 주기로 만료 시각이 지난 주문을 꺼내 청크 단위로 해제한다 (만료 후 수 초 안에 재고 복구).
+ *   꺼내기 자체가 원자적이라 모든 노드가 락 없이 함께 처리하며, 해제에 실패한 주문은 잠시 뒤 다시 넣는다.
+ * - 백스톱: 큐 등록 실패나 Redis 유실로 남은 만료 예약을 DB 에서 오래된 순으로 청크 단위로 해제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationExpiryScheduler {
+
+    private static final String BACKSTOP_LOCK_KEY = "stock:reservation:expiry:backstop:lock";
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    private final StockReservationExpiryQueue expiryQueue;
+    private final StockReservationExpiryService expiryService;
+    private final RedissonClient redissonClient;
+
+    @Value("${stock.reservation.expiry.chunk-size:200}")
+    private int chunkSize = 200;
+
+    @Value("${stock.reservation.expiry.max-chunks-per-run:50}")
+    private int maxChunksPerRun = 50;
+
+    @Value("${stock.reservation.expiry.backstop-grace-seconds:60}")
+    private long backstopGraceSeconds = 60;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.expiry.interval-ms:1000}")
+    public void expireDue() {
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> orderIds = expiryQueue.claimDue(now, chunkSize);
+            if (orderIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                ExpireResult result = expiryService.expireOrders(orderIds, now);
+                if (result.hasFailure()) {
+                    // 해제는 예약별 상태 조건부라 같은 주문을 다시 처리해도 중복 해제되지 않는다
+                    expiryQueue.scheduleAll(orderIds, now.plusSeconds(RETRY_DELAY_SECONDS));
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("만료 예약 처리 실패 - orders: {}", orderIds.size(), e);
+                expiryQueue.scheduleAll(orderIds, now.plusSeconds(RETRY_DELAY_SECONDS));
+                return;
+            }
+
+            if (orderIds.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reservation.expiry.backstop-interval-ms:60000}")
+    public void sweepBackstop() {
+        RLock lock = redissonClient.getLock(BACKSTOP_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusSeconds(backstopGraceSeconds);
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                ExpireResult result = expiryService.expireOldest(threshold, chunkSize);
+                if (result.reservations() < chunkSize || result.hasFailure()) {
+                    break;
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("만료 예약 백스톱 처리 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ecommerce.product.scheduler;
+
+import com.example.ecommerce.product.service.StockRedisService;
+import com.example.ecommerce.product.service.StockRedisService.WriteBehindEntry;
+import com.example.ecommerce.product.service.StockReservationWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 예약 write-behind 스케줄러 (stock.reservation.mode=redis)
+ * Redis 에 먼저 반영된 예약을 배치 단위로 DB 에 저장한다.
+ * 락을 잡은 한 노드만 처리하며, 락을 잡을 때 이전 보유자가 남긴 processing 항목을 큐로 되돌린다.
+ * 확정/해제 경로가 주문 항목을 직접 반영할 때도 같은 락을 잡는다 (RedisStockReservationEngine).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "redis")
+public class StockWriteBehindScheduler {
+
+    private final StockRedisService stockRedisService;
+    private final StockReservationWriter reservationWriter;
+    private final RedissonClient redissonClient;
+
+    @Value("${stock.reservation.write-behind.batch-size:500}")
+    private int batchSize = 500;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.write-behind.interval-ms:100}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(StockRedisService.WRITE_BEHIND_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            long recovered = stockRedisService.recoverWriteBehind();
+            if (recovered > 0) {
+                log.warn("write-behind 처리 중 항목 복구 - count: {}", recovered);
+            }
+
+            int flushed = 0;
+            List<WriteBehindEntry> entries;
+            do {
+                entries = stockRedisService.claimWriteBehind(batchSize);
+                if (entries.isEmpty()) {
+                    break;
+                }
+                flushed += reservationWriter.flush(entries);
+                stockRedisService.ackWriteBehind(entries);
+            } while (entries.size() == batchSize);
+
+            if (flushed > 0) {
+                log.debug("재고 예약 write-behind 반영 - count: {}", flushed);
+            }
+
+        } catch (Exception e) {
+            // processing 항목은 다음 실행에서 복구되어 다시 반영된다 (reservationKey 로 멱등)
+            log.error("재고 예약 write-behind 반영 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.LockTimeoutException;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 결합 기반 재고 예약 엔진 (stock.reservation.mode=batch)
+ *
+ * 단일 상품 예약은 StockReservationCombiner 로 모아 상품당 락/트랜잭션 1회로 반영한다.
+ * 여러 상품을 함께 예약해야 하는 주문과 확정/해제는 기존 분산락 경로(StockService)를 그대로 사용한다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "batch")
+public class BatchingStockReservationEngine implements StockReservationEngine {
+
+    private final StockReservationCombiner combiner;
+    private final StockService stockService;
+
+    @Value("${stock.reservation.batch.await-timeout-ms:35000}")
+    private long awaitTimeoutMillis = 35000L;
+
+    @Override
+    public StockReservation reserve(Long orderId, Long productId, int quantity) {
+        return await(combiner.submit(orderId, productId, quantity));
+    }
+
+    @Override
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        if (items.size() == 1) {
+            StockReserveItem item = items.get(0);
+            return List.of(reserve(orderId, item.productId(), item.quantity()));
+        }
+        return stockService.reserveAll(orderId, items);
+    }
+
+    @Override
+    public void confirmReservation(Long productId, Long reservationId) {
+        stockService.confirmReservation(productId, reservationId);
+    }
+
+    @Override
+    public void releaseReservation(Long productId, Long reservationId) {
+        stockService.releaseReservation(productId, reservationId);
+    }
+
+    @Override
+    public void confirmAll(Long orderId) {
+        stockService.confirmAll(orderId);
+    }
+
+    @Override
+    public void releaseAll(Long orderId) {
+        stockService.releaseAll(orderId);
+    }
+
+    @Override
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        return stockService.releaseExpired(productId, reservations);
+    }
+
+    /**
+     * 배치 반영 결과 대기
+     * 시간을 넘기면 future 를 실패로 완료하므로, 아직 반영 전이면 결합기가 해당 요청을 건너뛴다.
+     */
+    private StockReservation await(CompletableFuture<StockReservation> future) {
+        try {
+            return future.orTimeout(awaitTimeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new LockTimeoutException("재고 예약 대기 시간을 초과했습니다.");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조건부 UPDATE 기반 재고 예약 엔진 (stock.reservation.mode=conditional)
+ *
+ * 분산락 없이 가용 재고 검증과 reserved 증가를 UPDATE 한 문장으로 처리하고 영향받은 행 수로 성공 여부를 판단한다.
+ * 동시 요청은 DB 행 잠금으로만 직렬화되므로 Redisson 왕복과 락 대기가 없다.
+ * 확정/해제도 StockReservationWriter 의 상태 조건부 UPDATE + 상대값 UPDATE 로 락 없이 처리한다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "conditional")
+public class ConditionalStockReservationEngine implements StockReservationEngine {
+
+    private static final int RESERVATION_TIME_THRESHOLD = 10;
+
+    private final ProductStockRepository stockRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockReservationWriter reservationWriter;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StockReservation reserve(Long orderId, Long productId, int quantity) {
+        if (stockRepository.reserveIfAvailable(productId, quantity) == 0) {
+            throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+
+        return reservationRepository.save(StockReservation.create(
+            orderId,
+            productId,
+            quantity,
+            LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD)
+        ));
+    }
+
+    /**
+     * 주문 항목 전체를 하나의 트랜잭션으로 예약
+     * 상품별 수량을 합산해 상품 ID 순서로 갱신하므로 주문 간 행 잠금 순서가 같아 교착이 생기지 않는다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        items.forEach(item -> quantityByProduct.merge(item.productId(), item.quantity(), Integer::sum));
+
+        quantityByProduct.forEach((productId, quantity) -> {
+            if (stockRepository.reserveIfAvailable(productId, quantity) == 0) {
+                throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        });
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD);
+        List<StockReservation> reservations = new ArrayList<>(items.size());
+        for (StockReserveItem item : items) {
+            reservations.add(reservationRepository.save(
+                StockReservation.create(orderId, item.productId(), item.quantity(), expiresAt)));
+        }
+        return reservations;
+    }
+
+    @Override
+    public void confirmReservation(Long productId, Long reservationId) {
+        reservationWriter.confirm(productId, reservationId);
+    }
+
+    @Override
+    public void releaseReservation(Long productId, Long reservationId) {
+        reservationWriter.release(productId, reservationId);
+    }
+
+    @Override
+    public void confirmAll(Long orderId) {
+        reservationWriter.confirmAll(orderId);
+    }
+
+    @Override
+    public void releaseAll(Long orderId) {
+        reservationWriter.releaseAll(orderId);
+    }
+
+    @Override
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        return reservationWriter.releaseExpired(productId, reservations);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.product.dto.ProductDetailResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 캐시 (product:detail)
+ *
+ * 조회는 캐시에서 응답하고 미스일 때만 DB 에서 읽어 채운다.
+ * 재고 확정처럼 상세 응답(재고량/재고 상태)을 바꾸는 쓰기는 커밋 후 상품을 갱신 대상(Redis SET)으로 표시하고,
+ * ProductDetailCacheRefreshScheduler 가 모아서 DB 에서 다시 읽어 덮어쓴다.
+ * 제거가 아니라 덮어쓰기이므로 인기 상품도 조회가 DB 로 새지 않으며, 재고 반영 지연은 갱신 주기로 제한된다.
+ * 갱신 표시가 유실되더라도 TTL 이 지나면 다시 읽어 온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache {
+
+    public static final String CACHE_NAME = "product:detail";
+    private static final String STALE_KEY = "product:detail:stale";
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductDetailResponse get(Long productId, Supplier<ProductDetailResponse> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        ProductDetailResponse cached = cache.get(productId, ProductDetailResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 없는 상품의 CustomException 이 그대로 전달되도록 Cache.get(key, loader) 대신 직접 채운다
+        ProductDetailResponse loaded = loader.get();
+        cache.put(productId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 상세 응답 기록 (CacheManager 가 transactionAware 이므로 트랜잭션 안이면 커밋 후 반영)
+     */
+    public void put(ProductDetailResponse response) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(response.id(), response);
+        }
+    }
+
+    public void evict(Long productId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(productId);
+        }
+    }
+
+    public void markStale(Long productId) {
+        markStale(List.of(productId));
+    }
+
+    /**
+     * 상품 상세 갱신 대상으로 표시
+     * 트랜잭션 안에서 호출되면 커밋 후에 표시해, 갱신이 커밋 전 값을 읽어 가지 않게 한다.
+     */
+    public void markStale(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> pending = List.copyOf(productIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addStale(pending);
+                }
+            });
+            return;
+        }
+
+        addStale(productIds);
+    }
+
+    /**
+     * 갱신 대상 상품을 최대 limit 개 꺼냄 (SPOP 이라 여러 노드가 동시에 꺼내도 중복되지 않음)
+     */
+    public List<Long> claimStale(int limit) {
+        try {
+            List<String> members = redisTemplate.opsForSet().pop(STALE_KEY, limit);
+            if (members == null || members.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> productIds = new ArrayList<>(members.size());
+            for (String member : members) {
+                productIds.add(Long.parseLong(member));
+            }
+            return productIds;
+
+        } catch (Exception e) {
+            log.error("상품 상세 갱신 대상 조회 실패", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void addStale(Collection<Long> productIds) {
+        try {
+            redisTemplate.opsForSet().add(STALE_KEY, productIds.stream().map(String::valueOf).toArray(String[]::new));
+        } catch (Exception e) {
+            // 표시에 실패해도 TTL 이 지나면 다시 읽어 온다
+            log.error("상품 상세 갱신 표시 실패 - productIds: {}", productIds, e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.ecommerce.product.service;
 
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.Product;
 import com.example.ecommerce.product.domain.ProductPopular;
 import com.example.ecommerce.product.domain.ProductStock;
@@ -11,32 +13,56 @@ import com.example.ecommerce.product.dto.ProductRequest;
 import com.example.ecommerce.product.dto.ProductResponse;
 import com.example.ecommerce.product.repository.ProductPopularRepository;
 import com.example.ecommerce.product.repository.ProductRepository;
+import com.example.ecommerce.product.repository.ProductStockBucketRepository;
 import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockBucketTotals;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductService {
 
     private static final int LOW_STOCK_THRESHOLD = 10;
 
     private final ProductRepository productRepository;
     private final ProductStockRepository stockRepository;
+    private final ProductStockBucketRepository bucketRepository;
     private final ProductPopularRepository popularRepository;
     private final ProductSalesRedisService salesRedisService;
+    private final ProductDetailCache detailCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProductService(
+        ProductRepository productRepository,
+        ProductStockRepository stockRepository,
+        ProductStockBucketRepository bucketRepository,
+        ProductPopularRepository popularRepository,
+        ProductSalesRedisService salesRedisService,
+        ProductDetailCache detailCache,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.stockRepository = stockRepository;
+        this.bucketRepository = bucketRepository;
+        this.popularRepository = popularRepository;
+        this.salesRedisService = salesRedisService;
+        this.detailCache = detailCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public ProductDetailResponse createProduct(ProductRequest input) {
@@ -50,7 +76,9 @@ public class ProductService {
         ProductStock savedProductStock = stockRepository.save(productStock);
         StockStatus status = productStock.getStockStatus(LOW_STOCK_THRESHOLD);
 
-        return ProductDetailResponse.from(savedProduct, status, savedProductStock);
+        ProductDetailResponse response = ProductDetailResponse.from(savedProduct, status, savedProductStock);
+        detailCache.put(response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -59,12 +87,52 @@ public class ProductService {
         return products.map(ProductResponse::from);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 상품 상세 조회 (캐시 적중 시 DB 를 거치지 않도록 트랜잭션을 열지 않는다)
+     */
     public ProductDetailResponse getProductDetail(Long id){
-        Product result = productRepository.findByIdOrElseThrow(id);
-        ProductStock stock = stockRepository.findByIdOrElseThrow(id);
-        StockStatus status = stock.getStockStatus(LOW_STOCK_THRESHOLD);
-        return ProductDetailResponse.from(result, status, stock);
+        return detailCache.get(id, () -> loadProductDetail(id));
+    }
+
+    /**
+     * 갱신 대상으로 표시된 상품의 상세 캐시를 DB 값으로 덮어쓴다.
+     * 삭제된 상품은 캐시에서 제거한다.
+     */
+    public void refreshProductDetails(List<Long> productIds) {
+        for (Long productId : productIds) {
+            try {
+                detailCache.put(loadProductDetail(productId));
+            } catch (CustomException e) {
+                if (e.getErrorCode() != ErrorCode.PRODUCT_NOT_FOUND) {
+                    throw e;
+                }
+                detailCache.evict(productId);
+            }
+        }
+    }
+
+    /**
+     * 캐시 미스/갱신 시 DB 조회
+     * product_stocks 와 버킷 합계를 같은 읽기 전용 트랜잭션(같은 스냅샷)에서 읽어, 그 사이 확정된 재고가 섞이지 않게 한다.
+     */
+    private ProductDetailResponse loadProductDetail(Long id) {
+        return readOnlyTransaction.execute(status -> {
+            Product result = productRepository.findByIdOrElseThrow(id);
+            ProductStock stock = withBuckets(stockRepository.findByIdOrElseThrow(id));
+            StockStatus stockStatus = stock.getStockStatus(LOW_STOCK_THRESHOLD);
+            return ProductDetailResponse.from(result, stockStatus, stock);
+        });
+    }
+
+    /**
+     * 버킷으로 분할된 상품은 버킷 합계를 더해 정확한 재고를 만든다.
+     */
+    private ProductStock withBuckets(ProductStock stock) {
+        StockBucketTotals totals = bucketRepository.findTotals(stock.getProductId());
+        if (totals == null || !totals.isSharded()) {
+            return stock;
+        }
+        return stock.withBuckets((int) totals.available(), (int) totals.reserved());
     }
 
     @Cacheable(value = "product:popular", key = "#limit")
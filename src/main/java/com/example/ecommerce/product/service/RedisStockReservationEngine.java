@@ -0,0 +1,190 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.service.StockRedisService.ReserveResult;
+import com.example.ecommerce.product.service.StockRedisService.WriteBehindEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Lua 기반 재고 예약 엔진 (stock.reservation.mode=redis)
+ *
+ * 예약은 분산락/DB 트랜잭션 없이 Redis 스크립트 1회로 끝나고, 예약 행과 reserved_stock 증가는
+ * write-behind 큐를 통해 StockWriteBehindScheduler 가 묶어서 DB 에 반영한다.
+ * 따라서 반환되는 StockReservation 은 아직 저장되지 않은 상태(id 없음)이다.
+ * 확정/해제는 DB 를 먼저 상대값으로 갱신하고, 커밋된 뒤 Redis 에 반영한다.
+ * 주문 단위 확정/해제는 아직 write-behind 로 저장되지 않은 그 주문의 예약을 먼저 DB 에 반영한다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "redis")
+public class RedisStockReservationEngine implements StockReservationEngine {
+
+    private static final int RESERVATION_TIME_THRESHOLD = 10;
+
+    private final StockRedisService stockRedisService;
+    private final StockReservationWriter reservationWriter;
+    private final ProductStockRepository stockRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${stock.reservation.write-behind.flush-wait-ms:3000}")
+    private long flushWaitMillis = 3000L;
+
+    @Override
+    public StockReservation reserve(Long orderId, Long productId, int quantity) {
+        WriteBehindEntry entry = new WriteBehindEntry(
+            UUID.randomUUID().toString(),
+            orderId,
+            productId,
+            quantity,
+            LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD)
+        );
+
+        ReserveResult result = stockRedisService.reserve(entry);
+        if (result == ReserveResult.NOT_LOADED) {
+            loadStock(productId);
+            result = stockRedisService.reserve(entry);
+        }
+
+        validateResult(result);
+        return toReservation(entry);
+    }
+
+    /**
+     * 주문 항목 전체를 스크립트 1회로 예약 (전부 성공 또는 전부 실패)
+     */
+    @Override
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD);
+        List<WriteBehindEntry> entries = items.stream()
+            .map(item -> new WriteBehindEntry(
+                UUID.randomUUID().toString(), orderId, item.productId(), item.quantity(), expiresAt))
+            .toList();
+
+        ReserveResult result = stockRedisService.reserveAll(entries);
+        if (result == ReserveResult.NOT_LOADED) {
+            items.stream().map(StockReserveItem::productId).distinct().forEach(this::loadStock);
+            result = stockRedisService.reserveAll(entries);
+        }
+
+        validateResult(result);
+        return entries.stream().map(this::toReservation).toList();
+    }
+
+    @Override
+    public void confirmReservation(Long productId, Long reservationId) {
+        int quantity = reservationWriter.confirm(productId, reservationId);
+        if (quantity > 0) {
+            stockRedisService.confirm(productId, quantity);
+        }
+    }
+
+    @Override
+    public void releaseReservation(Long productId, Long reservationId) {
+        int quantity = reservationWriter.release(productId, reservationId);
+        if (quantity > 0) {
+            stockRedisService.release(productId, quantity);
+        }
+    }
+
+    @Override
+    public void confirmAll(Long orderId) {
+        flushPending(orderId);
+        reservationWriter.confirmAll(orderId).forEach(stockRedisService::confirm);
+    }
+
+    @Override
+    public void releaseAll(Long orderId) {
+        flushPending(orderId);
+        reservationWriter.releaseAll(orderId).forEach(stockRedisService::release);
+    }
+
+    @Override
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        int quantity = reservationWriter.releaseExpired(productId, reservations);
+        if (quantity > 0) {
+            stockRedisService.release(productId, quantity);
+        }
+        return quantity;
+    }
+
+    /**
+     * 주문의 write-behind 대기 예약을 DB 에 먼저 반영
+     * 예약 직후 결제 완료/실패가 도착하면 DB 에 예약 행이 없어 확정/해제가 비고, 만료 처리가 결제된 주문을 해제하게 된다.
+     * 스케줄러와 같은 락 안에서 이 주문 항목만 반영하며, 이미 반영된 항목은 reservationKey 로 건너뛴다.
+     */
+    private void flushPending(Long orderId) {
+        List<WriteBehindEntry> pending = stockRedisService.getPendingWriteBehind(orderId);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(StockRedisService.WRITE_BEHIND_LOCK_KEY);
+        try {
+            if (!lock.tryLock(flushWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 예약 반영 대기 시간을 초과했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 예약 반영 대기 중 중단되었습니다.");
+        }
+
+        try {
+            int flushed = reservationWriter.flush(pending);
+            stockRedisService.removePendingWriteBehind(orderId, pending);
+            log.debug("주문 write-behind 선반영 - orderId: {}, pending: {}, inserted: {}",
+                orderId, pending.size(), flushed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void validateResult(ReserveResult result) {
+        if (result == ReserveResult.OUT_OF_STOCK) {
+            throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+        if (result != ReserveResult.RESERVED) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 예약 처리에 실패했습니다.");
+        }
+    }
+
+    private StockReservation toReservation(WriteBehindEntry entry) {
+        return StockReservation.builder()
+            .orderId(entry.orderId())
+            .productId(entry.productId())
+            .quantity(entry.quantity())
+            .status(ReservationStatus.RESERVED)
+            .expiresAt(entry.expiresAt())
+            .reservationKey(entry.reservationKey())
+            .build();
+    }
+
+    private void loadStock(Long productId) {
+        ProductStock stock = stockRepository.findByProductId(productId)
+            .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        if (stockRedisService.load(productId, stock.getCurrentStock().getQuantity(), stock.getReservedStock())) {
+            log.info("재고 Redis 적재 - productId: {}, current: {}, reserved: {}",
+                productId, stock.getCurrentStock().getQuantity(), stock.getReservedStock());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버킷 분할 재고 예약 엔진 (stock.reservation.mode=sharded)
+ *
+ * 상품의 예약 가능 재고를 N개 버킷 행으로 나눠, 동시 예약이 한 행/한 락에 몰리지 않게 한다.
+ * 처음 예약되는 상품은 버킷으로 분할하고, 한 버킷으로 부족하면 버킷을 모은 뒤 한 번 더 시도한다.
+ * 버킷 간 불균형은 StockBucketRebalanceScheduler 가 주기적으로 맞춘다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "sharded")
+public class ShardedStockReservationEngine implements StockReservationEngine {
+
+    private final StockBucketService bucketService;
+    private final int bucketCount;
+    private final Set<Long> shardedProducts = ConcurrentHashMap.newKeySet();
+
+    public ShardedStockReservationEngine(
+        StockBucketService bucketService,
+        @Value("${stock.reservation.sharded.buckets:8}") int bucketCount
+    ) {
+        this.bucketService = bucketService;
+        this.bucketCount = bucketCount;
+    }
+
+    @Override
+    public StockReservation reserve(Long orderId, Long productId, int quantity) {
+        ensureSharded(productId);
+
+        try {
+            return bucketService.reserve(orderId, productId, quantity);
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.PRODUCT_OUT_OF_STOCK || !bucketService.consolidate(productId, quantity)) {
+                throw e;
+            }
+        }
+        return bucketService.reserve(orderId, productId, quantity);
+    }
+
+    @Override
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        items.forEach(item -> quantityByProduct.merge(item.productId(), item.quantity(), Integer::sum));
+        quantityByProduct.keySet().forEach(this::ensureSharded);
+
+        try {
+            return bucketService.reserveAll(orderId, items);
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.PRODUCT_OUT_OF_STOCK) {
+                throw e;
+            }
+            // 상품별 합계가 한 버킷에 들어가도록 모은 뒤 한 번 더 시도 (전체 재고가 부족하면 실패)
+            for (Map.Entry<Long, Integer> entry : quantityByProduct.entrySet()) {
+                if (!bucketService.consolidate(entry.getKey(), entry.getValue())) {
+                    throw e;
+                }
+            }
+        }
+        return bucketService.reserveAll(orderId, items);
+    }
+
+    @Override
+    public void confirmReservation(Long productId, Long reservationId) {
+        bucketService.confirm(productId, reservationId);
+    }
+
+    @Override
+    public void releaseReservation(Long productId, Long reservationId) {
+        bucketService.release(productId, reservationId);
+    }
+
+    @Override
+    public void confirmAll(Long orderId) {
+        bucketService.confirmAll(orderId);
+    }
+
+    @Override
+    public void releaseAll(Long orderId) {
+        bucketService.releaseAll(orderId);
+    }
+
+    @Override
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        return bucketService.releaseExpired(productId, reservations);
+    }
+
+    private void ensureSharded(Long productId) {
+        if (shardedProducts.contains(productId)) {
+            return;
+        }
+        bucketService.shard(productId, bucketCount);
+        shardedProducts.add(productId);
+    }
+}
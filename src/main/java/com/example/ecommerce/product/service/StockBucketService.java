@@ -0,0 +1,408 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.aop.DistributedLock;
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.domain.ProductStockBucket;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import com.example.ecommerce.product.repository.ProductStockBucketRepository;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 재고 버킷 관리 (stock.reservation.mode=sharded)
+ *
+ * 예약은 락 없이 임의의 버킷 하나에 조건부 UPDATE 로 처리하고, 남은 재고가 없으면 다른 버킷으로 넘어간다.
+ * 버킷 생성(shard), 모으기(consolidate), 재분배(rebalance)처럼 여러 버킷을 함께 옮기는 작업만
+ * 상품 락(stock:lock:{productId}) 안에서 실행하며, 이동도 조건부 상대값 UPDATE 로 처리하므로
+ * 동시에 진행 중인 예약과 수량이 어긋나지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockBucketService {
+
+    private static final int RESERVATION_TIME_THRESHOLD = 10;
+
+    private final ProductStockRepository stockRepository;
+    private final ProductStockBucketRepository bucketRepository;
+    private final StockReservationRepository reservationRepository;
+    private final ProductDetailCache detailCache;
+
+    /**
+     * 상품의 예약 가능 재고를 버킷으로 분할 (이미 분할된 상품이면 그대로 둔다)
+     * 기존 예약분은 product_stocks 행에 남겨 두어 기존 예약의 확정/해제가 그대로 동작한다.
+     *
+     * @return 생성한 버킷 수, 이미 분할되어 있으면 0
+     */
+    @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int shard(Long productId, int bucketCount) {
+        if (bucketRepository.findTotals(productId).isSharded()) {
+            return 0;
+        }
+
+        ProductStock stock = stockRepository.findByProductId(productId)
+            .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        int available = stock.getCurrentStock().getQuantity() - stock.getReservedStock();
+        if (available > 0) {
+            stockRepository.decreaseAvailableStock(productId, available);
+        }
+
+        int[] split = split(Math.max(available, 0), bucketCount);
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            bucketRepository.save(ProductStockBucket.create(productId, bucketNo, split[bucketNo]));
+        }
+
+        log.info("재고 버킷 분할 - productId: {}, buckets: {}, available: {}", productId, bucketCount, available);
+        return bucketCount;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StockReservation reserve(Long orderId, Long productId, int quantity) {
+        int bucketNo = reserveInBucket(productId, quantity);
+        return reservationRepository.save(createReservation(
+            orderId, productId, quantity, bucketNo, LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD)));
+    }
+
+    /**
+     * 주문 항목 전체를 하나의 트랜잭션으로 예약
+     * 상품 ID 순서로 버킷을 갱신해 주문 간 행 잠금 순서를 맞춘다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        int[] bucketNos = new int[items.size()];
+        IntStream.range(0, items.size())
+            .boxed()
+            .sorted(Comparator.comparing(index -> items.get(index).productId()))
+            .forEach(index -> bucketNos[index] =
+                reserveInBucket(items.get(index).productId(), items.get(index).quantity()));
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD);
+        List<StockReservation> reservations = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            StockReserveItem item = items.get(index);
+            reservations.add(reservationRepository.save(
+                createReservation(orderId, item.productId(), item.quantity(), bucketNos[index], expiresAt)));
+        }
+        return reservations;
+    }
+
+    /**
+     * 예약 확정 (RESERVED 인 경우에만)
+     * 버킷 예약은 버킷에서, 분할 전 예약은 product_stocks 행에서 차감한다.
+     *
+     * @return 확정한 수량, 이미 처리된 예약이면 0
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int confirm(Long productId, Long reservationId) {
+        StockReservation reservation = reservationRepository.findByIdOrElseThrow(reservationId);
+
+        if (reservationRepository.updateStatusIfReserved(
+            reservationId, ReservationStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            return 0;
+        }
+
+        int updated = reservation.isBucketReservation()
+            ? bucketRepository.confirmReserved(productId, reservation.getBucketNo(), reservation.getQuantity())
+            : stockRepository.confirmReservedStock(productId, reservation.getQuantity());
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+        detailCache.markStale(productId);
+
+        return reservation.getQuantity();
+    }
+
+    /**
+     * 예약 해제 (RESERVED 인 경우에만)
+     * 버킷 예약은 수량을 원래 버킷의 예약 가능 재고로 되돌린다.
+     *
+     * @return 해제한 수량, 이미 처리된 예약이면 0
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(Long productId, Long reservationId) {
+        StockReservation reservation = reservationRepository.findByIdOrElseThrow(reservationId);
+
+        if (reservationRepository.updateStatusIfReserved(reservationId, ReservationStatus.RELEASED, null) == 0) {
+            return 0;
+        }
+
+        if (reservation.isBucketReservation()) {
+            bucketRepository.releaseReserved(productId, reservation.getBucketNo(), reservation.getQuantity());
+        } else {
+            stockRepository.releaseReservedStock(productId, reservation.getQuantity());
+        }
+
+        return reservation.getQuantity();
+    }
+
+    /**
+     * 주문의 예약 일괄 확정 (트랜잭션 1회, 상품 ID → 버킷 순서로 버킷/상품 행별 UPDATE 1회)
+     *
+     * @return 확정한 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int confirmAll(Long orderId) {
+        return applyAll(orderId, ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * 주문의 예약 일괄 해제 (트랜잭션 1회, 상품 ID → 버킷 순서로 버킷/상품 행별 UPDATE 1회)
+     *
+     * @return 해제한 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseAll(Long orderId) {
+        return applyAll(orderId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 만료 예약을 상품 단위로 해제 (트랜잭션 1회, 버킷별 UPDATE 1회)
+     *
+     * @return 해제한 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        Map<Integer, Integer> releasedByBucket = new TreeMap<>();
+        int rowReleased = 0;
+        for (StockReservation reservation : reservations) {
+            if (reservationRepository.updateStatusIfReserved(reservation.getId(), ReservationStatus.RELEASED, null) == 0) {
+                continue;
+            }
+            if (reservation.isBucketReservation()) {
+                releasedByBucket.merge(reservation.getBucketNo(), reservation.getQuantity(), Integer::sum);
+            } else {
+                rowReleased += reservation.getQuantity();
+            }
+        }
+
+        releasedByBucket.forEach((bucketNo, quantity) -> bucketRepository.releaseReserved(productId, bucketNo, quantity));
+        if (rowReleased > 0) {
+            stockRepository.releaseReservedStock(productId, rowReleased);
+        }
+
+        return rowReleased + releasedByBucket.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 한 버킷으로는 부족할 때 다른 버킷의 재고를 가장 큰 버킷으로 모은다.
+     *
+     * @return 모은 뒤 한 버킷에서 quantity 를 예약할 수 있으면 true, 전체 재고가 부족하면 false
+     */
+    @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean consolidate(Long productId, int quantity) {
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketRepository.findByProductIdOrderByBucketNo(productId));
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        if (buckets.stream().mapToInt(ProductStockBucket::getAvailableStock).sum() < quantity) {
+            return false;
+        }
+
+        buckets.sort(Comparator.comparingInt(ProductStockBucket::getAvailableStock).reversed());
+        ProductStockBucket target = buckets.get(0);
+
+        int needed = quantity - target.getAvailableStock();
+        int moved = 0;
+        for (int i = 1; i < buckets.size() && moved < needed; i++) {
+            ProductStockBucket source = buckets.get(i);
+            int take = Math.min(source.getAvailableStock(), needed - moved);
+            if (take > 0 && bucketRepository.decreaseAvailable(productId, source.getBucketNo(), take) == 1) {
+                moved += take;
+            }
+        }
+        if (moved > 0) {
+            bucketRepository.increaseAvailable(productId, target.getBucketNo(), moved);
+        }
+
+        log.debug("재고 버킷 모으기 - productId: {}, target: {}, moved: {}", productId, target.getBucketNo(), moved);
+        return moved >= needed;
+    }
+
+    /**
+     * 버킷 간 예약 가능 재고를 고르게 재분배
+     * product_stocks 행에 돌아온 재고(분할 전 예약의 해제분 등)도 함께 버킷으로 옮긴다.
+     *
+     * @return 옮긴 수량
+     */
+    @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int rebalance(Long productId) {
+        List<ProductStockBucket> buckets = bucketRepository.findByProductIdOrderByBucketNo(productId);
+        if (buckets.isEmpty()) {
+            return 0;
+        }
+
+        int pool = 0;
+        ProductStock stock = stockRepository.findByProductId(productId).orElse(null);
+        if (stock != null) {
+            int rowAvailable = stock.getCurrentStock().getQuantity() - stock.getReservedStock();
+            if (rowAvailable > 0 && stockRepository.decreaseAvailableStock(productId, rowAvailable) == 1) {
+                pool += rowAvailable;
+            }
+        }
+
+        int[] available = buckets.stream().mapToInt(ProductStockBucket::getAvailableStock).toArray();
+        int[] deltas = rebalanceDeltas(available, pool);
+
+        // 넘치는 버킷에서 먼저 빼고(동시 예약으로 부족해지면 건너뜀), 모인 만큼만 모자란 버킷에 채운다
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] < 0 && bucketRepository.decreaseAvailable(productId, buckets.get(i).getBucketNo(), -deltas[i]) == 1) {
+                pool -= deltas[i];
+            }
+        }
+        int moved = pool;
+        for (int i = 0; i < deltas.length && pool > 0; i++) {
+            if (deltas[i] > 0) {
+                int give = Math.min(deltas[i], pool);
+                bucketRepository.increaseAvailable(productId, buckets.get(i).getBucketNo(), give);
+                pool -= give;
+            }
+        }
+        if (pool > 0) {
+            bucketRepository.increaseAvailable(productId, buckets.get(0).getBucketNo(), pool);
+        }
+
+        if (moved > 0) {
+            log.debug("재고 버킷 재분배 - productId: {}, moved: {}", productId, moved);
+        }
+        return moved;
+    }
+
+    /**
+     * 버킷별 재분배 변화량 (음수: 빼낼 수량, 양수: 채울 수량)
+     * 버킷 간 차이가 1 이하이고 추가 재고가 없으면 모두 0이다.
+     */
+    static int[] rebalanceDeltas(int[] available, int extra) {
+        int total = Arrays.stream(available).sum() + extra;
+        int[] targets = split(total, available.length);
+
+        int[] deltas = new int[available.length];
+        int max = Arrays.stream(available).max().orElse(0);
+        int min = Arrays.stream(available).min().orElse(0);
+        if (extra == 0 && max - min <= 1) {
+            return deltas;
+        }
+
+        for (int i = 0; i < available.length; i++) {
+            deltas[i] = targets[i] - available[i];
+        }
+        return deltas;
+    }
+
+    /**
+     * total 을 count 개로 고르게 나눈다 (앞쪽 버킷이 나머지를 1씩 더 가진다)
+     */
+    static int[] split(int total, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = total / count + (i < total % count ? 1 : 0);
+        }
+        return result;
+    }
+
+    private int reserveInBucket(Long productId, int quantity) {
+        List<ProductStockBucket> candidates = bucketRepository.findByProductIdOrderByBucketNo(productId).stream()
+            .filter(bucket -> bucket.getAvailableStock() >= quantity)
+            .toList();
+
+        // 임의의 버킷부터 시도하고, 동시 예약으로 비었으면 다음 버킷으로 넘어간다
+        int start = candidates.isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            int bucketNo = candidates.get((start + i) % candidates.size()).getBucketNo();
+            if (bucketRepository.reserve(productId, bucketNo, quantity) == 1) {
+                return bucketNo;
+            }
+        }
+
+        throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+    }
+
+    private StockReservation createReservation(
+        Long orderId, Long productId, int quantity, int bucketNo, LocalDateTime expiresAt) {
+        return StockReservation.builder()
+            .orderId(orderId)
+            .productId(productId)
+            .quantity(quantity)
+            .status(ReservationStatus.RESERVED)
+            .expiresAt(expiresAt)
+            .bucketNo(bucketNo)
+            .build();
+    }
+
+    private int applyAll(Long orderId, ReservationStatus status) {
+        List<StockReservation> reservations = reservationRepository.findPendingByOrderIdForUpdate(orderId);
+        boolean confirm = status == ReservationStatus.CONFIRMED;
+        if (confirm && reservationRepository.existsByOrderIdAndStatus(orderId, ReservationStatus.RELEASED)) {
+            // 만료로 해제된 예약을 확정하면 재고가 차감되지 않은 채 결제가 끝나므로 실패시킨다
+            throw new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        reservationRepository.updateStatusIfReserved(
+            reservations.stream().map(StockReservation::getId).toList(),
+            status,
+            confirm ? LocalDateTime.now() : null
+        );
+
+        // 상품별 (분할 전 행 수량, 버킷별 수량)
+        Map<Long, Integer> rowByProduct = new TreeMap<>();
+        Map<Long, Map<Integer, Integer>> bucketsByProduct = new TreeMap<>();
+        for (StockReservation reservation : reservations) {
+            if (reservation.isBucketReservation()) {
+                bucketsByProduct.computeIfAbsent(reservation.getProductId(), id -> new TreeMap<>())
+                    .merge(reservation.getBucketNo(), reservation.getQuantity(), Integer::sum);
+            } else {
+                rowByProduct.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+            }
+        }
+
+        bucketsByProduct.forEach((productId, buckets) -> buckets.forEach((bucketNo, quantity) -> {
+            if (!confirm) {
+                bucketRepository.releaseReserved(productId, bucketNo, quantity);
+            } else if (bucketRepository.confirmReserved(productId, bucketNo, quantity) == 0) {
+                throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        }));
+        rowByProduct.forEach((productId, quantity) -> {
+            if (!confirm) {
+                stockRepository.releaseReservedStock(productId, quantity);
+            } else if (stockRepository.confirmReservedStock(productId, quantity) == 0) {
+                throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        });
+
+        if (confirm) {
+            Set<Long> productIds = new TreeSet<>(rowByProduct.keySet());
+            productIds.addAll(bucketsByProduct.keySet());
+            detailCache.markStale(productIds);
+        }
+
+        return reservations.stream().mapToInt(StockReservation::getQuantity).sum();
+    }
+}
@@ -0,0 +1,635 @@
+package com.example.ecommerce.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 재고 예약 (stock.reservation.mode=redis)
+ *
+ * 상품별 해시 stock:{productId} 에 current/reserved 를 보관하고, 예약은 Lua 스크립트 한 번으로
+ * 가용 재고 확인 + reserved 증가 + write-behind 큐 적재를 원자적으로 처리한다.
+ * write-behind 큐는 Redis 리스트이며, 처리 중인 항목은 processing 리스트로 옮겨 두었다가
+ * DB 반영 후 제거한다 (처리 도중 장애 시 다음 실행에서 큐로 되돌린다).
+ * 주문별 반영 대기 항목은 stock:writebehind:order:{orderId} SET 에도 기록하여,
+ * 확정/해제가 반영 전에 도착하면 해당 주문 항목만 먼저 DB 에 반영할 수 있게 한다.
+ * 해석할 수 없는 항목은 stock:writebehind:dlq 로 옮겨 복구 때마다 다시 큐로 돌아가지 않게 한다.
+ * DB 커밋 후 Redis 반영이 실패하면 해시 값이 어긋난 채 남으므로, StockReconciliationScheduler 가
+ * DB 재고 + 반영 대기 예약을 기준으로 주기적으로 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockRedisService {
+
+    private static final String STOCK_KEY_PREFIX = "stock:";
+    private static final String WRITE_BEHIND_QUEUE_KEY = "stock:writebehind:queue";
+    private static final String WRITE_BEHIND_PROCESSING_KEY = "stock:writebehind:processing";
+    private static final String WRITE_BEHIND_DEAD_LETTER_KEY = "stock:writebehind:dlq";
+    private static final long WRITE_BEHIND_DEAD_LETTER_MAX_SIZE = 10000L;
+    private static final String WRITE_BEHIND_ORDER_KEY_PREFIX = "stock:writebehind:order:";
+    private static final long WRITE_BEHIND_ORDER_TTL_SECONDS = 86400L; // 24시간
+    public static final String WRITE_BEHIND_LOCK_KEY = "stock:writebehind:lock";
+    private static final String RECONCILE_CURSOR_KEY = "stock:reconcile:cursor";
+    private static final String FIELD_CURRENT = "current";
+    private static final String FIELD_RESERVED = "reserved";
+    private static final String ENTRY_DELIMITER = "|";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * 재고 예약 스크립트
+     *
+     * KEYS[1] stock hash, KEYS[2] write-behind queue, KEYS[3] 주문별 반영 대기 SET
+     * ARGV[1] quantity, ARGV[2] entry (reservationKey|orderId|productId|quantity|expiresAt), ARGV[3] 주문별 SET TTL(초)
+     * 반환: 1 예약 성공, 0 재고 부족, -1 재고 미적재
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local stock = redis.call('HMGET', KEYS[1], 'current', 'reserved')
+            local current = tonumber(stock[1] or '0')
+            local reserved = tonumber(stock[2] or '0')
+            local quantity = tonumber(ARGV[1])
+            if current - reserved < quantity then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'reserved', quantity)
+            redis.call('RPUSH', KEYS[2], ARGV[2])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            redis.call('EXPIRE', KEYS[3], ARGV[3])
+            return 1
+            """,
+        Long.class
+    );
+
+    /**
+     * 주문 단위 일괄 예약 스크립트 (전부 성공 또는 전부 실패)
+     * 같은 상품이 여러 항목에 있으면 합계로 가용 재고를 검증한다.
+     *
+     * KEYS[1..n] 항목별 stock hash, KEYS[n+1] write-behind queue, KEYS[n+2] 주문별 반영 대기 SET
+     * ARGV[1..n] 항목별 quantity, ARGV[n+1..2n] 항목별 entry, ARGV[2n+1] 주문별 SET TTL(초)
+     * 반환: 1 예약 성공, 0 재고 부족, -i i번째 항목 재고 미적재
+     */
+    private static final RedisScript<Long> RESERVE_ALL_SCRIPT = new DefaultRedisScript<>(
+        """
+            local n = (#ARGV - 1) / 2
+            local required = {}
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 0 then
+                    return -i
+                end
+                required[KEYS[i]] = (required[KEYS[i]] or 0) + tonumber(ARGV[i])
+            end
+            for key, quantity in pairs(required) do
+                local stock = redis.call('HMGET', key, 'current', 'reserved')
+                if tonumber(stock[1] or '0') - tonumber(stock[2] or '0') < quantity then
+                    return 0
+                end
+            end
+            for i = 1, n do
+                redis.call('HINCRBY', KEYS[i], 'reserved', ARGV[i])
+                redis.call('RPUSH', KEYS[n + 1], ARGV[n + i])
+                redis.call('SADD', KEYS[n + 2], ARGV[n + i])
+            end
+            redis.call('EXPIRE', KEYS[n + 2], ARGV[2 * n + 1])
+            return 1
+            """,
+        Long.class
+    );
+
+    /**
+     * 재고 적재 스크립트 (이미 적재된 경우 덮어쓰지 않음)
+     *
+     * KEYS[1] stock hash
+     * ARGV[1] current, ARGV[2] reserved
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[1], 'reserved', ARGV[2])
+            return 1
+            """,
+        Long.class
+    );
+
+    /**
+     * 확정/해제 반영 스크립트 (적재되지 않은 상품은 다음 적재 시 DB 값을 읽으므로 무시)
+     *
+     * KEYS[1] stock hash
+     * ARGV[1] current 변화량, ARGV[2] reserved 변화량
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'current', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'reserved', ARGV[2])
+            return 1
+            """,
+        Long.class
+    );
+
+    /**
+     * write-behind 항목 선점 스크립트
+     *
+     * KEYS[1] queue, KEYS[2] processing
+     * ARGV[1] batch size
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_WRITE_BEHIND_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #items > 0 then
+                redis.call('RPUSH', KEYS[2], unpack(items))
+                redis.call('LTRIM', KEYS[1], #items, -1)
+            end
+            return items
+            """,
+        List.class
+    );
+
+    /**
+     * 처리 중 항목 복구 스크립트 (processing → queue 앞쪽)
+     *
+     * KEYS[1] queue, KEYS[2] processing
+     */
+    private static final RedisScript<Long> RECOVER_WRITE_BEHIND_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('LRANGE', KEYS[2], 0, -1)
+            for i = #items, 1, -1 do
+                redis.call('LPUSH', KEYS[1], items[i])
+            end
+            redis.call('DEL', KEYS[2])
+            return #items
+            """,
+        Long.class
+    );
+
+    /**
+     * write-behind 완료 처리 스크립트 (processing 제거 + 주문별 반영 대기 SET 에서 제거)
+     *
+     * KEYS[1] processing, KEYS[i+1] i번째 항목의 주문별 SET
+     * ARGV[i] i번째 항목 entry
+     */
+    private static final RedisScript<Long> ACK_WRITE_BEHIND_SCRIPT = new DefaultRedisScript<>(
+        """
+            for i = 1, #ARGV do
+                redis.call('SREM', KEYS[i + 1], ARGV[i])
+            end
+            redis.call('DEL', KEYS[1])
+            return #ARGV
+            """,
+        Long.class
+    );
+
+    /**
+     * 해석할 수 없는 processing 항목을 dead letter 리스트로 이동 (복구 시 큐로 되돌아가 무한 반복되지 않도록)
+     *
+     * KEYS[1] processing, KEYS[2] dead letter
+     * ARGV[1] dead letter 최대 길이, ARGV[2..] 이동할 항목
+     */
+    private static final RedisScript<Long> DEAD_LETTER_WRITE_BEHIND_SCRIPT = new DefaultRedisScript<>(
+        """
+            for i = 2, #ARGV do
+                redis.call('LREM', KEYS[1], 1, ARGV[i])
+                redis.call('RPUSH', KEYS[2], ARGV[i])
+            end
+            redis.call('LTRIM', KEYS[2], -tonumber(ARGV[1]), -1)
+            return #ARGV - 1
+            """,
+        Long.class
+    );
+
+    /**
+     * 재고 보정 스크립트
+     * 반영 대기 예약(큐/processing 항목 중 주문별 SET 에 남아 있는 것)을 예약과 같은 시점에 합산해 기대값을 계산한다.
+     * 기대값: current = DB current, reserved = DB reserved + 반영 대기 수량
+     * 확정/해제는 DB 커밋 뒤 Redis 에 반영되므로 그 사이에 읽으면 일시적인 차이가 보인다.
+     * 이를 누락으로 오인해 덮어쓰지 않도록, 같은 차이(drift 필드)가 연속 두 번 관측될 때만 덮어쓴다.
+     *
+     * KEYS[1] stock hash, KEYS[2] write-behind queue, KEYS[3] processing
+     * ARGV[1] productId, ARGV[2] DB current, ARGV[3] DB reserved, ARGV[4] 주문별 SET 키 접두사
+     * 반환: {current, reserved, pending, expectedCurrent, expectedReserved, repaired}, 미적재 시 빈 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            local pending = 0
+            for i = 2, 3 do
+                for _, item in ipairs(redis.call('LRANGE', KEYS[i], 0, -1)) do
+                    local orderId, productId, quantity = string.match(item, '^[^|]*|([^|]*)|([^|]*)|([^|]*)|')
+                    if productId == ARGV[1] and redis.call('SISMEMBER', ARGV[4] .. orderId, item) == 1 then
+                        pending = pending + tonumber(quantity)
+                    end
+                end
+            end
+            local stock = redis.call('HMGET', KEYS[1], 'current', 'reserved', 'drift')
+            local current = tonumber(stock[1] or '0')
+            local reserved = tonumber(stock[2] or '0')
+            local expectedCurrent = tonumber(ARGV[2])
+            local expectedReserved = tonumber(ARGV[3]) + pending
+            local repaired = 0
+            if current == expectedCurrent and reserved == expectedReserved then
+                redis.call('HDEL', KEYS[1], 'drift')
+            else
+                local drift = (current - expectedCurrent) .. ':' .. (reserved - expectedReserved)
+                if stock[3] == drift then
+                    redis.call('HSET', KEYS[1], 'current', expectedCurrent, 'reserved', expectedReserved)
+                    redis.call('HDEL', KEYS[1], 'drift')
+                    repaired = 1
+                else
+                    redis.call('HSET', KEYS[1], 'drift', drift)
+                end
+            end
+            return {current, reserved, pending, expectedCurrent, expectedReserved, repaired}
+            """,
+        List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum ReserveResult {
+        RESERVED,
+        OUT_OF_STOCK,
+        NOT_LOADED,
+        ERROR;
+
+        public static ReserveResult fromCode(Long code) {
+            if (code == null) {
+                return ERROR;
+            }
+            if (code == 1L) {
+                return RESERVED;
+            }
+            if (code == 0L) {
+                return OUT_OF_STOCK;
+            }
+            return NOT_LOADED;
+        }
+    }
+
+    /**
+     * write-behind 항목 (Redis 에 예약된 뒤 DB 반영 대기 중인 예약)
+     */
+    public record WriteBehindEntry(
+        String reservationKey,
+        Long orderId,
+        Long productId,
+        int quantity,
+        LocalDateTime expiresAt
+    ) {
+        String encode() {
+            long expiresAtMillis = expiresAt.atZone(ZONE).toInstant().toEpochMilli();
+            return String.join(ENTRY_DELIMITER, reservationKey, orderId.toString(), productId.toString(),
+                String.valueOf(quantity), String.valueOf(expiresAtMillis));
+        }
+
+        static WriteBehindEntry decode(String value) {
+            String[] parts = value.split("\\|");
+            return new WriteBehindEntry(
+                parts[0],
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2]),
+                Integer.parseInt(parts[3]),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[4])), ZONE)
+            );
+        }
+    }
+
+    /**
+     * 재고 보정 결과
+     *
+     * @param current          보정 전 Redis current
+     * @param reserved         보정 전 Redis reserved
+     * @param pending          DB 반영 대기 중인 예약 수량
+     * @param expectedCurrent  기대 current (DB)
+     * @param expectedReserved 기대 reserved (DB + 반영 대기)
+     * @param repaired         덮어썼는지 여부 (차이가 처음 관측되면 false)
+     */
+    public record StockReconciliation(
+        long current,
+        long reserved,
+        long pending,
+        long expectedCurrent,
+        long expectedReserved,
+        boolean repaired
+    ) {
+
+        public boolean drifted() {
+            return current != expectedCurrent || reserved != expectedReserved;
+        }
+    }
+
+    /**
+     * 가용 재고 확인 후 reserved 증가 및 write-behind 큐 적재 (Redis 왕복 1회)
+     */
+    public ReserveResult reserve(WriteBehindEntry entry) {
+        try {
+            Long code = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(getStockKey(entry.productId()), WRITE_BEHIND_QUEUE_KEY, getWriteBehindOrderKey(entry.orderId())),
+                String.valueOf(entry.quantity()),
+                entry.encode(),
+                String.valueOf(WRITE_BEHIND_ORDER_TTL_SECONDS)
+            );
+
+            ReserveResult result = ReserveResult.fromCode(code);
+            log.debug("재고 예약 스크립트 실행 - productId: {}, quantity: {}, result: {}",
+                entry.productId(), entry.quantity(), result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("재고 예약 스크립트 실행 실패 - productId: {}", entry.productId(), e);
+            return ReserveResult.ERROR;
+        }
+    }
+
+    /**
+     * 주문 항목 전체를 Redis 왕복 1회로 예약
+     */
+    public ReserveResult reserveAll(List<WriteBehindEntry> entries) {
+        try {
+            List<String> keys = new ArrayList<>(entries.size() + 2);
+            List<String> args = new ArrayList<>(entries.size() * 2 + 1);
+            for (WriteBehindEntry entry : entries) {
+                keys.add(getStockKey(entry.productId()));
+                args.add(String.valueOf(entry.quantity()));
+            }
+            keys.add(WRITE_BEHIND_QUEUE_KEY);
+            keys.add(getWriteBehindOrderKey(entries.get(0).orderId()));
+            for (WriteBehindEntry entry : entries) {
+                args.add(entry.encode());
+            }
+            args.add(String.valueOf(WRITE_BEHIND_ORDER_TTL_SECONDS));
+
+            Long code = redisTemplate.execute(RESERVE_ALL_SCRIPT, keys, args.toArray());
+
+            ReserveResult result = ReserveResult.fromCode(code);
+            log.debug("재고 일괄 예약 스크립트 실행 - items: {}, result: {}", entries.size(), result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("재고 일괄 예약 스크립트 실행 실패 - items: {}", entries.size(), e);
+            return ReserveResult.ERROR;
+        }
+    }
+
+    /**
+     * DB 재고를 Redis 에 적재 (이미 적재되어 있으면 유지)
+     */
+    public boolean load(Long productId, int currentStock, int reservedStock) {
+        try {
+            Long loaded = redisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(getStockKey(productId)),
+                String.valueOf(currentStock),
+                String.valueOf(reservedStock)
+            );
+            return loaded != null && loaded == 1L;
+
+        } catch (Exception e) {
+            log.error("재고 적재 실패 - productId: {}", productId, e);
+            return false;
+        }
+    }
+
+    public void confirm(Long productId, int quantity) {
+        adjust(productId, -quantity, -quantity);
+    }
+
+    public void release(Long productId, int quantity) {
+        adjust(productId, 0, -quantity);
+    }
+
+    private void adjust(Long productId, int currentDelta, int reservedDelta) {
+        try {
+            redisTemplate.execute(
+                ADJUST_SCRIPT,
+                List.of(getStockKey(productId)),
+                String.valueOf(currentDelta),
+                String.valueOf(reservedDelta)
+            );
+        } catch (Exception e) {
+            log.error("재고 반영 실패 - productId: {}, current: {}, reserved: {}",
+                productId, currentDelta, reservedDelta, e);
+        }
+    }
+
+    /**
+     * Redis 재고를 DB 재고 + 반영 대기 예약 기준으로 보정
+     * write-behind 반영과 겹치지 않도록 WRITE_BEHIND_LOCK_KEY 를 잡고, 그 안에서 읽은 DB 값으로 호출해야 한다.
+     *
+     * @param productId     상품 ID
+     * @param dbCurrent     DB current_stock
+     * @param dbReserved    DB reserved_stock
+     * @return 보정 결과, 적재되지 않은 상품이거나 Redis 오류 시 null
+     */
+    public StockReconciliation reconcile(Long productId, int dbCurrent, int dbReserved) {
+        try {
+            List<?> result = redisTemplate.execute(
+                RECONCILE_SCRIPT,
+                List.of(getStockKey(productId), WRITE_BEHIND_QUEUE_KEY, WRITE_BEHIND_PROCESSING_KEY),
+                productId.toString(),
+                String.valueOf(dbCurrent),
+                String.valueOf(dbReserved),
+                WRITE_BEHIND_ORDER_KEY_PREFIX
+            );
+
+            if (result == null || result.size() < 6) {
+                return null;
+            }
+
+            return new StockReconciliation(
+                toLong(result.get(0)), toLong(result.get(1)), toLong(result.get(2)),
+                toLong(result.get(3)), toLong(result.get(4)), toLong(result.get(5)) == 1L
+            );
+
+        } catch (Exception e) {
+            log.error("Redis 재고 보정 실패 - productId: {}", productId, e);
+            return null;
+        }
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    /**
+     * 재고 보정 커서 (마지막으로 확인한 productId)
+     * 노드가 바뀌거나 재시작해도 이어서 순회하도록 Redis 에 보관한다. 조회 실패 시 예외를 그대로 던진다.
+     */
+    public long getReconcileCursor() {
+        String value = redisTemplate.opsForValue().get(RECONCILE_CURSOR_KEY);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public void setReconcileCursor(long productId) {
+        redisTemplate.opsForValue().set(RECONCILE_CURSOR_KEY, String.valueOf(productId));
+    }
+
+    /**
+     * write-behind 큐에서 최대 batchSize 개를 processing 리스트로 옮기고 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<WriteBehindEntry> claimWriteBehind(int batchSize) {
+        try {
+            List<String> items = redisTemplate.execute(
+                CLAIM_WRITE_BEHIND_SCRIPT,
+                List.of(WRITE_BEHIND_QUEUE_KEY, WRITE_BEHIND_PROCESSING_KEY),
+                String.valueOf(batchSize)
+            );
+
+            if (items == null || items.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<WriteBehindEntry> entries = new ArrayList<>(items.size());
+            List<String> undecodable = new ArrayList<>();
+            for (String item : items) {
+                try {
+                    entries.add(WriteBehindEntry.decode(item));
+                } catch (RuntimeException e) {
+                    log.error("write-behind 항목 해석 실패 - item: {}", item, e);
+                    undecodable.add(item);
+                }
+            }
+            if (!undecodable.isEmpty()) {
+                deadLetterWriteBehind(undecodable);
+            }
+            return entries;
+
+        } catch (Exception e) {
+            log.error("write-behind 항목 선점 실패", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 해석할 수 없는 항목을 processing 에서 빼 dead letter 리스트로 이동
+     */
+    private void deadLetterWriteBehind(List<String> items) {
+        List<String> args = new ArrayList<>(items.size() + 1);
+        args.add(String.valueOf(WRITE_BEHIND_DEAD_LETTER_MAX_SIZE));
+        args.addAll(items);
+
+        redisTemplate.execute(
+            DEAD_LETTER_WRITE_BEHIND_SCRIPT,
+            List.of(WRITE_BEHIND_PROCESSING_KEY, WRITE_BEHIND_DEAD_LETTER_KEY),
+            args.toArray()
+        );
+        log.error("write-behind 항목 dead letter 이동 - count: {}", items.size());
+    }
+
+    /**
+     * DB 반영이 끝난 processing 항목 제거 (주문별 반영 대기 SET 에서도 제거)
+     *
+     * @param entries claimWriteBehind 로 선점해 반영한 항목
+     */
+    public void ackWriteBehind(List<WriteBehindEntry> entries) {
+        try {
+            List<String> keys = new ArrayList<>(entries.size() + 1);
+            List<String> args = new ArrayList<>(entries.size());
+            keys.add(WRITE_BEHIND_PROCESSING_KEY);
+            for (WriteBehindEntry entry : entries) {
+                keys.add(getWriteBehindOrderKey(entry.orderId()));
+                args.add(entry.encode());
+            }
+            redisTemplate.execute(ACK_WRITE_BEHIND_SCRIPT, keys, args.toArray());
+
+        } catch (Exception e) {
+            // processing 항목은 다음 실행에서 복구되어 다시 반영된다 (reservationKey 로 멱등)
+            log.error("write-behind 완료 처리 실패", e);
+        }
+    }
+
+    /**
+     * 주문의 DB 반영 대기 항목 조회
+     * 조회에 실패하면 예외를 그대로 던진다 (대기 항목이 없다고 보고 확정/해제하면 예약 행을 놓친다).
+     */
+    public List<WriteBehindEntry> getPendingWriteBehind(Long orderId) {
+        Set<String> members = redisTemplate.opsForSet().members(getWriteBehindOrderKey(orderId));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<WriteBehindEntry> entries = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                entries.add(WriteBehindEntry.decode(member));
+            } catch (RuntimeException e) {
+                // 큐 쪽 같은 항목은 선점 시 dead letter 로 옮겨진다
+                log.error("주문 write-behind 대기 항목 해석 실패 - orderId: {}, item: {}", orderId, member, e);
+                redisTemplate.opsForSet().remove(getWriteBehindOrderKey(orderId), member);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 확정/해제 경로에서 직접 DB 에 반영한 주문 항목을 반영 대기 SET 에서 제거
+     * (큐에 남은 같은 항목은 스케줄러가 reservationKey 로 건너뛴다)
+     */
+    public void removePendingWriteBehind(Long orderId, List<WriteBehindEntry> entries) {
+        try {
+            redisTemplate.opsForSet().remove(getWriteBehindOrderKey(orderId),
+                entries.stream().map(WriteBehindEntry::encode).toArray());
+        } catch (Exception e) {
+            // 남아 있어도 다음 확정/해제 시 다시 반영을 시도할 뿐 중복 저장되지 않는다
+            log.error("주문 write-behind 대기 항목 제거 실패 - orderId: {}", orderId, e);
+        }
+    }
+
+    /**
+     * 이전 처리 중 중단된 항목을 큐로 되돌림 (DB 반영은 reservationKey 로 멱등 처리)
+     */
+    public long recoverWriteBehind() {
+        try {
+            Long recovered = redisTemplate.execute(
+                RECOVER_WRITE_BEHIND_SCRIPT,
+                List.of(WRITE_BEHIND_QUEUE_KEY, WRITE_BEHIND_PROCESSING_KEY)
+            );
+            return recovered != null ? recovered : 0L;
+
+        } catch (Exception e) {
+            log.error("write-behind 항목 복구 실패", e);
+            return 0L;
+        }
+    }
+
+    public Long getWriteBehindQueueSize() {
+        try {
+            Long size = redisTemplate.opsForList().size(WRITE_BEHIND_QUEUE_KEY);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.error("write-behind 큐 크기 조회 실패", e);
+            return 0L;
+        }
+    }
+
+    public String getStockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    private String getWriteBehindOrderKey(Long orderId) {
+        return WRITE_BEHIND_ORDER_KEY_PREFIX + orderId;
+    }
+}
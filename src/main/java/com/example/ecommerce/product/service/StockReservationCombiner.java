@@ -0,0 +1,174 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 재고 예약 요청 결합기 (stock.reservation.mode=batch)
+ *
+ * 상품의 첫 요청이 들어오면 짧은 윈도우(window-ms) 뒤에 반영을 예약하고, 그 사이 같은 상품에 들어온
+ * 요청을 모아 StockReservationWriter.reserveBatch 로 락 1회, 트랜잭션 1회에 반영한다.
+ * 각 호출자는 자신의 CompletableFuture 로 예약 결과 또는 실패(재고 부족, 락 타임아웃 등)를 받는다.
+ * 반영을 예약하지 못했거나 종료 시점까지 반영되지 않은 배치의 요청도 실패로 완료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.reservation.mode", havingValue = "batch")
+public class StockReservationCombiner {
+
+    private static final int RESERVATION_TIME_THRESHOLD = 10;
+
+    private final StockReservationWriter reservationWriter;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flushExecutor;
+    private final ConcurrentHashMap<Long, List<PendingReservation>> pending = new ConcurrentHashMap<>();
+
+    private record PendingReservation(StockReservation reservation, CompletableFuture<StockReservation> future) {
+    }
+
+    public StockReservationCombiner(
+        StockReservationWriter reservationWriter,
+        @Value("${stock.reservation.batch.window-ms:5}") long windowMillis,
+        @Value("${stock.reservation.batch.max-size:500}") int maxBatchSize,
+        @Value("${stock.reservation.batch.workers:4}") int workers
+    ) {
+        this.reservationWriter = reservationWriter;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.flushExecutor = Executors.newScheduledThreadPool(workers, namedThreadFactory("stock-reserve-batch-"));
+    }
+
+    /**
+     * 예약된 반영을 기다린 뒤, 그래도 남은 배치의 요청은 실패로 완료한다 (호출자가 무한히 대기하지 않도록)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+
+        for (Long productId : pending.keySet()) {
+            failBatch(productId, new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 예약 처리가 종료되었습니다."));
+        }
+    }
+
+    /**
+     * 예약 요청을 현재 상품 배치에 추가
+     * 배치를 새로 연 요청만 윈도우 뒤 반영을 예약한다.
+     */
+    public CompletableFuture<StockReservation> submit(Long orderId, Long productId, int quantity) {
+        PendingReservation request = new PendingReservation(
+            StockReservation.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD))
+                .reservationKey(UUID.randomUUID().toString())
+                .build(),
+            new CompletableFuture<>()
+        );
+
+        boolean[] opened = new boolean[1];
+        pending.compute(productId, (id, requests) -> {
+            List<PendingReservation> batch = requests;
+            if (batch == null) {
+                batch = new ArrayList<>();
+                opened[0] = true;
+            }
+            batch.add(request);
+            return batch;
+        });
+
+        if (opened[0]) {
+            try {
+                flushExecutor.schedule(() -> flush(productId), windowMillis, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // 반영이 예약되지 않은 배치는 아무도 꺼내지 않으므로 여기서 실패시킨다
+                log.error("재고 예약 배치 반영 예약 실패 - productId: {}", productId, e);
+                failBatch(productId, e);
+            }
+        }
+
+        return request.future();
+    }
+
+    private void flush(Long productId) {
+        List<PendingReservation> batch = pending.remove(productId);
+        if (batch == null) {
+            return;
+        }
+
+        for (int from = 0; from < batch.size(); from += maxBatchSize) {
+            flushChunk(productId, batch.subList(from, Math.min(from + maxBatchSize, batch.size())));
+        }
+    }
+
+    private void failBatch(Long productId, Throwable cause) {
+        List<PendingReservation> batch = pending.remove(productId);
+        if (batch != null) {
+            batch.forEach(request -> request.future().completeExceptionally(cause));
+        }
+    }
+
+    private void flushChunk(Long productId, List<PendingReservation> requests) {
+        // 대기 시간 초과로 이미 실패 응답한 요청은 반영하지 않는다
+        List<PendingReservation> chunk = requests.stream()
+            .filter(request -> !request.future().isDone())
+            .toList();
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<StockReservation> admitted = reservationWriter.reserveBatch(
+                productId, chunk.stream().map(PendingReservation::reservation).toList());
+
+            Set<StockReservation> admittedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            admittedSet.addAll(admitted);
+
+            for (PendingReservation request : chunk) {
+                if (admittedSet.contains(request.reservation())) {
+                    request.future().complete(request.reservation());
+                } else {
+                    request.future().completeExceptionally(new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK));
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("재고 예약 배치 반영 실패 - productId: {}, requests: {}", productId, chunk.size(), e);
+            chunk.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
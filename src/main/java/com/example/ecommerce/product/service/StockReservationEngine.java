@@ -0,0 +1,42 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import java.util.List;
+
+/**
+ * 재고 예약/확정/해제 엔진
+ * stock.reservation.mode 로 구현을 선택한다.
+ * 기본(lock)은 분산락 + 엔티티 조회/저장 방식의 StockService 이며,
+ * 다른 모드의 구현은 @Primary 로 등록되어 주입 시 우선 선택된다.
+ */
+public interface StockReservationEngine {
+
+    StockReservation reserve(Long orderId, Long productId, int quantity);
+
+    /**
+     * 주문의 모든 항목을 한 번에 예약 (전부 성공하거나 전부 실패)
+     */
+    List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items);
+
+    void confirmReservation(Long productId, Long reservationId);
+
+    void releaseReservation(Long productId, Long reservationId);
+
+    /**
+     * 주문의 모든 RESERVED 예약을 한 트랜잭션으로 확정
+     */
+    void confirmAll(Long orderId);
+
+    /**
+     * 주문의 모든 RESERVED 예약을 한 트랜잭션으로 해제
+     */
+    void releaseAll(Long orderId);
+
+    /**
+     * 같은 상품의 만료 예약을 한 번에 해제 (이미 확정/해제된 예약은 건너뜀)
+     *
+     * @return 해제한 수량
+     */
+    int releaseExpired(Long productId, List<StockReservation> reservations);
+}
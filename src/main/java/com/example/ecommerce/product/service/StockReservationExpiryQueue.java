@@ -0,0 +1,124 @@
+package com.example.ecommerce.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 재고 예약 만료 지연 큐 (Redis ZSET)
+ *
+ * member 는 주문 ID, score 는 예약 만료 시각(epoch millis)이다.
+ * 주문 단위로 넣어 두면 write-behind 로 아직 id 가 없는 예약(redis 모드)도 만료 시점에 DB 에서 찾아 해제할 수 있다.
+ * 꺼내기는 Lua 스크립트로 조회와 삭제를 함께 처리하므로 여러 노드가 동시에 가져가도 중복되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationExpiryQueue {
+
+    private static final String EXPIRY_QUEUE_KEY = "stock:reservation:expiry";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * 만료 시각이 지난 항목 선점 스크립트
+     *
+     * KEYS[1] expiry zset
+     * ARGV[1] now (epoch millis), ARGV[2] limit
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #items > 0 then
+                redis.call('ZREM', KEYS[1], unpack(items))
+            end
+            return items
+            """,
+        List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 주문의 예약 만료 등록
+     */
+    public void schedule(Long orderId, LocalDateTime expiresAt) {
+        try {
+            redisTemplate.opsForZSet().add(EXPIRY_QUEUE_KEY, orderId.toString(), toMillis(expiresAt));
+        } catch (Exception e) {
+            // 등록에 실패해도 만료 백스톱 스윕이 DB 에서 찾아 해제한다
+            log.error("예약 만료 등록 실패 - orderId: {}", orderId, e);
+        }
+    }
+
+    /**
+     * 여러 주문을 같은 시각으로 다시 등록 (처리 실패 시 재시도)
+     */
+    public void scheduleAll(Collection<Long> orderIds, LocalDateTime expiresAt) {
+        orderIds.forEach(orderId -> schedule(orderId, expiresAt));
+    }
+
+    /**
+     * 확정/해제로 더 이상 만료 처리가 필요 없는 주문 제거
+     */
+    public void cancel(Long orderId) {
+        try {
+            redisTemplate.opsForZSet().remove(EXPIRY_QUEUE_KEY, orderId.toString());
+        } catch (Exception e) {
+            log.error("예약 만료 취소 실패 - orderId: {}", orderId, e);
+        }
+    }
+
+    /**
+     * 만료 시각이 지난 주문을 최대 limit 개 꺼냄
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDue(LocalDateTime now, int limit) {
+        try {
+            List<String> items = redisTemplate.execute(
+                CLAIM_DUE_SCRIPT,
+                List.of(EXPIRY_QUEUE_KEY),
+                String.valueOf(toMillis(now)),
+                String.valueOf(limit)
+            );
+
+            if (items == null || items.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> orderIds = new ArrayList<>(items.size());
+            for (String item : items) {
+                orderIds.add(Long.parseLong(item));
+            }
+            return orderIds;
+
+        } catch (Exception e) {
+            log.error("만료 예약 선점 실패", e);
+            return Collections.emptyList();
+        }
+    }
+
+    public Long getSize() {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(EXPIRY_QUEUE_KEY);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.error("예약 만료 큐 크기 조회 실패", e);
+            return 0L;
+        }
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
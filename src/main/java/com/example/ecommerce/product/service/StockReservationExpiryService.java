@@ -0,0 +1,96 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.event.MessagePublisher;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.event.ReservationExpiredEvent;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 만료 처리
+ * 만료 예약을 상품별로 묶어 StockReservationEngine.releaseExpired 로 상품당 한 번에 해제한다.
+ * 상품 ID 순서로 처리해 같은 상품을 다루는 다른 작업과 락 순서를 맞춘다.
+ * 해제한 주문마다 ReservationExpiredEvent 를 발행해 결제 전 주문을 취소한다 (만료 후 결제 방지).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationExpiryService {
+
+    private final StockReservationEngine reservationEngine;
+    private final StockReservationRepository reservationRepository;
+    private final MessagePublisher eventPublisher;
+
+    public record ExpireResult(int reservations, int released, int failedProducts) {
+
+        public boolean hasFailure() {
+            return failedProducts > 0;
+        }
+    }
+
+    /**
+     * 지연 큐에서 꺼낸 주문들의 만료 예약 해제
+     */
+    public ExpireResult expireOrders(Collection<Long> orderIds, LocalDateTime now) {
+        return expire(reservationRepository.findExpiredByOrderIds(orderIds, now));
+    }
+
+    /**
+     * 만료된 예약을 만료 시각 순으로 최대 chunkSize 건 해제 (지연 큐 누락분 백스톱)
+     */
+    public ExpireResult expireOldest(LocalDateTime now, int chunkSize) {
+        return expire(reservationRepository.findExpiredReservations(now, PageRequest.of(0, chunkSize)));
+    }
+
+    private ExpireResult expire(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return new ExpireResult(0, 0, 0);
+        }
+
+        Map<Long, List<StockReservation>> byProduct = reservations.stream()
+            .collect(Collectors.groupingBy(StockReservation::getProductId, TreeMap::new, Collectors.toList()));
+
+        int released = 0;
+        int failedProducts = 0;
+        Set<Long> expiredOrderIds = new TreeSet<>();
+        for (Map.Entry<Long, List<StockReservation>> entry : byProduct.entrySet()) {
+            try {
+                released += reservationEngine.releaseExpired(entry.getKey(), entry.getValue());
+                entry.getValue().forEach(reservation -> expiredOrderIds.add(reservation.getOrderId()));
+            } catch (Exception e) {
+                failedProducts++;
+                log.error("만료 예약 해제 실패 - productId: {}, reservations: {}",
+                    entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+
+        expiredOrderIds.forEach(this::publishExpired);
+
+        log.info("만료 예약 해제 - reservations: {}, products: {}, orders: {}, released: {}, failedProducts: {}",
+            reservations.size(), byProduct.size(), expiredOrderIds.size(), released, failedProducts);
+
+        return new ExpireResult(reservations.size(), released, failedProducts);
+    }
+
+    // 주문 쪽은 결제 전 상태에서만 취소하므로 같은 주문에 여러 번 발행되어도 안전하다
+    private void publishExpired(Long orderId) {
+        try {
+            eventPublisher.publish(ReservationExpiredEvent.of(orderId));
+        } catch (Exception e) {
+            // 주문이 취소되지 않아도 만료 후 결제는 확정 단계에서 STOCK_RESERVATION_EXPIRED 로 실패한다
+            log.error("예약 만료 이벤트 발행 실패 - orderId: {}", orderId, e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.aop.DistributedLock;
+import com.example.ecommerce.common.aop.DistributedMultiLock;
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationBulkRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import com.example.ecommerce.product.service.StockRedisService.WriteBehindEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 상대값 UPDATE 기반 재고 반영
+ * 엔티티를 읽어 덮어쓰지 않으므로 write-behind 반영과 확정/해제가 동시에 실행되어도 값이 유실되지 않는다.
+ * 배치 예약(reserveBatch)만 가용 재고 판단을 위해 상품 락을 잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationWriter {
+
+    private final ProductStockRepository stockRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockReservationBulkRepository reservationBulkRepository;
+    private final ProductDetailCache detailCache;
+
+    /**
+     * write-behind 항목 일괄 반영
+     * 이미 저장된 reservationKey 는 건너뛰어 재처리 시에도 중복 반영되지 않는다.
+     * 예약 INSERT 1회 + 상품별 reserved_stock UPDATE 1회로 처리한다.
+     *
+     * @return 새로 저장한 예약 수
+     */
+    @Transactional
+    public int flush(List<WriteBehindEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existing = new HashSet<>(reservationRepository.findExistingReservationKeys(
+            entries.stream().map(WriteBehindEntry::reservationKey).toList()));
+
+        List<StockReservation> reservations = new ArrayList<>(entries.size());
+        Map<Long, Integer> reservedByProduct = new LinkedHashMap<>();
+        for (WriteBehindEntry entry : entries) {
+            if (!existing.add(entry.reservationKey())) {
+                continue;
+            }
+            reservations.add(StockReservation.builder()
+                .orderId(entry.orderId())
+                .productId(entry.productId())
+                .quantity(entry.quantity())
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(entry.expiresAt())
+                .reservationKey(entry.reservationKey())
+                .build());
+            reservedByProduct.merge(entry.productId(), entry.quantity(), Integer::sum);
+        }
+
+        reservationBulkRepository.insertAll(reservations);
+        reservedByProduct.forEach(stockRepository::increaseReservedStock);
+
+        log.debug("write-behind 반영 완료 - entries: {}, inserted: {}, products: {}",
+            entries.size(), reservations.size(), reservedByProduct.size());
+
+        return reservations.size();
+    }
+
+    /**
+     * 같은 상품에 몰린 예약 요청을 락 1회, 트랜잭션 1회로 반영 (group commit)
+     * 요청 순서대로 남은 재고 안에 들어가는 요청만 받아들이고,
+     * 받아들인 요청은 예약 INSERT 1회 + reserved_stock UPDATE 1회로 저장한다.
+     *
+     * @return 받아들인 예약 (재고 부족으로 거절된 요청은 포함되지 않음)
+     */
+    @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StockReservation> reserveBatch(Long productId, List<StockReservation> requests) {
+        ProductStock stock = stockRepository.findByIdOrElseThrow(productId);
+
+        int available = stock.getCurrentStock().getQuantity() - stock.getReservedStock();
+        int reserved = 0;
+        List<StockReservation> admitted = new ArrayList<>(requests.size());
+        for (StockReservation request : requests) {
+            if (request.getQuantity() <= available - reserved) {
+                admitted.add(request);
+                reserved += request.getQuantity();
+            }
+        }
+
+        if (!admitted.isEmpty()) {
+            reservationBulkRepository.insertAll(admitted);
+            stockRepository.increaseReservedStock(productId, reserved);
+        }
+
+        log.debug("재고 예약 배치 반영 - productId: {}, requests: {}, admitted: {}, quantity: {}",
+            productId, requests.size(), admitted.size(), reserved);
+
+        return admitted;
+    }
+
+    /**
+     * 만료 예약을 상품 단위로 해제 (트랜잭션 1회, reserved_stock UPDATE 1회)
+     * 예약별 상태 조건부 UPDATE 로 이미 확정/해제된 예약은 건너뛴다.
+     *
+     * @return 해제한 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        int released = 0;
+        for (StockReservation reservation : reservations) {
+            if (reservationRepository.updateStatusIfReserved(reservation.getId(), ReservationStatus.RELEASED, null) == 1) {
+                released += reservation.getQuantity();
+            }
+        }
+        if (released > 0) {
+            stockRepository.releaseReservedStock(productId, released);
+        }
+        return released;
+    }
+
+    /**
+     * 주문의 예약 일괄 확정 (상품별 current/reserved UPDATE 1회)
+     *
+     * @return 상품별 확정 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Integer> confirmAll(Long orderId) {
+        return applyAll(orderId, ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * 주문의 상품 락을 정렬된 순서로 모두 잡은 뒤 일괄 확정 (lock 모드)
+     */
+    @DistributedMultiLock(prefix = "stock:lock:", keys = "#productIds", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Integer> confirmAllLocked(Long orderId, Collection<Long> productIds) {
+        return applyAll(orderId, ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * 주문의 예약 일괄 해제 (상품별 reserved UPDATE 1회)
+     *
+     * @return 상품별 해제 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Integer> releaseAll(Long orderId) {
+        return applyAll(orderId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 주문의 상품 락을 정렬된 순서로 모두 잡은 뒤 일괄 해제 (lock 모드)
+     */
+    @DistributedMultiLock(prefix = "stock:lock:", keys = "#productIds", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Integer> releaseAllLocked(Long orderId, Collection<Long> productIds) {
+        return applyAll(orderId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 예약 확정 (RESERVED 인 경우에만)
+     *
+     * @return 확정한 수량, 이미 처리된 예약이면 0
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int confirm(Long productId, Long reservationId) {
+        StockReservation reservation = reservationRepository.findByIdOrElseThrow(reservationId);
+
+        if (reservationRepository.updateStatusIfReserved(
+            reservationId, ReservationStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            return 0;
+        }
+        if (stockRepository.confirmReservedStock(productId, reservation.getQuantity()) == 0) {
+            throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+        detailCache.markStale(productId);
+
+        return reservation.getQuantity();
+    }
+
+    /**
+     * 예약 해제 (RESERVED 인 경우에만)
+     *
+     * @return 해제한 수량, 이미 처리된 예약이면 0
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(Long productId, Long reservationId) {
+        StockReservation reservation = reservationRepository.findByIdOrElseThrow(reservationId);
+
+        if (reservationRepository.updateStatusIfReserved(reservationId, ReservationStatus.RELEASED, null) == 0) {
+            return 0;
+        }
+        stockRepository.releaseReservedStock(productId, reservation.getQuantity());
+
+        return reservation.getQuantity();
+    }
+
+    /**
+     * RESERVED 예약을 잠금 조회 → 상태 일괄 변경 → 상품 ID 순서로 상품별 재고 UPDATE
+     * 주문의 예약이 모두 처리된 경우(재처리)는 빈 결과를, 예약 행이 하나도 없으면 예외를 반환한다.
+     * 확정 시 해제된 예약이 하나라도 있으면 (만료) 예외를 반환한다.
+     */
+    private Map<Long, Integer> applyAll(Long orderId, ReservationStatus status) {
+        List<StockReservation> reservations = reservationRepository.findPendingByOrderIdForUpdate(orderId);
+        boolean confirm = status == ReservationStatus.CONFIRMED;
+        if (confirm && reservationRepository.existsByOrderIdAndStatus(orderId, ReservationStatus.RELEASED)) {
+            // 만료로 해제된 예약을 확정하면 재고가 차감되지 않은 채 결제가 끝나므로 실패시킨다
+            throw new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+        if (reservations.isEmpty()) {
+            // 예약 행 자체가 없으면 아직 저장되지 않은 예약을 놓친 것이므로 조용히 넘기지 않는다
+            if (!reservationRepository.existsByOrderId(orderId)) {
+                throw new CustomException(ErrorCode.STOCK_RESERVATION_NOT_FOUND);
+            }
+            log.info("이미 처리된 주문 예약 - orderId: {}, status: {}", orderId, status);
+            return Map.of();
+        }
+
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        reservations.forEach(reservation ->
+            quantityByProduct.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum));
+
+        reservationRepository.updateStatusIfReserved(
+            reservations.stream().map(StockReservation::getId).toList(),
+            status,
+            confirm ? LocalDateTime.now() : null
+        );
+
+        quantityByProduct.forEach((productId, quantity) -> {
+            if (!confirm) {
+                stockRepository.releaseReservedStock(productId, quantity);
+            } else if (stockRepository.confirmReservedStock(productId, quantity) == 0) {
+                throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+        });
+
+        if (confirm) {
+            detailCache.markStale(quantityByProduct.keySet());
+        }
+
+        log.debug("주문 예약 일괄 {} - orderId: {}, reservations: {}, products: {}",
+            confirm ? "확정" : "해제", orderId, reservations.size(), quantityByProduct.size());
+
+        return quantityByProduct;
+    }
+}
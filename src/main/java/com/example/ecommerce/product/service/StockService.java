@@ -1,15 +1,20 @@
 package com.example.ecommerce.product.service;
 
 import com.example.ecommerce.common.aop.DistributedLock;
+import com.example.ecommerce.common.aop.DistributedMultiLock;
 import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.ProductStock;
 import com.example.ecommerce.product.domain.StockReservation;
 import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.dto.StockReserveItem;
 import com.example.ecommerce.product.repository.ProductStockRepository;
 import com.example.ecommerce.product.repository.StockReservationRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,12 +24,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class StockService {
+public class StockService implements StockReservationEngine {
     private static final int RESERVATION_TIME_THRESHOLD = 10;
 
     private final ProductStockRepository stockRepository;
     private final StockReservationRepository reservationRepository;
+    private final StockReservationWriter reservationWriter;
+    private final ProductDetailCache detailCache;
 
+    @Override
     @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public StockReservation reserve(Long orderId, Long productId, int quantity) {
@@ -47,6 +55,35 @@ public class StockService {
         return reservationRepository.save(reservation);
     }
 
+    /**
+     * 주문 항목 전체를 하나의 트랜잭션으로 예약
+     * 모든 상품의 락을 정렬된 순서로 한 번에 잡고(MultiLock), 하나라도 부족하면 전체 롤백한다.
+     * 같은 상품이 여러 항목에 있으면 같은 엔티티에 누적되므로 합계 기준으로 검증된다.
+     */
+    @Override
+    @DistributedMultiLock(prefix = "stock:lock:", keys = "#items.![productId()]", waitTime = 30, leaseTime = 10)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StockReservation> reserveAll(Long orderId, List<StockReserveItem> items) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIME_THRESHOLD);
+        Map<Long, ProductStock> stocks = new HashMap<>();
+        List<StockReservation> reservations = new ArrayList<>(items.size());
+
+        for (StockReserveItem item : items) {
+            ProductStock stock = stocks.computeIfAbsent(item.productId(), stockRepository::findByIdOrElseThrow);
+
+            if (!stock.hasEnoughStockToReservation(item.quantity())) {
+                throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
+
+            stock.increaseReservedStock(item.quantity());
+            reservations.add(reservationRepository.save(
+                StockReservation.create(orderId, item.productId(), item.quantity(), expiresAt)));
+        }
+
+        return reservations;
+    }
+
+    @Override
     @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void confirmReservation(Long productId, Long reservationId) {
@@ -59,8 +96,10 @@ public class StockService {
 
         stockRepository.save(stock);
         reservationRepository.save(reservation);
+        detailCache.markStale(productId);
     }
 
+    @Override
     @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void releaseReservation(Long productId, Long reservationId) {
@@ -74,26 +113,46 @@ public class StockService {
         reservationRepository.save(reservation);
     }
 
-    @Transactional
-    public void expireReservations() {
-        List<StockReservation> expired =
-            reservationRepository.findExpiredReservations(LocalDateTime.now());
+    /**
+     * 주문의 예약 일괄 확정
+     * 주문 상품의 락을 정렬된 순서로 한 번에 잡고, 한 트랜잭션에서 상품별 UPDATE 1회로 처리한다.
+     * 확정할 예약이 없으면 락 없이 상태만 확인한다 (만료로 해제되었거나 예약이 없으면 예외).
+     */
+    @Override
+    public void confirmAll(Long orderId) {
+        List<Long> productIds = findPendingProductIds(orderId);
+        if (productIds.isEmpty()) {
+            reservationWriter.confirmAll(orderId);
+            return;
+        }
+        reservationWriter.confirmAllLocked(orderId, productIds);
+    }
 
-        expired.forEach(reservation -> {
-            expireReservation(reservation.getProductId(), reservation.getId());
-        });
+    /**
+     * 주문의 예약 일괄 해제
+     */
+    @Override
+    public void releaseAll(Long orderId) {
+        List<Long> productIds = findPendingProductIds(orderId);
+        if (!productIds.isEmpty()) {
+            reservationWriter.releaseAllLocked(orderId, productIds);
+        }
     }
 
+    /**
+     * 만료 예약을 상품 락 1회 안에서 일괄 해제
+     * 확정/해제와 같은 락을 잡으므로 엔티티를 덮어쓰는 확정과 겹치지 않는다.
+     */
+    @Override
     @DistributedLock(key = "'stock:lock:' + #productId", waitTime = 30, leaseTime = 10)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void expireReservation(Long productId, Long reservationId) {
-        StockReservation reservation = reservationRepository.findByIdOrElseThrow(reservationId);
-        ProductStock stock = stockRepository.findByIdOrElseThrow(productId);
-
-        reservation.updateStatus(ReservationStatus.RELEASED);
-        stock.decreaseReservedStock(reservation.getQuantity());
+    public int releaseExpired(Long productId, List<StockReservation> reservations) {
+        return reservationWriter.releaseExpired(productId, reservations);
+    }
 
-        stockRepository.save(stock);
-        reservationRepository.save(reservation);
+    private List<Long> findPendingProductIds(Long orderId) {
+        return reservationRepository.findPendingByOrderId(orderId).stream()
+            .map(StockReservation::getProductId)
+            .distinct()
+            .toList();
     }
 }
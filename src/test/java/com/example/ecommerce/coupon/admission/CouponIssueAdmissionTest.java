@@ -0,0 +1,156 @@
+package com.example.ecommerce.coupon.admission;
+
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.common.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("쿠폰 발급 입장 제어 단위 테스트")
+class CouponIssueAdmissionTest {
+
+    @Nested
+    @DisplayName("노드 로컬 토큰 버킷")
+    class LocalRateLimiterTest {
+
+        @Test
+        @DisplayName("버스트만큼 허용한 뒤 대기 시간을 반환한다")
+        void tryAcquire_ExceedsBurst() {
+            // given: 초당 1개, 버스트 3개
+            LocalCouponIssueRateLimiter rateLimiter = new LocalCouponIssueRateLimiter(1, 3, 100);
+
+            // when & then
+            assertThat(rateLimiter.tryAcquire(1L)).isZero();
+            assertThat(rateLimiter.tryAcquire(1L)).isZero();
+            assertThat(rateLimiter.tryAcquire(1L)).isZero();
+            assertThat(rateLimiter.tryAcquire(1L)).isPositive();
+        }
+
+        @Test
+        @DisplayName("쿠폰마다 별도의 버킷을 사용한다")
+        void tryAcquire_PerCoupon() {
+            // given
+            LocalCouponIssueRateLimiter rateLimiter = new LocalCouponIssueRateLimiter(1, 1, 100);
+            rateLimiter.tryAcquire(1L);
+
+            // when & then
+            assertThat(rateLimiter.tryAcquire(1L)).isPositive();
+            assertThat(rateLimiter.tryAcquire(2L)).isZero();
+        }
+
+        @Test
+        @DisplayName("버킷 수가 최대치면 쉬고 있던 버킷을 정리하고, 자리가 없으면 새 쿠폰을 거절한다")
+        void tryAcquire_BoundedBuckets() throws InterruptedException {
+            // given: 초당 1개, 버스트 1개 (1초 쉬면 가득 참), 최대 2개
+            LocalCouponIssueRateLimiter rateLimiter = new LocalCouponIssueRateLimiter(1, 1, 2);
+            rateLimiter.tryAcquire(1L);
+            rateLimiter.tryAcquire(2L);
+
+            // when & then: 모두 사용 중이면 새 쿠폰은 거절
+            assertThat(rateLimiter.tryAcquire(3L)).isPositive();
+            assertThat(rateLimiter.size()).isEqualTo(2);
+
+            // when & then: 쉬고 있던 버킷이 정리되면 허용
+            Thread.sleep(1100);
+            assertThat(rateLimiter.tryAcquire(3L)).isZero();
+            assertThat(rateLimiter.size()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("입장 제어")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("동시 처리 수 초과로 거절된 요청은 처리율 토큰을 소비하지 않는다")
+        void execute_ConcurrencyRejectedDoesNotConsumeToken() throws InterruptedException {
+            // given: 동시 처리 1개, 토큰 호출 횟수 기록
+            AtomicInteger acquired = new AtomicInteger();
+            CouponIssueAdmission admission = new CouponIssueAdmission(couponId -> {
+                acquired.incrementAndGet();
+                return 0L;
+            }, 1);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.submit(() -> admission.execute(1L, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            started.await();
+
+            // when
+            assertThatThrownBy(() -> admission.execute(1L, () -> { }))
+                .isInstanceOf(RateLimitExceededException.class);
+
+            // then: 먼저 들어간 요청의 토큰만 소비
+            assertThat(acquired.get()).isEqualTo(1);
+
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("처리율을 초과하면 요청을 실행하지 않고 Retry-After 힌트와 함께 거절한다")
+        void execute_RateLimited() {
+            // given
+            CouponIssueAdmission admission = new CouponIssueAdmission(couponId -> 1500L, 10);
+            Runnable request = () -> {
+                throw new AssertionError("실행되면 안 됩니다.");
+            };
+
+            // when & then
+            assertThatThrownBy(() -> admission.execute(1L, request))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> {
+                    RateLimitExceededException exception = (RateLimitExceededException) e;
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_ISSUE_THROTTLED);
+                    assertThat(exception.getRetryAfterSeconds()).isEqualTo(2L);
+                });
+        }
+
+        @Test
+        @DisplayName("동시 처리 수를 초과한 요청은 즉시 거절되고, 처리가 끝나면 다시 허용된다")
+        void execute_ConcurrencyLimited() throws InterruptedException {
+            // given: 동시 처리 1개
+            CouponIssueAdmission admission = new CouponIssueAdmission(couponId -> 0L, 1);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            executor.submit(() -> admission.execute(1L, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            started.await();
+
+            // when & then
+            assertThatThrownBy(() -> admission.execute(2L, () -> { }))
+                .isInstanceOf(RateLimitExceededException.class);
+
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+
+            admission.execute(2L, () -> { });
+        }
+    }
+}
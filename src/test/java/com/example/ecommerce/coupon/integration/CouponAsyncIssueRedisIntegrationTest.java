@@ -1,5 +1,6 @@
 package com.example.ecommerce.coupon.integration;
 
+import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.config.TestContainersConfig;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.UserCoupon;
@@ -12,17 +13,23 @@ import com.example.ecommerce.coupon.facade.CouponIssueFacade;
 import com.example.ecommerce.coupon.repository.CouponRepository;
 import com.example.ecommerce.coupon.repository.UserCouponRepository;
 import com.example.ecommerce.coupon.scheduler.CouponIssueScheduler;
+import com.example.ecommerce.coupon.service.CouponPrewarmService;
+import com.example.ecommerce.coupon.service.CouponReconciliationService;
 import com.example.ecommerce.coupon.service.CouponRedisService;
+import com.example.ecommerce.coupon.service.CouponSoldOutRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,8 +40,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * STEP 14: 쿠폰 비동기 발급 Redis 통합 테스트
@@ -46,7 +56,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 4. 전체 플로우: 요청 접수 → Redis 대기열 → Scheduler → DB 발급
  */
 @Slf4j
-@SpringBootTest
+@SpringBootTest(properties = "coupon.issue.event-drain.enabled=false") // 대기열 상태 검증을 위해 스케줄러로만 처리
 @ActiveProfiles("test")
 @Import(TestContainersConfig.class)
 @DisplayName("STEP 14: 쿠폰 비동기 발급 Redis 통합 테스트")
@@ -61,6 +71,15 @@ class CouponAsyncIssueRedisIntegrationTest {
     @Autowired
     private CouponRedisService couponRedisService;
 
+    @Autowired
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Autowired
+    private CouponReconciliationService reconciliationService;
+
+    @Autowired
+    private CouponPrewarmService prewarmService;
+
     @Autowired
     private CouponRepository couponRepository;
 
@@ -274,7 +293,7 @@ class CouponAsyncIssueRedisIntegrationTest {
         assertThat(initialQueueSize).isLessThanOrEqualTo(TOTAL_QUANTITY);
 
         // when: Scheduler 실행 (1회)
-        // Scheduler는 MAX_BATCH_SIZE=100으로 처리
+        // Scheduler는 대기열이 빌 때까지 적응형 배치로 처리
         log.info("🔄 Scheduler 시작 - 대기열 크기: {}", initialQueueSize);
         couponIssueScheduler.processCouponIssue();
         Thread.sleep(10000); // 100개 처리 시간 충분히 대기
@@ -320,4 +339,417 @@ class CouponAsyncIssueRedisIntegrationTest {
 
         log.info("✅ 동기화 확인 - Redis: {}, DB: {}", redisCount, dbIssuedCount);
     }
+
+    @Test
+    @DisplayName("Lua 스크립트 단일 왕복 경로와 기존 다중 호출 경로의 처리량 비교")
+    void issueRequestScript_throughputComparedToMultiCallPath() throws InterruptedException {
+        // given: Redis 전용 비교이므로 DB에 없는 별도 쿠폰 ID 사용
+        Long multiCallCouponId = 900_001L;
+        Long scriptCouponId = 900_002L;
+        int requests = 5000;
+        int limit = 1000;
+
+        // when
+        long multiCallElapsed = runConcurrently(requests, userId -> issueByMultiCall(multiCallCouponId, userId, limit));
+        long scriptElapsed = runConcurrently(requests,
+            userId -> couponRedisService.issueRequest(scriptCouponId, userId, limit));
+
+        log.info("✅ 다중 호출 경로 - {}건, {}ms, {} req/s",
+            requests, multiCallElapsed, requests * 1000L / Math.max(1, multiCallElapsed));
+        log.info("✅ Lua 스크립트 경로 - {}건, {}ms, {} req/s",
+            requests, scriptElapsed, requests * 1000L / Math.max(1, scriptElapsed));
+
+        // then: 두 경로 모두 정확히 limit 만큼만 접수되어야 한다
+        assertThat(couponRedisService.getCurrentCount(multiCallCouponId)).isEqualTo(limit);
+        assertThat(couponRedisService.getCurrentCount(scriptCouponId)).isEqualTo(limit);
+        assertThat(couponRedisService.getWaitingQueueSize(multiCallCouponId)).isEqualTo(limit);
+        assertThat(couponRedisService.getWaitingQueueSize(scriptCouponId)).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트 경로는 중복/마감 요청 시 카운터를 증가시키지 않아야 한다")
+    void issueRequestScript_shouldNotTouchCounterOnRejection() {
+        // given
+        Long couponId = testCoupon.getId();
+
+        // when
+        CouponRedisService.IssueResult first = couponRedisService.issueRequest(couponId, 1L, 1);
+        CouponRedisService.IssueResult duplicate = couponRedisService.issueRequest(couponId, 1L, 1);
+        CouponRedisService.IssueResult soldOut = couponRedisService.issueRequest(couponId, 2L, 1);
+
+        // then
+        assertThat(first).isEqualTo(CouponRedisService.IssueResult.SUCCESS);
+        assertThat(duplicate).isEqualTo(CouponRedisService.IssueResult.DUPLICATE);
+        assertThat(soldOut).isEqualTo(CouponRedisService.IssueResult.SOLD_OUT);
+        assertThat(couponRedisService.getCurrentCount(couponId)).isEqualTo(1L);
+        assertThat(couponRedisService.getUserStatus(couponId, 1L)).isEqualTo("PENDING");
+        assertThat(couponRedisService.getUserStatus(couponId, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("발급 실패 확정 시 FAILED 상태와 함께 카운터가 한 번만 롤백되어야 한다")
+    void failIssue_shouldRollbackCounterOnce() {
+        // given
+        Long couponId = testCoupon.getId();
+        couponRedisService.issueRequest(couponId, 1L, TOTAL_QUANTITY);
+        couponRedisService.issueRequest(couponId, 2L, TOTAL_QUANTITY);
+
+        // when: 같은 사용자를 두 번 실패 처리
+        long firstRollback = couponRedisService.failIssue(couponId, List.of(1L));
+        long secondRollback = couponRedisService.failIssue(couponId, List.of(1L));
+
+        // then
+        assertThat(firstRollback).isEqualTo(1L);
+        assertThat(secondRollback).isZero();
+        assertThat(couponRedisService.getCurrentCount(couponId)).isEqualTo(1L);
+        assertThat(couponRedisService.getUserStatus(couponId, 1L)).isEqualTo("FAILED");
+
+        // 롤백된 수량은 다시 요청할 수 있어야 한다
+        assertThat(couponRedisService.issueRequest(couponId, 1L, TOTAL_QUANTITY))
+            .isEqualTo(CouponRedisService.IssueResult.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("대기열이 남은 채 처리를 마치면 대기 쿠폰 집합에 남아 스윕 대상이 되어야 한다")
+    void completeDrain_shouldKeepPendingWhileQueueRemains() {
+        // given: 3명 대기 중, 1명만 처리
+        Long couponId = testCoupon.getId();
+        for (long userId = 1; userId <= 3; userId++) {
+            couponRedisService.issueRequest(couponId, userId, TOTAL_QUANTITY);
+        }
+        couponRedisService.popFromWaitingQueue(couponId, 1);
+
+        // when: 재신호 없이 처리 종료 (처리 실패)
+        boolean resignaled = couponRedisService.completeDrain(couponId, false);
+
+        // then: 남은 2명이 스윕으로 처리될 수 있도록 집합에 유지
+        assertThat(resignaled).isFalse();
+        assertThat(couponRedisService.getPendingCouponIds()).contains(couponId);
+
+        // when: 나머지를 모두 처리하면
+        couponRedisService.popFromWaitingQueue(couponId, 10);
+        couponRedisService.completeDrain(couponId, true);
+
+        // then: 집합에서 제거
+        assertThat(couponRedisService.getPendingCouponIds()).doesNotContain(couponId);
+    }
+
+    @Test
+    @DisplayName("처리한 요청이 없어도 실패 없이 끝난 드레인은 남은 대기열을 재신호해야 한다")
+    void completeDrain_shouldResignalRemainingQueueEvenWhenNothingProcessed() {
+        // given: 리스 보유 중 도착해 신호가 버려진 요청
+        Long couponId = testCoupon.getId();
+        couponRedisService.issueRequest(couponId, 1L, TOTAL_QUANTITY);
+
+        // when: 처리 0건으로 드레인 종료
+        boolean resignaled = couponRedisService.completeDrain(couponId, true);
+
+        // then: 대기열이 남아 있으므로 재신호
+        assertThat(resignaled).isTrue();
+        assertThat(couponRedisService.getPendingCouponIds()).contains(couponId);
+    }
+
+    @Test
+    @DisplayName("재시도 항목은 재시도 시각이 지난 것만 한 번씩 선점되어야 한다")
+    void claimDueRetries_shouldClaimOnlyDueEntriesOnce() {
+        // given
+        Long couponId = testCoupon.getId();
+        long now = System.currentTimeMillis();
+        couponRedisService.scheduleRetry(couponId, List.of(1L, 2L), 1, now - 1000);
+        couponRedisService.scheduleRetry(couponId, List.of(3L), 2, now + 60_000);
+
+        // when
+        List<CouponRedisService.IssueRetry> claimed = couponRedisService.claimDueRetries(now, 100, 60_000);
+        List<CouponRedisService.IssueRetry> claimedAgain = couponRedisService.claimDueRetries(now, 100, 60_000);
+
+        // then
+        assertThat(claimed).extracting(CouponRedisService.IssueRetry::userId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(claimed).allMatch(retry -> retry.attempt() == 1 && retry.couponId().equals(couponId));
+        assertThat(claimedAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료 처리하지 않은 선점 항목은 처리 기한이 지나면 다시 선점되어야 한다")
+    void claimDueRetries_shouldRequeueUnackedEntriesAfterVisibilityTimeout() {
+        // given: 두 항목 선점, 1명만 완료 처리 (나머지는 처리 중 장애를 가정)
+        Long couponId = testCoupon.getId();
+        long now = System.currentTimeMillis();
+        couponRedisService.scheduleRetry(couponId, List.of(1L, 2L), 1, now - 1000);
+        List<CouponRedisService.IssueRetry> claimed = couponRedisService.claimDueRetries(now, 100, 1000);
+        couponRedisService.ackRetries(claimed.stream().filter(retry -> retry.userId() == 1L).toList());
+
+        // when: 기한 전에는 복구되지 않고, 기한 후에는 재시도 큐로 되돌아간다
+        long recoveredBeforeDeadline = couponRedisService.recoverExpiredRetries(now);
+        long recoveredAfterDeadline = couponRedisService.recoverExpiredRetries(now + 2000);
+        List<CouponRedisService.IssueRetry> reclaimed = couponRedisService.claimDueRetries(now + 2000, 100, 1000);
+
+        // then
+        assertThat(recoveredBeforeDeadline).isZero();
+        assertThat(recoveredAfterDeadline).isEqualTo(1L);
+        assertThat(reclaimed).extracting(CouponRedisService.IssueRetry::userId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("마지막 수량이 예약되면 매진 메시지로 로컬 레지스트리가 갱신되고, 롤백 시 해제되어야 한다")
+    void soldOutRegistry_shouldFollowPublishedSoldOutAndReopen() throws InterruptedException {
+        // given: 전체 수량 예약
+        Long couponId = testCoupon.getId();
+        for (long userId = 1; userId <= TOTAL_QUANTITY; userId++) {
+            couponRedisService.issueRequest(couponId, userId, TOTAL_QUANTITY);
+        }
+
+        // then: Pub/Sub 메시지로 매진 표시, 이후 요청은 Redis 왕복 없이 거절
+        assertThat(waitUntil(() -> soldOutRegistry.isSoldOut(couponId))).isTrue();
+        assertThatThrownBy(() -> couponIssueFacade.issueRequest(couponId, 9999L))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("선착순 마감");
+
+        // when: 발급 실패로 수량이 롤백되면
+        couponRedisService.failIssue(couponId, List.of(1L));
+
+        // then: 매진 표시가 해제된다
+        assertThat(waitUntil(() -> !soldOutRegistry.isSoldOut(couponId))).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 상태 일괄 저장은 청크당 파이프라인 1회로 처리되어야 한다")
+    void setUserStatusBatch_shouldUseOnePipelinePerChunk() {
+        // given: 왕복 수 검증을 위해 템플릿을 spy 로 감싼 서비스 (Redis 전용 비교이므로 DB에 없는 별도 쿠폰 ID 사용)
+        RedisTemplate<String, String> templateSpy = Mockito.spy(redisTemplate);
+        CouponRedisService spiedService = new CouponRedisService(templateSpy);
+        Long perUserCouponId = 900_003L;
+        Long batchCouponId = 900_004L;
+        List<Long> userIds = java.util.stream.LongStream.rangeClosed(1, 2500).boxed().toList();
+
+        // when
+        long perUserStart = System.currentTimeMillis();
+        userIds.forEach(userId -> couponRedisService.setUserStatus(perUserCouponId, userId, "ISSUED"));
+        long perUserElapsed = System.currentTimeMillis() - perUserStart;
+
+        long batchStart = System.currentTimeMillis();
+        List<Long> failed = spiedService.setUserStatusBatch(batchCouponId, userIds, "ISSUED");
+        long batchElapsed = System.currentTimeMillis() - batchStart;
+
+        log.info("✅ 개별 저장 - {}명, {}ms", userIds.size(), perUserElapsed);
+        log.info("✅ Pipeline 일괄 저장 - {}명, {}ms", userIds.size(), batchElapsed);
+
+        // then: 1000명 청크마다 파이프라인 1회 (2500명 → 3회), 개별 명령 경로는 사용하지 않는다
+        Mockito.verify(templateSpy, Mockito.times(3)).executePipelined(Mockito.any(RedisCallback.class));
+        Mockito.verify(templateSpy, Mockito.never()).opsForValue();
+
+        // 모든 사용자 상태가 TTL과 함께 저장되어야 한다
+        assertThat(failed).isEmpty();
+        assertThat(userIds).allMatch(userId -> "ISSUED".equals(couponRedisService.getUserStatus(batchCouponId, userId)));
+        assertThat(redisTemplate.getExpire("coupon:" + batchCouponId + ":user:2500:status")).isPositive();
+    }
+
+    @Test
+    @DisplayName("사용자 상태 일괄 저장은 실패한 청크의 사용자만 반환해야 한다")
+    void setUserStatusBatch_shouldReturnUsersOfFailedChunk() {
+        // given: 두 번째 청크의 파이프라인만 실패
+        RedisTemplate<String, String> templateSpy = Mockito.spy(redisTemplate);
+        Mockito.doCallRealMethod()
+            .doThrow(new IllegalStateException("pipeline failure"))
+            .doCallRealMethod()
+            .when(templateSpy).executePipelined(Mockito.any(RedisCallback.class));
+        CouponRedisService spiedService = new CouponRedisService(templateSpy);
+        Long couponId = 900_005L;
+        List<Long> userIds = java.util.stream.LongStream.rangeClosed(1, 2500).boxed().toList();
+
+        // when
+        List<Long> failed = spiedService.setUserStatusBatch(couponId, userIds, "ISSUED");
+
+        // then: 1001 ~ 2000 만 실패로 반환되고 나머지 청크는 저장된다
+        assertThat(failed).containsExactlyElementsOf(userIds.subList(1000, 2000));
+        assertThat(couponRedisService.getUserStatus(couponId, 1L)).isEqualTo("ISSUED");
+        assertThat(couponRedisService.getUserStatus(couponId, 1500L)).isNull();
+        assertThat(couponRedisService.getUserStatus(couponId, 2500L)).isEqualTo("ISSUED");
+    }
+
+    @Test
+    @DisplayName("비트맵 중복 체크 모드는 SET 모드와 같은 결과를 내면서 메모리를 적게 사용해야 한다")
+    void bitmapDedupeMode_comparedToSetMode() {
+        // given: 모드별 서비스 인스턴스 (Redis 전용 비교이므로 DB에 없는 별도 쿠폰 ID 사용)
+        CouponRedisService setService = new CouponRedisService(redisTemplate);
+        CouponRedisService bitmapService = new CouponRedisService(redisTemplate);
+        ReflectionTestUtils.setField(bitmapService, "dedupeMode", CouponRedisService.DedupeMode.BITMAP);
+
+        Long setCouponId = 900_005L;
+        Long bitmapCouponId = 900_006L;
+        int users = 20_000;
+
+        // when
+        long setElapsed = issueSequentially(setService, setCouponId, users);
+        long bitmapElapsed = issueSequentially(bitmapService, bitmapCouponId, users);
+
+        long setMemory = memoryUsage("coupon:" + setCouponId + ":issued:users");
+        long bitmapMemory = memoryUsage("coupon:" + bitmapCouponId + ":issued:bitmap");
+
+        log.info("✅ SET 모드 - {}명, {}ms, 발급 사용자 키 {} bytes", users, setElapsed, setMemory);
+        log.info("✅ BITMAP 모드 - {}명, {}ms, 발급 사용자 키 {} bytes", users, bitmapElapsed, bitmapMemory);
+
+        // then: 접수 결과는 동일하고, 비트맵이 더 작아야 한다
+        assertThat(setService.getCurrentCount(setCouponId)).isEqualTo(users);
+        assertThat(bitmapService.getCurrentCount(bitmapCouponId)).isEqualTo(users);
+        assertThat(bitmapMemory).isLessThan(setMemory);
+
+        // 중복 요청 차단과 실패 롤백도 비트맵에서 동일하게 동작해야 한다
+        assertThat(bitmapService.issueRequest(bitmapCouponId, 1L, users + 1))
+            .isEqualTo(CouponRedisService.IssueResult.DUPLICATE);
+        assertThat(bitmapService.failIssue(bitmapCouponId, List.of(1L, 1L))).isEqualTo(1L);
+        assertThat(bitmapService.issueRequest(bitmapCouponId, 1L, users))
+            .isEqualTo(CouponRedisService.IssueResult.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 DB 발급 수량과 Redis 카운터의 오차를 바로잡아야 한다")
+    void reconcile_shouldRepairDbAndRedisDrift() {
+        // given: DB issued_quantity 5 (실제 발급 0건), Redis 카운터 7 (발급 요청 사용자 2명)
+        Coupon drifted = couponRepository.save(Coupon.builder()
+            .name("오차 쿠폰")
+            .discountValue(DiscountValue.fixed(10000L))
+            .quantity(CouponQuantity.of(TOTAL_QUANTITY, 5))
+            .validPeriod(ValidPeriod.of(LocalDateTime.now(), LocalDateTime.now().plusDays(7)))
+            .minOrderAmount(Money.of(0L))
+            .status(CouponStatus.ACTIVE)
+            .build());
+        Long couponId = drifted.getId();
+
+        couponRedisService.issueRequest(couponId, 1L, TOTAL_QUANTITY);
+        couponRedisService.issueRequest(couponId, 2L, TOTAL_QUANTITY);
+        redisTemplate.opsForValue().set("coupon:" + couponId + ":counter", "7");
+
+        // when
+        CouponReconciliationService.ReconcileResult result = reconciliationService.reconcile(couponId);
+
+        // then
+        assertThat(result.dbRepaired()).isTrue();
+        assertThat(couponRepository.findByIdOrElseThrow(couponId).getQuantity().getIssuedQuantity()).isZero();
+        assertThat(result.counter().drift()).isEqualTo(5L);
+        assertThat(couponRedisService.getCurrentCount(couponId)).isEqualTo(2L);
+
+        // 이미 맞춰진 상태에서는 아무것도 바꾸지 않는다
+        CouponReconciliationService.ReconcileResult again = reconciliationService.reconcile(couponId);
+        assertThat(again.dbRepaired()).isFalse();
+        assertThat(again.redisRepaired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 순번은 접수 순번과 처리 완료 순번의 차이로 계산되어야 한다")
+    void issueStatusSnapshot_shouldComputeRankFromSequence() {
+        // given: 3명 접수 (접수 순서 = 대기열 순서)
+        Long couponId = testCoupon.getId();
+        couponRedisService.issueRequest(couponId, 30L, TOTAL_QUANTITY);
+        couponRedisService.issueRequest(couponId, 10L, TOTAL_QUANTITY);
+        couponRedisService.issueRequest(couponId, 20L, TOTAL_QUANTITY);
+
+        assertThat(couponRedisService.getIssueStatusSnapshot(couponId, 20L))
+            .isEqualTo(new CouponRedisService.IssueStatusSnapshot("PENDING", 3L, 3L));
+
+        // when: 앞의 2명 처리
+        List<Long> popped = couponRedisService.popFromWaitingQueue(couponId, 2);
+
+        // then: userId가 아닌 접수 순서대로 추출되고, 남은 사용자의 순번이 당겨진다
+        assertThat(popped).containsExactly(30L, 10L);
+        assertThat(couponRedisService.getIssueStatusSnapshot(couponId, 20L))
+            .isEqualTo(new CouponRedisService.IssueStatusSnapshot("PENDING", 1L, 1L));
+        assertThat(couponRedisService.getUserStatus(couponId, 20L)).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("사전 준비는 카운터와 순번 키를 만들고, 기존 값은 덮어쓰지 않아야 한다")
+    void prewarm_shouldCreateKeysWithoutOverwriting() {
+        // given
+        Long couponId = testCoupon.getId();
+
+        // when
+        prewarmService.prewarm(couponId);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("coupon:" + couponId + ":counter")).isEqualTo("0");
+        assertThat(redisTemplate.opsForValue().get("coupon:" + couponId + ":seq")).isEqualTo("0");
+
+        // 진행 중인 쿠폰을 다시 준비해도 카운터는 유지된다
+        couponRedisService.issueRequest(couponId, 1L, TOTAL_QUANTITY);
+        prewarmService.prewarm(couponId);
+        assertThat(couponRedisService.getCurrentCount(couponId)).isEqualTo(1L);
+    }
+
+    private long issueSequentially(CouponRedisService service, Long couponId, int users) {
+        long start = System.currentTimeMillis();
+        for (long userId = 1; userId <= users; userId++) {
+            service.issueRequest(couponId, userId, users);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection ->
+            connection.execute("MEMORY", "USAGE".getBytes(), key.getBytes()));
+        return usage instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private boolean waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+
+    /**
+     * Lua 스크립트 도입 전 다중 호출 경로 (INCR → SADD → ZADD → SET, 실패 시 DECR 보상)
+     */
+    private void issueByMultiCall(Long couponId, Long userId, int limit) {
+        String counterKey = "coupon:" + couponId + ":counter";
+        Long count = redisTemplate.opsForValue().increment(counterKey);
+        if (count == null || count > limit) {
+            redisTemplate.opsForValue().decrement(counterKey);
+            return;
+        }
+        Long added = redisTemplate.opsForSet().add("coupon:" + couponId + ":issued:users", userId.toString());
+        if (added == null || added != 1L) {
+            redisTemplate.opsForValue().decrement(counterKey);
+            return;
+        }
+        Boolean queued = redisTemplate.opsForZSet()
+            .add("coupon:" + couponId + ":waiting:queue", userId.toString(), System.currentTimeMillis());
+        if (!Boolean.TRUE.equals(queued)) {
+            redisTemplate.opsForValue().decrement(counterKey);
+            return;
+        }
+        couponRedisService.setUserStatus(couponId, userId, "PENDING");
+    }
+
+    private long runConcurrently(int requests, Consumer<Long> task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            final Long userId = (long) (i + 1);
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    task.accept(userId);
+                } catch (Exception e) {
+                    log.debug("요청 실패 - userId: {}, reason: {}", userId, e.getMessage());
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long start = System.currentTimeMillis();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(60, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - start;
+        executorService.shutdown();
+
+        assertThat(finished).isTrue();
+        return elapsed;
+    }
 }
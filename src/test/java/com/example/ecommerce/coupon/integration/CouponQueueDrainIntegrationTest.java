@@ -0,0 +1,239 @@
+package com.example.ecommerce.coupon.integration;
+
+import com.example.ecommerce.config.TestContainersConfig;
+import com.example.ecommerce.coupon.domain.Coupon;
+import com.example.ecommerce.coupon.domain.status.CouponStatus;
+import com.example.ecommerce.coupon.domain.vo.CouponQuantity;
+import com.example.ecommerce.coupon.domain.vo.DiscountValue;
+import com.example.ecommerce.coupon.domain.vo.ValidPeriod;
+import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import com.example.ecommerce.coupon.scheduler.CouponQueueProcessor;
+import com.example.ecommerce.coupon.service.CouponRedisService;
+import com.example.ecommerce.product.domain.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 대기열 드레인 통합 테스트
+ *
+ * 핵심 검증 사항:
+ * 1. 같은 쿠폰을 여러 워커가 동시에 드레인해도 사용자마다 한 번만 발급된다 (쿠폰별 리스)
+ * 2. 쿠폰별 리스는 서로 독립적이어서 다른 쿠폰의 드레인을 막지 않는다
+ */
+@Slf4j
+@SpringBootTest(properties = { // 드레인 시점을 테스트에서 직접 제어
+    "coupon.issue.event-drain.enabled=false",
+    "coupon.issue.sweep-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("쿠폰 대기열 드레인 통합 테스트")
+class CouponQueueDrainIntegrationTest {
+
+    @Autowired
+    private CouponQueueProcessor queueProcessor;
+
+    @Autowired
+    private CouponRedisService couponRedisService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final int TOTAL_QUANTITY = 100;
+
+    @BeforeEach
+    void setUp() {
+        clearRedis();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAllInBatch();
+        couponRepository.deleteAllInBatch();
+        clearRedis();
+    }
+
+    @Test
+    @DisplayName("[핵심] 같은 쿠폰을 동시에 드레인해도 사용자마다 한 번만 발급되어야 한다")
+    void concurrentDrainsOfSameCoupon_shouldNotDoubleIssue() throws Exception {
+        // given: 100명 대기
+        Long couponId = createCoupon();
+        enqueue(couponId, TOTAL_QUANTITY);
+
+        // when: 8개 워커가 동시에 드레인
+        List<Integer> processed = drainConcurrently(List.of(couponId, couponId, couponId, couponId,
+            couponId, couponId, couponId, couponId));
+
+        // then: 모든 워커가 처리한 합이 정확히 100명
+        log.info("✅ 워커별 처리 수: {}", processed);
+        assertThat(processed.stream().mapToInt(Integer::intValue).sum()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(TOTAL_QUANTITY);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getQuantity().getIssuedQuantity())
+            .isEqualTo(TOTAL_QUANTITY);
+        assertThat(couponRedisService.getWaitingQueueSize(couponId)).isZero();
+        assertThat(LongStream.rangeClosed(1, TOTAL_QUANTITY))
+            .allMatch(userId -> "ISSUED".equals(couponRedisService.getUserStatus(couponId, userId)));
+    }
+
+    @Test
+    @DisplayName("다른 워커가 리스를 잡고 있는 쿠폰은 드레인하지 않아야 한다")
+    void drain_shouldSkipWhileLeaseIsHeldByAnotherWorker() throws Exception {
+        // given: 10명 대기, 다른 워커가 리스 보유
+        Long couponId = createCoupon();
+        enqueue(couponId, 10);
+        RLock lease = redissonClient.getLock("coupon:drain:lease:" + couponId);
+        lease.lock();
+
+        try {
+            // when: 다른 스레드에서 드레인 시도
+            int processed = CompletableFuture.supplyAsync(() -> queueProcessor.drain(couponId))
+                .get(10, TimeUnit.SECONDS);
+
+            // then: 바로 반환하고 대기열은 그대로
+            assertThat(processed).isZero();
+            assertThat(couponRedisService.getWaitingQueueSize(couponId)).isEqualTo(10L);
+            assertThat(userCouponRepository.countByCouponId(couponId)).isZero();
+
+        } finally {
+            lease.unlock();
+        }
+
+        // when: 리스가 풀리면
+        int processed = queueProcessor.drain(couponId);
+
+        // then
+        assertThat(processed).isEqualTo(10);
+        assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("한 쿠폰의 리스가 잡혀 있어도 다른 쿠폰은 드레인되어야 한다")
+    void drain_shouldNotBlockOtherCoupons() throws Exception {
+        // given: 두 쿠폰에 각각 20명 대기, 첫 쿠폰은 다른 워커가 처리 중
+        Long busyCouponId = createCoupon();
+        Long otherCouponId = createCoupon();
+        enqueue(busyCouponId, 20);
+        enqueue(otherCouponId, 20);
+        RLock lease = redissonClient.getLock("coupon:drain:lease:" + busyCouponId);
+        lease.lock();
+
+        try {
+            // when
+            int processed = CompletableFuture.supplyAsync(() -> queueProcessor.drain(otherCouponId))
+                .get(10, TimeUnit.SECONDS);
+
+            // then: 다른 쿠폰은 모두 처리되고, 처리 중인 쿠폰은 그대로
+            assertThat(processed).isEqualTo(20);
+            assertThat(userCouponRepository.countByCouponId(otherCouponId)).isEqualTo(20L);
+            assertThat(couponRedisService.getWaitingQueueSize(busyCouponId)).isEqualTo(20L);
+
+        } finally {
+            lease.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰을 병렬로 드레인하면 쿠폰마다 대기열만큼 발급되어야 한다")
+    void parallelDrainsOfDifferentCoupons_shouldIssueEachQueue() throws Exception {
+        // given: 쿠폰 3개에 각각 50명 대기
+        List<Long> couponIds = List.of(createCoupon(), createCoupon(), createCoupon());
+        couponIds.forEach(couponId -> enqueue(couponId, 50));
+
+        // when
+        List<Integer> processed = drainConcurrently(couponIds);
+
+        // then
+        assertThat(processed).containsExactly(50, 50, 50);
+        for (Long couponId : couponIds) {
+            assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(50L);
+            assertThat(couponRepository.findById(couponId).orElseThrow().getQuantity().getIssuedQuantity())
+                .isEqualTo(50);
+            assertThat(couponRedisService.getWaitingQueueSize(couponId)).isZero();
+        }
+    }
+
+    private Long createCoupon() {
+        Coupon coupon = Coupon.builder()
+            .name("드레인 테스트 쿠폰")
+            .discountValue(DiscountValue.fixed(1000L))
+            .quantity(CouponQuantity.of(TOTAL_QUANTITY))
+            .validPeriod(ValidPeriod.of(LocalDateTime.now(), LocalDateTime.now().plusDays(7)))
+            .minOrderAmount(Money.of(0L))
+            .status(CouponStatus.ACTIVE)
+            .build();
+        return couponRepository.save(coupon).getId();
+    }
+
+    private void enqueue(Long couponId, int users) {
+        for (long userId = 1; userId <= users; userId++) {
+            couponRedisService.issueRequest(couponId, userId, TOTAL_QUANTITY);
+        }
+    }
+
+    // 쿠폰 ID마다 워커 하나씩 동시에 출발시켜 드레인하고, 워커별 처리 수를 입력 순서대로 반환
+    private List<Integer> drainConcurrently(List<Long> couponIds) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(couponIds.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Long couponId : couponIds) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return queueProcessor.drain(couponId);
+                }));
+            }
+            startLatch.countDown();
+
+            List<Integer> processed = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                processed.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return processed;
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void clearRedis() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
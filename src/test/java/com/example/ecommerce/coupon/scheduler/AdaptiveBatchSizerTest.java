@@ -0,0 +1,53 @@
+package com.example.ecommerce.coupon.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveBatchSizer 테스트")
+class AdaptiveBatchSizerTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    @Test
+    @DisplayName("처음에는 기본 배치 크기를 사용하고 대기열 크기를 넘지 않는다")
+    void initialBatchSize() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer();
+
+        assertThat(sizer.next(COUPON_ID, 10_000)).isEqualTo(AdaptiveBatchSizer.INITIAL_BATCH_SIZE);
+        assertThat(sizer.next(COUPON_ID, 30)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("배치를 빠르게 처리하면 배치 크기를 키운다")
+    void growsWhenFast() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer();
+
+        sizer.record(COUPON_ID, AdaptiveBatchSizer.INITIAL_BATCH_SIZE, 10);
+
+        assertThat(sizer.next(COUPON_ID, 10_000)).isEqualTo(AdaptiveBatchSizer.INITIAL_BATCH_SIZE * 2);
+    }
+
+    @Test
+    @DisplayName("배치 처리가 목표 시간을 넘으면 배치 크기를 줄이되 최소값 아래로는 줄이지 않는다")
+    void shrinksWhenSlow() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer();
+
+        for (int i = 0; i < 10; i++) {
+            sizer.record(COUPON_ID, AdaptiveBatchSizer.INITIAL_BATCH_SIZE, AdaptiveBatchSizer.TARGET_BATCH_MILLIS * 2);
+        }
+
+        assertThat(sizer.next(COUPON_ID, 10_000)).isEqualTo(AdaptiveBatchSizer.MIN_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("대기열 크기보다 작은 배치를 처리한 경우에는 배치 크기를 키우지 않는다")
+    void doesNotGrowOnPartialBatch() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer();
+
+        sizer.record(COUPON_ID, 5, 1);
+
+        assertThat(sizer.next(COUPON_ID, 10_000)).isEqualTo(AdaptiveBatchSizer.INITIAL_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.service.CouponIssueQueryService.CouponIssueStatusResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueStatusNotifier 단위 테스트")
+class CouponIssueStatusNotifierTest {
+
+    @Mock
+    private CouponIssueQueryService queryService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private CouponIssueStatusNotifier notifier;
+
+    private static final Long COUPON_ID = 1L;
+
+    private CouponIssueStatusResponse statusOf(String status) {
+        return CouponIssueStatusResponse.builder().status(status).build();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+            CouponRedisService.ISSUE_STATUS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Nested
+    @DisplayName("상태 구독")
+    class ConnectTest {
+
+        @Test
+        @DisplayName("대기 중인 사용자는 최종 상태가 기록될 때까지 구독을 유지한다")
+        void connect_Pending() {
+            // given
+            given(queryService.getIssueStatus(COUPON_ID, 10L)).willReturn(statusOf("PENDING"));
+
+            // when
+            notifier.connect(COUPON_ID, 10L);
+
+            // then
+            assertThat(notifier.getSubscriberCount(COUPON_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이미 최종 상태인 사용자는 즉시 응답하고 구독하지 않는다")
+        void connect_AlreadyIssued() {
+            // given
+            given(queryService.getIssueStatus(COUPON_ID, 10L)).willReturn(statusOf("ISSUED"));
+
+            // when
+            notifier.connect(COUPON_ID, 10L);
+
+            // then
+            assertThat(notifier.getSubscriberCount(COUPON_ID)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 변경 알림")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("메시지에 포함된 사용자의 구독만 최종 상태로 완료된다")
+        void onMessage_CompletesOnlyListedUsers() {
+            // given
+            given(queryService.getIssueStatus(eq(COUPON_ID), anyLong())).willReturn(statusOf("PENDING"));
+            given(queryService.toFinalStatus("ISSUED")).willReturn(statusOf("ISSUED"));
+            notifier.connect(COUPON_ID, 10L);
+            notifier.connect(COUPON_ID, 20L);
+            notifier.connect(COUPON_ID, 30L);
+
+            // when
+            notifier.onMessage(message(COUPON_ID + "|ISSUED|10,30,40"), null);
+
+            // then
+            assertThat(notifier.getSubscriberCount(COUPON_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("구독자가 없는 쿠폰의 메시지는 무시한다")
+        void onMessage_NoSubscribers() {
+            // when
+            notifier.onMessage(message("999|FAILED|10"), null);
+
+            // then
+            then(queryService).shouldHaveNoInteractions();
+        }
+    }
+}
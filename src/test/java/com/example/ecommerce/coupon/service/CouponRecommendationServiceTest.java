@@ -0,0 +1,198 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import com.example.ecommerce.coupon.dto.CouponRecommendationResponse;
+import com.example.ecommerce.coupon.dto.UserCouponResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponRecommendationService 단위 테스트")
+class CouponRecommendationServiceTest {
+
+    @Mock
+    private UserCouponService userCouponService;
+
+    @Mock
+    private UserCouponWalletCache walletCache;
+
+    @InjectMocks
+    private CouponRecommendationService couponRecommendationService;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private UserCouponResponse fixed(Long id, long price, long minOrder, int validDays) {
+        return new UserCouponResponse(id, USER_ID, id, "정액 " + price, price, null, minOrder,
+            NOW.minusDays(1), NOW.plusDays(validDays), NOW.minusDays(1), null, UserCouponStatus.UNUSED);
+    }
+
+    private UserCouponResponse percentage(Long id, double rate, long minOrder) {
+        return new UserCouponResponse(id, USER_ID, id, "정률 " + rate, null, rate, minOrder,
+            NOW.minusDays(1), NOW.plusDays(30), NOW.minusDays(1), null, UserCouponStatus.UNUSED);
+    }
+
+    @Nested
+    @DisplayName("쿠폰 순위 계산 테스트")
+    class RankTest {
+
+        @Test
+        @DisplayName("할인 금액이 큰 순서로 정렬하고 상위 N개만 반환한다")
+        void rank_OrdersByDiscountDesc() {
+            // given
+            List<UserCouponResponse> wallet = List.of(
+                fixed(1L, 3000L, 0L, 30),
+                percentage(2L, 10.0, 0L),    // 50000 * 10% = 5000
+                fixed(3L, 1000L, 0L, 30),
+                percentage(4L, 20.0, 0L)     // 50000 * 20% = 10000
+            );
+
+            // when
+            List<CouponRecommendationResponse> result =
+                CouponRecommendationService.rank(wallet, 50000L, null, 3);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(4L, 2L, 1L);
+            assertThat(result.get(0).discountAmount()).isEqualTo(10000L);
+            assertThat(result.get(0).finalAmount()).isEqualTo(40000L);
+        }
+
+        @Test
+        @DisplayName("최소 주문 금액 미달 또는 할인 금액이 주문 금액을 넘는 쿠폰은 제외한다")
+        void rank_ExcludesNotApplicable() {
+            // given
+            List<UserCouponResponse> wallet = List.of(
+                fixed(1L, 5000L, 30000L, 30),   // 최소 주문 금액 미달
+                fixed(2L, 25000L, 0L, 30),      // 주문 금액 초과
+                fixed(3L, 2000L, 10000L, 30)
+            );
+
+            // when
+            List<CouponRecommendationResponse> result =
+                CouponRecommendationService.rank(wallet, 20000L, null, 5);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("할인 금액이 같으면 유효기간이 먼저 끝나는 쿠폰을 우선한다")
+        void rank_TieBreaksByValidUntil() {
+            // given
+            List<UserCouponResponse> wallet = List.of(
+                fixed(1L, 3000L, 0L, 30),
+                fixed(2L, 3000L, 0L, 3)
+            );
+
+            // when
+            List<CouponRecommendationResponse> result =
+                CouponRecommendationService.rank(wallet, 20000L, null, 2);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("예약 중인 쿠폰은 현재 주문에 적용된 쿠폰만 후보에 포함한다")
+        void rank_ReservedOnlyWhenAppliedToOrder() {
+            // given
+            UserCouponResponse reservedForOrder = new UserCouponResponse(1L, USER_ID, 1L, "적용된 쿠폰",
+                5000L, null, 0L, NOW.minusDays(1), NOW.plusDays(30), NOW.minusDays(1), null,
+                UserCouponStatus.RESERVED);
+            UserCouponResponse reservedElsewhere = new UserCouponResponse(2L, USER_ID, 2L, "다른 주문 쿠폰",
+                7000L, null, 0L, NOW.minusDays(1), NOW.plusDays(30), NOW.minusDays(1), null,
+                UserCouponStatus.RESERVED);
+
+            // when
+            List<CouponRecommendationResponse> result = CouponRecommendationService.rank(
+                List.of(reservedForOrder, reservedElsewhere), 20000L, 1L, 5);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 추천 테스트")
+    class RecommendTest {
+
+        @Test
+        @DisplayName("지갑 조회 결과로 순위를 계산하고 요청한 개수만큼 반환한다")
+        void recommend_Success() {
+            // given
+            given(walletCache.getRecommendations(eq(USER_ID), eq("50000:0"), any()))
+                .willAnswer(invocation ->
+                    invocation.<Supplier<List<CouponRecommendationResponse>>>getArgument(2).get());
+            given(userCouponService.getAvailableUserCoupons(USER_ID)).willReturn(List.of(
+                fixed(1L, 3000L, 0L, 30),
+                percentage(2L, 10.0, 0L)
+            ));
+
+            // when
+            List<CouponRecommendationResponse> result =
+                couponRecommendationService.recommend(USER_ID, 50000L, null, 1);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("캐시된 추천 결과가 있으면 지갑을 다시 조회하지 않는다")
+        void recommend_FromCache() {
+            // given
+            CouponRecommendationResponse cached =
+                new CouponRecommendationResponse(1L, 1L, "캐시 쿠폰", 3000L, 47000L, NOW.plusDays(1));
+            given(walletCache.getRecommendations(eq(USER_ID), eq("50000:0"), any()))
+                .willReturn(List.of(cached));
+
+            // when
+            List<CouponRecommendationResponse> result =
+                couponRecommendationService.recommend(USER_ID, 50000L, null, 3);
+
+            // then
+            assertThat(result).containsExactly(cached);
+            then(userCouponService).should(never()).getAvailableUserCoupons(any());
+        }
+
+        @Test
+        @DisplayName("캐시된 추천에 유효기간이 지난 쿠폰이 있으면 지갑으로 다시 계산해 덮어쓴다")
+        void recommend_RecomputesWhenCachedCouponExpired() {
+            // given
+            CouponRecommendationResponse expired =
+                new CouponRecommendationResponse(1L, 1L, "만료 쿠폰", 5000L, 45000L, NOW.minusMinutes(1));
+            given(walletCache.getRecommendations(eq(USER_ID), eq("50000:0"), any()))
+                .willReturn(List.of(expired));
+            given(userCouponService.getAvailableUserCoupons(USER_ID)).willReturn(List.of(
+                fixed(2L, 3000L, 0L, 30)
+            ));
+
+            // when
+            List<CouponRecommendationResponse> result =
+                couponRecommendationService.recommend(USER_ID, 50000L, null, 3);
+
+            // then
+            assertThat(result).extracting(CouponRecommendationResponse::userCouponId)
+                .containsExactly(2L);
+            then(walletCache).should().putRecommendations(USER_ID, "50000:0", result);
+        }
+    }
+}
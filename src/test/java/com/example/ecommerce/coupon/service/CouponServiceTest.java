@@ -1,5 +1,6 @@
 package com.example.ecommerce.coupon.service;
 
+import com.example.ecommerce.common.event.MessagePublisher;
 import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.Coupon;
@@ -8,6 +9,7 @@ import com.example.ecommerce.coupon.domain.vo.CouponQuantity;
 import com.example.ecommerce.coupon.domain.vo.DiscountValue;
 import com.example.ecommerce.coupon.domain.vo.ValidPeriod;
 import com.example.ecommerce.coupon.dto.CouponResponse;
+import com.example.ecommerce.coupon.event.CouponStatusChangedEvent;
 import com.example.ecommerce.coupon.repository.CouponRepository;
 import com.example.ecommerce.product.domain.vo.Money;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,9 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private MessagePublisher eventPublisher;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -248,4 +253,35 @@ class CouponServiceTest {
         // then
         assertThat(result.status()).isEqualTo(CouponStatus.INACTIVE);
     }
+
+    @Test
+    @DisplayName("쿠폰을 비활성화하면 상태 변경 이벤트가 발행된다")
+    void deactivateCoupon_PublishesStatusChangedEvent() {
+        // given
+        given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(testCoupon);
+        given(couponRepository.save(testCoupon)).willReturn(testCoupon);
+
+        // when
+        CouponResponse result = couponService.deactivateCoupon(testCouponId);
+
+        // then
+        assertThat(result.status()).isEqualTo(CouponStatus.INACTIVE);
+        verify(eventPublisher).publish(argThat(event ->
+            event instanceof CouponStatusChangedEvent changed
+                && changed.couponId().equals(testCouponId)
+                && changed.status() == CouponStatus.INACTIVE));
+    }
+
+    @Test
+    @DisplayName("삭제된 쿠폰은 다시 활성화할 수 없고 이벤트도 발행되지 않는다")
+    void activateCoupon_DeletedCoupon() {
+        // given
+        testCoupon.delete();
+        given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(testCoupon);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.activateCoupon(testCouponId))
+            .isInstanceOf(CustomException.class);
+        verify(eventPublisher, never()).publish(any());
+    }
 }
@@ -0,0 +1,68 @@
+package com.example.ecommerce.coupon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponSoldOutRegistry 단위 테스트")
+class CouponSoldOutRegistryTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private CouponSoldOutRegistry registry;
+
+    private static final Long COUPON_ID = 1L;
+
+    @Test
+    @DisplayName("재오픈 이전에 읽은 버전의 매진 결과는 무시한다")
+    void staleSoldOutAfterReopenIsIgnored() {
+        // given: 요청 전 버전을 읽은 뒤 재오픈 메시지 수신
+        long observedVersion = registry.reopenVersion(COUPON_ID);
+        registry.reopen(COUPON_ID);
+
+        // when: 오래된 SOLD_OUT 결과가 늦게 도착
+        registry.markSoldOut(COUPON_ID, observedVersion);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재오픈 이후 버전의 매진 결과는 표시한다")
+    void soldOutWithCurrentVersionIsMarked() {
+        // given
+        registry.reopen(COUPON_ID);
+        long observedVersion = registry.reopenVersion(COUPON_ID);
+
+        // when
+        registry.markSoldOut(COUPON_ID, observedVersion);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("매진 표시는 TTL 이 지나면 사라진다")
+    void soldOutExpiresAfterTtl() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(registry, "soldOutTtlMillis", 50L);
+        registry.markSoldOut(COUPON_ID);
+        assertThat(registry.isSoldOut(COUPON_ID)).isTrue();
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isFalse();
+    }
+}
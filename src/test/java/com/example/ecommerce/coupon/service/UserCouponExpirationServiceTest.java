@@ -0,0 +1,91 @@
+package com.example.ecommerce.coupon.service;
+
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
+import com.example.ecommerce.coupon.repository.ExpiredUserCoupon;
+import com.example.ecommerce.coupon.repository.UserCouponRepository;
+import com.example.ecommerce.coupon.service.UserCouponExpirationService.ExpireChunkResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCouponExpirationService 단위 테스트")
+class UserCouponExpirationServiceTest {
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private UserCouponWalletCache walletCache;
+
+    @InjectMocks
+    private UserCouponExpirationService expirationService;
+
+    @Nested
+    @DisplayName("만료 청크 처리 테스트")
+    class ExpireChunkTest {
+
+        @Test
+        @DisplayName("조회한 청크를 한 번의 UPDATE로 만료 처리하고 마지막 행으로 커서를 이동한다")
+        void expireChunk_Success() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime first = now.minusDays(2);
+            LocalDateTime second = now.minusDays(1);
+            List<ExpiredUserCoupon> targets = List.of(
+                new ExpiredUserCoupon(10L, 1L, first),
+                new ExpiredUserCoupon(11L, 1L, second),
+                new ExpiredUserCoupon(12L, 2L, second)
+            );
+
+            given(userCouponRepository.findExpiredAfter(eq(UserCouponStatus.UNUSED), eq(now),
+                eq(UserCouponExpirationService.INITIAL_EXPIRES_AT), eq(UserCouponExpirationService.INITIAL_ID), any()))
+                .willReturn(targets);
+            given(userCouponRepository.expireAll(List.of(10L, 11L, 12L), now)).willReturn(2);
+
+            // when
+            ExpireChunkResult result = expirationService.expireChunk(now,
+                UserCouponExpirationService.INITIAL_EXPIRES_AT, UserCouponExpirationService.INITIAL_ID, 3);
+
+            // then
+            assertThat(result.scanned()).isEqualTo(3);
+            assertThat(result.expired()).isEqualTo(2);
+            assertThat(result.lastExpiresAt()).isEqualTo(second);
+            assertThat(result.lastId()).isEqualTo(12L);
+
+            then(walletCache).should().evictAll(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("만료 대상이 없으면 UPDATE 없이 커서를 유지한다")
+        void expireChunk_Empty() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lastExpiresAt = now.minusHours(1);
+            given(userCouponRepository.findExpiredAfter(any(), any(), any(), any(), any())).willReturn(List.of());
+
+            // when
+            ExpireChunkResult result = expirationService.expireChunk(now, lastExpiresAt, 5L, 100);
+
+            // then
+            assertThat(result.scanned()).isZero();
+            assertThat(result.lastExpiresAt()).isEqualTo(lastExpiresAt);
+            assertThat(result.lastId()).isEqualTo(5L);
+
+            then(userCouponRepository).should(never()).expireAll(any(), any());
+            then(walletCache).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -4,11 +4,14 @@ import com.example.ecommerce.common.exception.CustomException;
 import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.coupon.domain.Coupon;
 import com.example.ecommerce.coupon.domain.UserCoupon;
+import com.example.ecommerce.coupon.domain.status.UserCouponStatus;
 import com.example.ecommerce.coupon.domain.vo.CouponQuantity;
 import com.example.ecommerce.coupon.domain.vo.DiscountValue;
 import com.example.ecommerce.coupon.domain.vo.ValidPeriod;
+import com.example.ecommerce.coupon.dto.BulkIssueResult;
 import com.example.ecommerce.coupon.dto.UserCouponResponse;
 import com.example.ecommerce.coupon.repository.CouponRepository;
+import com.example.ecommerce.coupon.repository.UserCouponBulkRepository;
 import com.example.ecommerce.coupon.repository.UserCouponRepository;
 import com.example.ecommerce.product.domain.vo.Money;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,10 +28,12 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +46,12 @@ class UserCouponServiceTest {
     @Mock
     private UserCouponRepository userCouponRepository;
 
+    @Mock
+    private UserCouponBulkRepository userCouponBulkRepository;
+
+    @Mock
+    private UserCouponWalletCache walletCache;
+
     @InjectMocks
     private UserCouponService userCouponService;
 
@@ -170,8 +181,9 @@ class UserCouponServiceTest {
 
             List<UserCoupon> userCoupons = Arrays.asList(validUserCoupon, expiredUserCoupon);
 
-            given(userCouponRepository.findByUserId(testUserId)).willReturn(userCoupons);
-            given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(testCoupon);
+            given(walletCache.get(eq(testUserId), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<UserCouponResponse>>>getArgument(1).get());
+            given(userCouponRepository.findByUserIdAndStatusInWithCoupon(eq(testUserId), any())).willReturn(userCoupons);
 
             // when
             List<UserCouponResponse> result = userCouponService.getAvailableUserCoupons(testUserId);
@@ -179,8 +191,30 @@ class UserCouponServiceTest {
             // then
             assertThat(result).hasSize(1);
 
-            then(userCouponRepository).should().findByUserId(testUserId);
-            then(couponRepository).should().findByIdOrElseThrow(testCouponId);
+            then(userCouponRepository).should().findByUserIdAndStatusInWithCoupon(eq(testUserId), any());
+            then(couponRepository).should(never()).findByIdOrElseThrow(any());
+        }
+
+        @Test
+        @DisplayName("캐시된 지갑에서 유효기간이 지난 쿠폰은 제외하고 반환한다")
+        void getAvailableUserCoupons_FromCache_FiltersExpired() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            UserCouponResponse valid = new UserCouponResponse(1L, testUserId, testCouponId, "유효 쿠폰",
+                5000L, null, 10000L, now.minusDays(1), now.plusDays(1), now.minusDays(1), null,
+                UserCouponStatus.UNUSED);
+            UserCouponResponse expired = new UserCouponResponse(2L, testUserId, 2L, "만료 쿠폰",
+                3000L, null, 10000L, now.minusDays(2), now.minusMinutes(1), now.minusDays(2), null,
+                UserCouponStatus.UNUSED);
+
+            given(walletCache.get(eq(testUserId), any())).willReturn(List.of(valid, expired));
+
+            // when
+            List<UserCouponResponse> result = userCouponService.getAvailableUserCoupons(testUserId);
+
+            // then
+            assertThat(result).containsExactly(valid);
+            then(userCouponRepository).should(never()).findByUserIdAndStatusInWithCoupon(any(), any());
         }
     }
 
@@ -205,6 +239,7 @@ class UserCouponServiceTest {
             then(userCouponRepository).should().findByIdOrElseThrow(testUserCouponId);
             then(userCouponRepository).should().save(any(UserCoupon.class));
             then(couponRepository).should().findByIdOrElseThrow(testCouponId);
+            then(walletCache).should().evict(testUserId);
         }
     }
 
@@ -264,4 +299,64 @@ class UserCouponServiceTest {
             then(couponRepository).should().findByIdOrElseThrow(testCouponId);
         }
     }
+
+    @Nested
+    @DisplayName("쿠폰 벌크 발급 테스트")
+    class IssueCouponsBulkTest {
+
+        @Test
+        @DisplayName("이미 발급된 사용자는 제외하고 나머지를 한 번에 발급한다")
+        void issueCouponsBulk_ExcludesAlreadyIssued() {
+            // given
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(testCoupon);
+            given(userCouponRepository.findIssuedUserIds(testCouponId, userIds)).willReturn(List.of(2L));
+            given(couponRepository.increaseIssuedQuantity(testCouponId, 2)).willReturn(1);
+
+            // when
+            BulkIssueResult result = userCouponService.issueCouponsBulk(testCouponId, userIds);
+
+            // then
+            assertThat(result.issuedUserIds()).containsExactly(1L, 3L);
+            assertThat(result.failures()).containsEntry(2L, ErrorCode.COUPON_ALREADY_ISSUED);
+            then(userCouponBulkRepository).should()
+                .insertAll(testCouponId, List.of(1L, 3L), testCoupon.getValidPeriod().getValidUntil());
+        }
+
+        @Test
+        @DisplayName("남은 수량을 초과한 사용자는 실패로 보고한다")
+        void issueCouponsBulk_ReportsSoldOut() {
+            // given
+            Coupon coupon = createTestCoupon(testCouponId, "2개 쿠폰", 5000L, 2);
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(coupon);
+            given(userCouponRepository.findIssuedUserIds(testCouponId, userIds)).willReturn(List.of());
+            given(couponRepository.increaseIssuedQuantity(testCouponId, 2)).willReturn(1);
+
+            // when
+            BulkIssueResult result = userCouponService.issueCouponsBulk(testCouponId, userIds);
+
+            // then
+            assertThat(result.issuedUserIds()).containsExactly(1L, 2L);
+            assertThat(result.failures()).containsEntry(3L, ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("수량 UPDATE가 반영되지 않으면 INSERT 없이 전원 실패 처리한다")
+        void issueCouponsBulk_QuantityUpdateRejected() {
+            // given
+            List<Long> userIds = List.of(1L, 2L);
+            given(couponRepository.findByIdOrElseThrow(testCouponId)).willReturn(testCoupon);
+            given(userCouponRepository.findIssuedUserIds(testCouponId, userIds)).willReturn(List.of());
+            given(couponRepository.increaseIssuedQuantity(testCouponId, 2)).willReturn(0);
+
+            // when
+            BulkIssueResult result = userCouponService.issueCouponsBulk(testCouponId, userIds);
+
+            // then
+            assertThat(result.issuedUserIds()).isEmpty();
+            assertThat(result.failedCount()).isEqualTo(2);
+            then(userCouponBulkRepository).shouldHaveNoInteractions();
+        }
+    }
 }
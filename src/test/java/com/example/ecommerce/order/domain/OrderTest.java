@@ -448,6 +448,42 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("재고 예약 만료 테스트")
+    class ExpireReservationTest {
+
+        @Test
+        @DisplayName("결제 대기 주문은 예약 만료 시 취소된다")
+        void expireReservationCancelsPendingOrder() {
+            // given
+            Order order = createDefaultOrder();
+            order.completeReservation();
+
+            // when
+            boolean expired = order.expireReservation();
+
+            // then
+            assertThat(expired).isTrue();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("결제 완료된 주문은 예약 만료로 취소되지 않는다")
+        void expireReservationIgnoresPaidOrder() {
+            // given
+            Order order = createDefaultOrder();
+            order.completeReservation();
+            order.completePayment();
+
+            // when
+            boolean expired = order.expireReservation();
+
+            // then
+            assertThat(expired).isFalse();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+        }
+    }
+
     @Nested
     @DisplayName("주문 항목 조회 테스트")
     class GetOrderItemsTest {
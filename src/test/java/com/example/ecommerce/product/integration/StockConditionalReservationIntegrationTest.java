@@ -0,0 +1,173 @@
+package com.example.ecommerce.product.integration;
+
+import com.example.ecommerce.config.TestContainersConfig;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.dto.StockReserveItem;
+import com.example.ecommerce.product.repository.ProductRepository;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import com.example.ecommerce.product.service.ConditionalStockReservationEngine;
+import com.example.ecommerce.product.service.StockReservationEngine;
+import com.example.ecommerce.product.service.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.ecommerce.product.integration.StockReservationTestSupport.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 UPDATE 재고 예약 통합 테스트
+ *
+ * 핵심 검증 사항:
+ * 1. 분산락 없이도 동시 예약이 재고를 초과하지 않아야 한다
+ * 2. 확정/해제가 재고와 예약 상태를 올바르게 갱신해야 한다
+ * 3. 동시 구매자 수(1, 16, 256)별로 분산락 경로와 처리 시간을 비교한다
+ */
+@Slf4j
+@SpringBootTest(properties = "stock.reservation.mode=conditional")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("조건부 UPDATE 재고 예약 통합 테스트")
+class StockConditionalReservationIntegrationTest {
+
+    @Autowired
+    private StockReservationEngine reservationEngine;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    private static final int INITIAL_STOCK = 100;
+
+    private Long createProduct(int stock) {
+        return StockReservationTestSupport.createProduct(productRepository, productStockRepository, stock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAllInBatch();
+        productStockRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드가 기본 엔진으로 선택된다")
+    void conditionalEngineIsPrimary() {
+        assertThat(reservationEngine).isInstanceOf(ConditionalStockReservationEngine.class);
+    }
+
+    @Test
+    @DisplayName("[핵심] 동시 예약은 재고만큼만 성공해야 한다")
+    void concurrentReserve_shouldNotOversell() throws InterruptedException {
+        // given
+        Long productId = createProduct(INITIAL_STOCK);
+        AtomicInteger success = new AtomicInteger();
+
+        // when: 300건 동시 예약 (재고 100)
+        runConcurrently(50, 300, i -> {
+            reservationEngine.reserve((long) i + 1, productId, 1);
+            success.incrementAndGet();
+        });
+
+        // then
+        assertThat(success.get()).isEqualTo(INITIAL_STOCK);
+        ProductStock stock = productStockRepository.findByProductId(productId).orElseThrow();
+        assertThat(stock.getReservedStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(stock.getCurrentStock().getQuantity()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("확정은 재고를 차감하고, 해제는 예약 재고만 되돌린다")
+    void confirmAndRelease_shouldUpdateStock() {
+        // given
+        Long productId = createProduct(INITIAL_STOCK);
+        StockReservation confirmed = reservationEngine.reserve(1L, productId, 3);
+        StockReservation released = reservationEngine.reserve(2L, productId, 5);
+
+        // when
+        reservationEngine.confirmReservation(productId, confirmed.getId());
+        reservationEngine.releaseReservation(productId, released.getId());
+        reservationEngine.releaseReservation(productId, released.getId()); // 중복 해제는 무시
+
+        // then
+        ProductStock stock = productStockRepository.findByProductId(productId).orElseThrow();
+        assertThat(stock.getCurrentStock().getQuantity()).isEqualTo(INITIAL_STOCK - 3);
+        assertThat(stock.getReservedStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 단위 일괄 확정/해제는 주문의 모든 예약을 한 번에 처리한다")
+    void confirmAllAndReleaseAll_shouldUpdateEveryItem() {
+        // given: 주문 1은 두 상품, 주문 2는 같은 상품 두 항목
+        Long firstProductId = createProduct(INITIAL_STOCK);
+        Long secondProductId = createProduct(INITIAL_STOCK);
+        reservationEngine.reserveAll(1L, List.of(
+            new StockReserveItem(firstProductId, 2),
+            new StockReserveItem(secondProductId, 4)
+        ));
+        reservationEngine.reserveAll(2L, List.of(
+            new StockReserveItem(secondProductId, 1),
+            new StockReserveItem(secondProductId, 5)
+        ));
+
+        // when
+        reservationEngine.confirmAll(1L);
+        reservationEngine.releaseAll(2L);
+        reservationEngine.releaseAll(2L); // 중복 해제는 무시
+
+        // then
+        ProductStock first = productStockRepository.findByProductId(firstProductId).orElseThrow();
+        ProductStock second = productStockRepository.findByProductId(secondProductId).orElseThrow();
+        assertThat(first.getCurrentStock().getQuantity()).isEqualTo(INITIAL_STOCK - 2);
+        assertThat(first.getReservedStock()).isZero();
+        assertThat(second.getCurrentStock().getQuantity()).isEqualTo(INITIAL_STOCK - 4);
+        assertThat(second.getReservedStock()).isZero();
+        assertThat(stockReservationRepository.findPendingByOrderId(1L)).isEmpty();
+        assertThat(stockReservationRepository.findPendingByOrderId(2L)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "동시 구매자 {0}명")
+    @ValueSource(ints = {1, 16, 256})
+    @DisplayName("단일 상품 동시 예약 처리량: 분산락 경로 대비 조건부 UPDATE 경로 비교")
+    void reserveThroughput_conditionalComparedToLockPath(int buyers) throws InterruptedException {
+        // given
+        int requests = Math.max(200, buyers * 4);
+        Long lockProductId = createProduct(requests);
+        Long conditionalProductId = createProduct(requests);
+
+        // when
+        long lockElapsed = runConcurrently(buyers, requests,
+            i -> stockService.reserve((long) i + 1, lockProductId, 1));
+        long conditionalElapsed = runConcurrently(buyers, requests,
+            i -> reservationEngine.reserve((long) i + 1, conditionalProductId, 1));
+
+        log.info("✅ [구매자 {}명] 분산락 경로 - {}건, {}ms, {} req/s",
+            buyers, requests, lockElapsed, requests * 1000L / Math.max(1, lockElapsed));
+        log.info("✅ [구매자 {}명] 조건부 UPDATE 경로 - {}건, {}ms, {} req/s",
+            buyers, requests, conditionalElapsed, requests * 1000L / Math.max(1, conditionalElapsed));
+
+        // then: 조건부 UPDATE 경로는 대기 없이 모든 요청을 예약 (처리 시간은 로그로 비교)
+        assertThat(productStockRepository.findByProductId(conditionalProductId).orElseThrow().getReservedStock())
+            .isEqualTo(requests);
+    }
+}
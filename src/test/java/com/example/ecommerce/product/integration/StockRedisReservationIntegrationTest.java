@@ -0,0 +1,258 @@
+package com.example.ecommerce.product.integration;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.config.TestContainersConfig;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.repository.ProductRepository;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import com.example.ecommerce.product.scheduler.StockReconciliationScheduler;
+import com.example.ecommerce.product.scheduler.StockWriteBehindScheduler;
+import com.example.ecommerce.product.service.StockRedisService;
+import com.example.ecommerce.product.service.StockRedisService.WriteBehindEntry;
+import com.example.ecommerce.product.service.StockReservationEngine;
+import com.example.ecommerce.product.service.StockReservationWriter;
+import com.example.ecommerce.product.service.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.example.ecommerce.product.integration.StockReservationTestSupport.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis Lua 재고 예약 + write-behind 통합 테스트
+ *
+ * 핵심 검증 사항:
+ * 1. 동시 예약 시 Redis 스크립트만으로 초과 예약이 없어야 한다
+ * 2. write-behind 반영 후 DB 예약 행과 reserved_stock 이 Redis 와 일치해야 한다
+ * 3. 처리 도중 중단된 항목을 다시 반영해도 중복 저장되지 않아야 한다
+ */
+@Slf4j
+@SpringBootTest(properties = {
+    "stock.reservation.mode=redis",
+    "stock.reservation.write-behind.interval-ms=3600000", // 반영 시점을 테스트에서 직접 제어
+    "stock.reservation.reconcile.interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("Redis 재고 예약 write-behind 통합 테스트")
+class StockRedisReservationIntegrationTest {
+
+    @Autowired
+    private StockReservationEngine reservationEngine;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockRedisService stockRedisService;
+
+    @Autowired
+    private StockReservationWriter reservationWriter;
+
+    @Autowired
+    private StockWriteBehindScheduler writeBehindScheduler;
+
+    @Autowired
+    private StockReconciliationScheduler reconciliationScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final int INITIAL_STOCK = 100;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("stock:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private Long createProduct(int stock) {
+        return StockReservationTestSupport.createProduct(productRepository, productStockRepository, stock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAllInBatch();
+        productStockRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("[핵심] 동시 예약은 재고만큼만 성공하고, write-behind 반영 후 DB와 일치해야 한다")
+    void concurrentReserve_shouldNotOversellAndFlushToDb() throws InterruptedException {
+        // given
+        Long productId = createProduct(INITIAL_STOCK);
+        AtomicInteger success = new AtomicInteger();
+
+        // when: 300건 동시 예약 (재고 100)
+        runConcurrently(50, 300, i -> {
+            reservationEngine.reserve((long) i + 1, productId, 1);
+            success.incrementAndGet();
+        });
+
+        // then: Redis 에서 100건만 예약
+        assertThat(success.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(redisTemplate.opsForHash().get(stockRedisService.getStockKey(productId), "reserved"))
+            .isEqualTo(String.valueOf(INITIAL_STOCK));
+        assertThat(stockRedisService.getWriteBehindQueueSize()).isEqualTo(INITIAL_STOCK);
+
+        // when: write-behind 반영
+        writeBehindScheduler.flush();
+
+        // then: DB 예약 행과 reserved_stock 반영
+        ProductStock stock = productStockRepository.findByProductId(productId).orElseThrow();
+        assertThat(stock.getReservedStock()).isEqualTo(INITIAL_STOCK);
+        List<Long> orderIds = LongStream.rangeClosed(1, 300).boxed().toList();
+        assertThat(stockReservationRepository.findExpiredByOrderIds(
+            orderIds, LocalDateTime.now().plusDays(1))).hasSize(INITIAL_STOCK);
+        assertThat(stockRedisService.getWriteBehindQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 중 중단된 write-behind 항목은 복구 후 한 번만 반영되어야 한다")
+    void writeBehind_shouldBeIdempotentOnReplay() {
+        // given: 3건 예약 후 선점만 하고 완료 처리 전 중단
+        Long productId = createProduct(INITIAL_STOCK);
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            reservationEngine.reserve(orderId, productId, 2);
+        }
+        List<WriteBehindEntry> claimed = stockRedisService.claimWriteBehind(10);
+        reservationWriter.flush(claimed); // DB 반영은 끝났지만 ack 전에 중단된 상황
+
+        // when: 다음 실행에서 processing 항목 복구 후 재반영
+        writeBehindScheduler.flush();
+
+        // then: 중복 저장 없이 3건, reserved 6
+        ProductStock stock = productStockRepository.findByProductId(productId).orElseThrow();
+        assertThat(stock.getReservedStock()).isEqualTo(6);
+        assertThat(stockReservationRepository.findExpiredByOrderIds(
+            List.of(1L, 2L, 3L), LocalDateTime.now().plusDays(1))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 write-behind 항목은 dead letter 로 옮기고 나머지는 반영해야 한다")
+    void writeBehind_shouldDeadLetterUndecodableEntry() {
+        // given: 정상 예약 1건 뒤에 깨진 항목 1건
+        Long productId = createProduct(INITIAL_STOCK);
+        reservationEngine.reserve(1L, productId, 2);
+        redisTemplate.opsForList().rightPush("stock:writebehind:queue", "broken-entry");
+
+        // when: 두 번 실행해도 깨진 항목이 큐로 되돌아오지 않음
+        writeBehindScheduler.flush();
+        writeBehindScheduler.flush();
+
+        // then
+        assertThat(productStockRepository.findByProductId(productId).orElseThrow().getReservedStock()).isEqualTo(2);
+        assertThat(stockRedisService.getWriteBehindQueueSize()).isZero();
+        assertThat(redisTemplate.opsForList().size("stock:writebehind:processing")).isZero();
+        assertThat(redisTemplate.opsForList().range("stock:writebehind:dlq", 0, -1)).containsExactly("broken-entry");
+    }
+
+    @Test
+    @DisplayName("write-behind 반영 전에 결제가 완료되어도 주문 예약을 먼저 반영한 뒤 확정해야 한다")
+    void confirmAll_shouldFlushPendingEntriesOfOrderFirst() {
+        // given: 예약만 하고 write-behind 는 아직 실행되지 않음
+        Long productId = createProduct(INITIAL_STOCK);
+        Long orderId = 1L;
+        reservationEngine.reserve(orderId, productId, 3);
+        reservationEngine.reserve(2L, productId, 1);
+
+        // when
+        reservationEngine.confirmAll(orderId);
+        writeBehindScheduler.flush();
+
+        // then: 주문 1은 확정, 주문 2만 남은 예약 (중복 저장 없음)
+        ProductStock stock = productStockRepository.findByProductId(productId).orElseThrow();
+        assertThat(stock.getCurrentStock().getQuantity()).isEqualTo(INITIAL_STOCK - 3);
+        assertThat(stock.getReservedStock()).isEqualTo(1);
+        assertThat(stockReservationRepository.findPendingByOrderId(orderId)).isEmpty();
+        assertThat(stockReservationRepository.findPendingByOrderId(2L)).hasSize(1);
+        assertThat(redisTemplate.opsForHash().get(stockRedisService.getStockKey(productId), "reserved"))
+            .isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("DB 커밋 후 Redis 반영이 누락된 reserved 는 같은 차이가 두 번 관측되면 보정해야 한다")
+    void reconcile_shouldRepairLeakedReservedAfterConfirmation() {
+        // given: 주문 1은 DB 반영 완료, 주문 2는 반영 대기, 해제 후 Redis 반영이 누락된 상황(reserved +5)
+        Long productId = createProduct(INITIAL_STOCK);
+        reservationEngine.reserve(1L, productId, 3);
+        writeBehindScheduler.flush();
+        reservationEngine.reserve(2L, productId, 2);
+        String stockKey = stockRedisService.getStockKey(productId);
+        redisTemplate.opsForHash().increment(stockKey, "reserved", 5);
+
+        // when: 첫 실행은 차이만 기록
+        reconciliationScheduler.reconcile();
+
+        // then
+        assertThat(redisTemplate.opsForHash().get(stockKey, "reserved")).isEqualTo("10");
+
+        // when: 같은 차이가 다시 관측되면 보정
+        reconciliationScheduler.reconcile();
+
+        // then: DB 3 + 반영 대기 2
+        assertThat(redisTemplate.opsForHash().get(stockKey, "reserved")).isEqualTo("5");
+        assertThat(redisTemplate.opsForHash().get(stockKey, "current")).isEqualTo(String.valueOf(INITIAL_STOCK));
+        assertThat(redisTemplate.opsForHash().hasKey(stockKey, "drift")).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약이 없는 주문의 확정은 조용히 넘어가지 않고 실패해야 한다")
+    void confirmAll_shouldFailWhenOrderHasNoReservation() {
+        assertThatThrownBy(() -> reservationEngine.confirmAll(999L))
+            .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("단일 상품 동시 예약 처리량: 분산락 경로 대비 Redis 스크립트 경로 비교")
+    void reserveThroughput_redisComparedToLockPath() throws InterruptedException {
+        // given
+        int requests = 2000;
+        Long lockProductId = createProduct(requests);
+        Long redisProductId = createProduct(requests);
+
+        // when
+        long lockElapsed = runConcurrently(64, requests,
+            i -> stockService.reserve((long) i + 1, lockProductId, 1));
+        long redisElapsed = runConcurrently(64, requests,
+            i -> reservationEngine.reserve((long) i + 1, redisProductId, 1));
+
+        log.info("✅ 분산락 경로 - {}건, {}ms, {} req/s",
+            requests, lockElapsed, requests * 1000L / Math.max(1, lockElapsed));
+        log.info("✅ Redis 스크립트 경로 - {}건, {}ms, {} req/s",
+            requests, redisElapsed, requests * 1000L / Math.max(1, redisElapsed));
+
+        // then: write-behind 반영 후 모든 요청이 예약되어 있어야 한다 (처리 시간은 로그로 비교)
+        writeBehindScheduler.flush();
+        assertThat(productStockRepository.findByProductId(redisProductId).orElseThrow().getReservedStock())
+            .isEqualTo(requests);
+    }
+}
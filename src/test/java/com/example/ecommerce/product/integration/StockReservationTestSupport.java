@@ -0,0 +1,71 @@
+package com.example.ecommerce.product.integration;
+
+import com.example.ecommerce.product.domain.Product;
+import com.example.ecommerce.product.domain.ProductStock;
+import com.example.ecommerce.product.domain.status.ProductStatus;
+import com.example.ecommerce.product.domain.vo.Money;
+import com.example.ecommerce.product.repository.ProductRepository;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 예약 엔진 통합 테스트 공용 헬퍼
+ */
+final class StockReservationTestSupport {
+
+    private static final long CONCURRENT_TIMEOUT_SECONDS = 180L;
+
+    private StockReservationTestSupport() {
+    }
+
+    static Long createProduct(ProductRepository productRepository, ProductStockRepository productStockRepository,
+                              int stock) {
+        Product product = productRepository.save(Product.builder()
+            .name("한정 상품")
+            .price(Money.of(10_000L))
+            .productStatus(ProductStatus.ACTIVE)
+            .build());
+        productStockRepository.save(ProductStock.create(product.getProductId(), stock));
+        return product.getProductId();
+    }
+
+    /**
+     * requests 개의 작업을 threads 개 스레드로 동시에 시작하고, 모두 끝날 때까지의 소요 시간(ms)을 반환
+     * 작업 중 예외(재고 부족 등)는 무시하므로 성공/실패는 호출 측 카운터로 집계한다.
+     */
+    static long runConcurrently(int threads, int requests, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    task.accept(index);
+                } catch (Exception ignored) {
+                    // 재고 부족 등 실패는 호출 측 카운터로 집계
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long start = System.currentTimeMillis();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(CONCURRENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - start;
+        executorService.shutdown();
+
+        assertThat(finished).isTrue();
+        return elapsed;
+    }
+}
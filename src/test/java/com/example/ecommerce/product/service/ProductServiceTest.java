@@ -1,6 +1,7 @@
 package com.example.ecommerce.product.service;
 
 import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.Product;
 import com.example.ecommerce.product.domain.ProductPopular;
 import com.example.ecommerce.product.domain.ProductStock;
@@ -13,11 +14,15 @@ import com.example.ecommerce.product.dto.ProductRequest;
 import com.example.ecommerce.product.dto.ProductResponse;
 import com.example.ecommerce.product.repository.ProductPopularRepository;
 import com.example.ecommerce.product.repository.ProductRepository;
+import com.example.ecommerce.product.repository.ProductStockBucketRepository;
 import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockBucketTotals;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,17 +30,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +60,15 @@ class ProductServiceTest {
     @Mock
     private ProductPopularRepository popularRepository;
 
+    @Mock
+    private ProductStockBucketRepository bucketRepository;
+
+    @Mock
+    private ProductDetailCache detailCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProductService productService;
 
@@ -115,7 +133,8 @@ class ProductServiceTest {
                 () -> assertThat(response.price()).isEqualTo(10000L),
                 () -> assertThat(response.stock()).isEqualTo(100),
                 () -> then(productRepository).should(times(1)).save(any(Product.class)),
-                () -> then(stockRepository).should(times(1)).save(any(ProductStock.class))
+                () -> then(stockRepository).should(times(1)).save(any(ProductStock.class)),
+                () -> then(detailCache).should().put(response)
             );
         }
 
@@ -173,6 +192,13 @@ class ProductServiceTest {
     @DisplayName("상품 상세 조회 테스트")
     class GetProductDetailTest {
 
+        @BeforeEach
+        void setUp() {
+            // 캐시 미스: 로더로 DB 조회
+            given(detailCache.get(any(), any())).willAnswer(invocation ->
+                invocation.<Supplier<ProductDetailResponse>>getArgument(1).get());
+        }
+
         @Test
         @DisplayName("상품 상세 정보를 조회한다")
         void getProductDetail() {
@@ -195,7 +221,8 @@ class ProductServiceTest {
                 () -> assertThat(response.stock()).isEqualTo(100),
                 () -> assertThat(response.status()).isEqualTo(StockStatus.AVAILABLE),
                 () -> then(productRepository).should().findByIdOrElseThrow(productId),
-                () -> then(stockRepository).should().findByIdOrElseThrow(productId)
+                () -> then(stockRepository).should().findByIdOrElseThrow(productId),
+                () -> then(transactionManager).should().getTransaction(any())
             );
         }
 
@@ -235,6 +262,28 @@ class ProductServiceTest {
             assertThat(response.status()).isEqualTo(StockStatus.OUT_OF_STOCK);
         }
 
+        @Test
+        @DisplayName("버킷으로 분할된 상품은 버킷 합계를 더한 재고를 반환한다")
+        void getProductDetailWithBuckets() {
+            // given: 행에는 예약분 3개만 남고, 버킷에 예약 가능 5개 + 예약 4개
+            Long productId = 1L;
+            Product product = createProduct(productId, "테스트 상품", 10000L, ProductStatus.ACTIVE);
+            ProductStock stock = createProductStock(productId, 3);
+
+            given(productRepository.findByIdOrElseThrow(productId)).willReturn(product);
+            given(stockRepository.findByIdOrElseThrow(productId)).willReturn(stock);
+            given(bucketRepository.findTotals(productId)).willReturn(new StockBucketTotals(8, 5, 4));
+
+            // when
+            ProductDetailResponse response = productService.getProductDetail(productId);
+
+            // then
+            assertAll(
+                () -> assertThat(response.stock()).isEqualTo(12),
+                () -> assertThat(response.status()).isEqualTo(StockStatus.AVAILABLE)
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 상품을 조회하면 예외가 발생한다")
         void getProductDetailWithNotFound() {
@@ -248,6 +297,68 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("상품 상세 캐시 테스트")
+    class ProductDetailCacheTest {
+
+        @Test
+        @DisplayName("캐시에 있으면 DB 를 조회하지 않는다")
+        void getProductDetailFromCache() {
+            // given
+            Long productId = 1L;
+            ProductDetailResponse cached = new ProductDetailResponse(
+                productId, "테스트 상품", 10000L, "상품 설명", StockStatus.AVAILABLE, 100, null);
+            given(detailCache.get(eq(productId), any())).willReturn(cached);
+
+            // when
+            ProductDetailResponse response = productService.getProductDetail(productId);
+
+            // then
+            assertThat(response).isEqualTo(cached);
+            then(productRepository).shouldHaveNoInteractions();
+            then(stockRepository).shouldHaveNoInteractions();
+            then(transactionManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("갱신 대상 상품은 DB 값으로 캐시를 덮어쓴다")
+        void refreshProductDetails() {
+            // given
+            Long productId = 1L;
+            given(productRepository.findByIdOrElseThrow(productId))
+                .willReturn(createProduct(productId, "테스트 상품", 10000L, ProductStatus.ACTIVE));
+            given(stockRepository.findByIdOrElseThrow(productId)).willReturn(createProductStock(productId, 7));
+
+            // when
+            productService.refreshProductDetails(List.of(productId));
+
+            // then
+            ArgumentCaptor<ProductDetailResponse> captor = ArgumentCaptor.forClass(ProductDetailResponse.class);
+            then(detailCache).should().put(captor.capture());
+            assertAll(
+                () -> assertThat(captor.getValue().id()).isEqualTo(productId),
+                () -> assertThat(captor.getValue().stock()).isEqualTo(7),
+                () -> assertThat(captor.getValue().status()).isEqualTo(StockStatus.LOW_STOCK)
+            );
+        }
+
+        @Test
+        @DisplayName("삭제된 상품은 캐시에서 제거한다")
+        void refreshRemovedProduct() {
+            // given
+            Long productId = 999L;
+            given(productRepository.findByIdOrElseThrow(productId))
+                .willThrow(new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            // when
+            productService.refreshProductDetails(List.of(productId));
+
+            // then
+            then(detailCache).should().evict(productId);
+            then(detailCache).should(never()).put(any());
+        }
+    }
+
     @Nested
     @DisplayName("인기 상품 조회 테스트")
     class GetPopularProductsTest {
@@ -0,0 +1,243 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.product.domain.ProductStockBucket;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.repository.ProductStockBucketRepository;
+import com.example.ecommerce.product.repository.ProductStockRepository;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockBucketService 테스트")
+class StockBucketServiceTest {
+
+    @Mock
+    private ProductStockRepository stockRepository;
+
+    @Mock
+    private ProductStockBucketRepository bucketRepository;
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private ProductDetailCache detailCache;
+
+    @InjectMocks
+    private StockBucketService bucketService;
+
+    private ProductStockBucket createBucket(Long productId, int bucketNo, int available) {
+        return ProductStockBucket.create(productId, bucketNo, available);
+    }
+
+    @Nested
+    @DisplayName("버킷 분배 계산 테스트")
+    class SplitTest {
+
+        @Test
+        @DisplayName("재고를 버킷 수로 고르게 나누고 나머지는 앞쪽 버킷에 준다")
+        void split() {
+            assertThat(StockBucketService.split(10, 4)).containsExactly(3, 3, 2, 2);
+        }
+
+        @Test
+        @DisplayName("고르게 나뉜 버킷은 재분배하지 않는다")
+        void rebalanceDeltasWhenBalanced() {
+            assertThat(StockBucketService.rebalanceDeltas(new int[]{3, 2, 3, 2}, 0)).containsOnly(0);
+        }
+
+        @Test
+        @DisplayName("치우친 버킷은 합계를 유지하며 고르게 재분배한다")
+        void rebalanceDeltasWhenSkewed() {
+            int[] deltas = StockBucketService.rebalanceDeltas(new int[]{0, 10, 2, 0}, 0);
+
+            assertAll(
+                () -> assertThat(deltas).containsExactly(3, -7, 1, 3),
+                () -> assertThat(Arrays.stream(deltas).sum()).isZero()
+            );
+        }
+
+        @Test
+        @DisplayName("행에서 회수한 재고도 버킷에 함께 나눈다")
+        void rebalanceDeltasWithExtra() {
+            int[] deltas = StockBucketService.rebalanceDeltas(new int[]{2, 2}, 4);
+
+            assertThat(deltas).containsExactly(2, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 예약 테스트")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("수량이 충분한 버킷에서 예약하고 버킷 번호를 남긴다")
+        void reserve() {
+            // given: 버킷 1만 수량이 충분
+            Long productId = 100L;
+            given(bucketRepository.findByProductIdOrderByBucketNo(productId))
+                .willReturn(List.of(createBucket(productId, 0, 1), createBucket(productId, 1, 10)));
+            given(bucketRepository.reserve(productId, 1, 3)).willReturn(1);
+            given(reservationRepository.save(any(StockReservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            StockReservation result = bucketService.reserve(1L, productId, 3);
+
+            // then
+            assertAll(
+                () -> assertThat(result.getBucketNo()).isEqualTo(1),
+                () -> assertThat(result.getStatus()).isEqualTo(ReservationStatus.RESERVED),
+                () -> then(bucketRepository).should(never()).reserve(productId, 0, 3)
+            );
+        }
+
+        @Test
+        @DisplayName("선택한 버킷이 동시 예약으로 비면 다른 버킷에서 예약한다")
+        void reserveMovesToAnotherBucket() {
+            // given: 두 버킷 중 하나는 UPDATE 시점에 이미 비어 있음
+            Long productId = 100L;
+            given(bucketRepository.findByProductIdOrderByBucketNo(productId))
+                .willReturn(List.of(createBucket(productId, 0, 5), createBucket(productId, 1, 5)));
+            given(bucketRepository.reserve(eq(productId), anyInt(), eq(2)))
+                .willAnswer(invocation -> invocation.<Integer>getArgument(1) == 1 ? 1 : 0);
+            given(reservationRepository.save(any(StockReservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            StockReservation result = bucketService.reserve(1L, productId, 2);
+
+            // then
+            assertThat(result.getBucketNo()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("어느 버킷에도 수량이 없으면 재고 부족 예외가 발생한다")
+        void reserveFailsWhenNoBucketFits() {
+            // given
+            Long productId = 100L;
+            given(bucketRepository.findByProductIdOrderByBucketNo(productId))
+                .willReturn(List.of(createBucket(productId, 0, 2), createBucket(productId, 1, 2)));
+
+            // when & then
+            assertThatThrownBy(() -> bucketService.reserve(1L, productId, 3))
+                .isInstanceOf(CustomException.class);
+            then(bucketRepository).should(never()).reserve(eq(productId), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 모으기 테스트")
+    class ConsolidateTest {
+
+        @Test
+        @DisplayName("가장 큰 버킷으로 부족한 수량만큼 모은다")
+        void consolidate() {
+            // given: 합계 6, 요청 5
+            Long productId = 100L;
+            given(bucketRepository.findByProductIdOrderByBucketNo(productId)).willReturn(List.of(
+                createBucket(productId, 0, 1), createBucket(productId, 1, 3), createBucket(productId, 2, 2)));
+            given(bucketRepository.decreaseAvailable(productId, 2, 2)).willReturn(1);
+
+            // when
+            boolean result = bucketService.consolidate(productId, 5);
+
+            // then
+            assertAll(
+                () -> assertThat(result).isTrue(),
+                () -> then(bucketRepository).should().increaseAvailable(productId, 1, 2),
+                () -> then(bucketRepository).should(never()).decreaseAvailable(eq(productId), eq(0), anyInt())
+            );
+        }
+
+        @Test
+        @DisplayName("전체 재고가 부족하면 옮기지 않고 false 를 반환한다")
+        void consolidateFailsWhenTotalInsufficient() {
+            // given
+            Long productId = 100L;
+            given(bucketRepository.findByProductIdOrderByBucketNo(productId))
+                .willReturn(List.of(createBucket(productId, 0, 1), createBucket(productId, 1, 1)));
+
+            // when
+            boolean result = bucketService.consolidate(productId, 3);
+
+            // then
+            assertThat(result).isFalse();
+            then(bucketRepository).should(never()).decreaseAvailable(eq(productId), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 예약 확정/해제 테스트")
+    class ConfirmReleaseTest {
+
+        private StockReservation bucketReservation(Long id, Long productId, int bucketNo, int quantity) {
+            LocalDateTime now = LocalDateTime.now();
+            return StockReservation.builder()
+                .id(id)
+                .orderId(1L)
+                .productId(productId)
+                .quantity(quantity)
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(now.plusMinutes(10))
+                .bucketNo(bucketNo)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        }
+
+        @Test
+        @DisplayName("버킷 예약을 확정하면 해당 버킷의 예약 수량을 차감한다")
+        void confirmBucketReservation() {
+            // given
+            given(reservationRepository.findByIdOrElseThrow(1L)).willReturn(bucketReservation(1L, 100L, 3, 2));
+            given(reservationRepository.updateStatusIfReserved(eq(1L), eq(ReservationStatus.CONFIRMED), any()))
+                .willReturn(1);
+            given(bucketRepository.confirmReserved(100L, 3, 2)).willReturn(1);
+
+            // when
+            int confirmed = bucketService.confirm(100L, 1L);
+
+            // then
+            assertThat(confirmed).isEqualTo(2);
+            then(stockRepository).should(never()).confirmReservedStock(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("버킷 예약을 해제하면 수량을 원래 버킷으로 되돌린다")
+        void releaseBucketReservation() {
+            // given
+            given(reservationRepository.findByIdOrElseThrow(1L)).willReturn(bucketReservation(1L, 100L, 3, 2));
+            given(reservationRepository.updateStatusIfReserved(1L, ReservationStatus.RELEASED, null)).willReturn(1);
+
+            // when
+            int released = bucketService.release(100L, 1L);
+
+            // then
+            assertThat(released).isEqualTo(2);
+            then(bucketRepository).should().releaseReserved(100L, 3, 2);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.LockTimeoutException;
+import com.example.ecommerce.product.domain.StockReservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationCombiner 테스트")
+class StockReservationCombinerTest {
+
+    private static final long WINDOW_MILLIS = 50;
+
+    @Mock
+    private StockReservationWriter reservationWriter;
+
+    private StockReservationCombiner combiner;
+
+    @BeforeEach
+    void setUp() {
+        combiner = new StockReservationCombiner(reservationWriter, WINDOW_MILLIS, 500, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        combiner.stop();
+    }
+
+    @Test
+    @DisplayName("윈도우 안에 들어온 같은 상품 요청은 한 번에 반영된다")
+    @SuppressWarnings("unchecked")
+    void submitCombinesRequestsForSameProduct() {
+        // given
+        given(reservationWriter.reserveBatch(eq(100L), anyList()))
+            .willAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        CompletableFuture<StockReservation> first = combiner.submit(1L, 100L, 2);
+        CompletableFuture<StockReservation> second = combiner.submit(2L, 100L, 3);
+        CompletableFuture<StockReservation> third = combiner.submit(3L, 100L, 1);
+
+        // then
+        ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+        then(reservationWriter).should(timeout(1000).times(1)).reserveBatch(eq(100L), captor.capture());
+        assertAll(
+            () -> assertThat(captor.getValue()).extracting(StockReservation::getOrderId).containsExactly(1L, 2L, 3L),
+            () -> assertThat(first.get(1, TimeUnit.SECONDS).getQuantity()).isEqualTo(2),
+            () -> assertThat(second.get(1, TimeUnit.SECONDS).getQuantity()).isEqualTo(3),
+            () -> assertThat(third.get(1, TimeUnit.SECONDS).getQuantity()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("배치에서 거절된 요청만 재고 부족으로 실패한다")
+    @SuppressWarnings("unchecked")
+    void submitFailsOnlyRejectedRequests() {
+        // given: 첫 요청만 받아들임
+        given(reservationWriter.reserveBatch(eq(100L), anyList()))
+            .willAnswer(invocation -> List.of(((List<StockReservation>) invocation.getArgument(1)).get(0)));
+
+        // when
+        CompletableFuture<StockReservation> admitted = combiner.submit(1L, 100L, 5);
+        CompletableFuture<StockReservation> rejected = combiner.submit(2L, 100L, 5);
+
+        // then
+        assertThat(admitted.orTimeout(1, TimeUnit.SECONDS).join().getOrderId()).isEqualTo(1L);
+        assertThatThrownBy(() -> rejected.orTimeout(1, TimeUnit.SECONDS).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("상품이 다르면 배치도 따로 반영된다")
+    void submitSeparatesBatchesByProduct() {
+        // given
+        given(reservationWriter.reserveBatch(anyLong(), anyList()))
+            .willAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        CompletableFuture.allOf(
+            combiner.submit(1L, 100L, 1),
+            combiner.submit(2L, 200L, 1)
+        ).orTimeout(1, TimeUnit.SECONDS).join();
+
+        // then
+        then(reservationWriter).should(times(1)).reserveBatch(eq(100L), anyList());
+        then(reservationWriter).should(times(1)).reserveBatch(eq(200L), anyList());
+    }
+
+    @Test
+    @DisplayName("배치 반영이 실패하면 모든 요청이 같은 예외로 실패한다")
+    void submitPropagatesBatchFailure() {
+        // given
+        given(reservationWriter.reserveBatch(eq(100L), anyList()))
+            .willThrow(new LockTimeoutException("분산락 획득에 실패했습니다."));
+
+        // when
+        CompletableFuture<StockReservation> first = combiner.submit(1L, 100L, 1);
+        CompletableFuture<StockReservation> second = combiner.submit(2L, 100L, 1);
+
+        // then
+        assertThatThrownBy(() -> first.orTimeout(1, TimeUnit.SECONDS).join())
+            .hasCauseInstanceOf(LockTimeoutException.class);
+        assertThatThrownBy(() -> second.orTimeout(1, TimeUnit.SECONDS).join())
+            .hasCauseInstanceOf(LockTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("반영을 예약하지 못한 배치의 요청은 즉시 실패한다")
+    void submitFailsWhenFlushCannotBeScheduled() throws InterruptedException {
+        // given: 종료된 결합기
+        combiner.stop();
+
+        // when
+        CompletableFuture<StockReservation> future = combiner.submit(1L, 100L, 1);
+
+        // then
+        assertThatThrownBy(() -> future.orTimeout(1, TimeUnit.SECONDS).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+        then(reservationWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("반영 전에 이미 실패로 완료된 요청은 배치에서 제외된다")
+    @SuppressWarnings("unchecked")
+    void flushSkipsRequestsAlreadyCompleted() {
+        // given
+        given(reservationWriter.reserveBatch(eq(100L), anyList()))
+            .willAnswer(invocation -> invocation.getArgument(1));
+
+        // when: 첫 요청은 대기 시간 초과로 먼저 실패
+        CompletableFuture<StockReservation> timedOut = combiner.submit(1L, 100L, 1);
+        timedOut.completeExceptionally(new TimeoutException());
+        CompletableFuture<StockReservation> waiting = combiner.submit(2L, 100L, 1);
+
+        // then
+        assertThat(waiting.orTimeout(1, TimeUnit.SECONDS).join().getOrderId()).isEqualTo(2L);
+        ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+        then(reservationWriter).should().reserveBatch(eq(100L), captor.capture());
+        assertThat(captor.getValue()).extracting(StockReservation::getOrderId).containsExactly(2L);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.ecommerce.product.service;
+
+import com.example.ecommerce.common.event.MessagePublisher;
+import com.example.ecommerce.common.exception.LockTimeoutException;
+import com.example.ecommerce.product.domain.StockReservation;
+import com.example.ecommerce.product.domain.status.ReservationStatus;
+import com.example.ecommerce.product.event.ReservationExpiredEvent;
+import com.example.ecommerce.product.repository.StockReservationRepository;
+import com.example.ecommerce.product.service.StockReservationExpiryService.ExpireResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationExpiryService 테스트")
+class StockReservationExpiryServiceTest {
+
+    @Mock
+    private StockReservationEngine reservationEngine;
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private MessagePublisher eventPublisher;
+
+    @InjectMocks
+    private StockReservationExpiryService expiryService;
+
+    private StockReservation createReservation(Long id, Long orderId, Long productId, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return StockReservation.builder()
+            .id(id)
+            .orderId(orderId)
+            .productId(productId)
+            .quantity(quantity)
+            .status(ReservationStatus.RESERVED)
+            .expiresAt(now.minusMinutes(1))
+            .createdAt(now.minusMinutes(11))
+            .updatedAt(now.minusMinutes(11))
+            .build();
+    }
+
+    @Test
+    @DisplayName("만료 예약을 상품별로 묶어 상품당 한 번씩 해제한다")
+    void expireOrdersGroupsByProduct() {
+        // given: 주문 2건, 상품 2개에 걸친 예약 3건
+        LocalDateTime now = LocalDateTime.now();
+        StockReservation first = createReservation(1L, 10L, 200L, 1);
+        StockReservation second = createReservation(2L, 10L, 100L, 2);
+        StockReservation third = createReservation(3L, 11L, 200L, 3);
+        given(reservationRepository.findExpiredByOrderIds(List.of(10L, 11L), now))
+            .willReturn(List.of(first, second, third));
+        given(reservationEngine.releaseExpired(100L, List.of(second))).willReturn(2);
+        given(reservationEngine.releaseExpired(200L, List.of(first, third))).willReturn(4);
+
+        // when
+        ExpireResult result = expiryService.expireOrders(List.of(10L, 11L), now);
+
+        // then
+        assertAll(
+            () -> assertThat(result.reservations()).isEqualTo(3),
+            () -> assertThat(result.released()).isEqualTo(6),
+            () -> assertThat(result.hasFailure()).isFalse()
+        );
+
+        // then: 해제한 주문마다 만료 이벤트 1회
+        ArgumentCaptor<ReservationExpiredEvent> captor = ArgumentCaptor.forClass(ReservationExpiredEvent.class);
+        then(eventPublisher).should(times(2)).publish(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ReservationExpiredEvent::orderId).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("한 상품의 해제가 실패해도 나머지 상품은 해제하고 실패 수를 반환한다")
+    void expireOrdersContinuesOnFailure() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        StockReservation failing = createReservation(1L, 10L, 100L, 1);
+        StockReservation succeeding = createReservation(2L, 10L, 200L, 2);
+        given(reservationRepository.findExpiredByOrderIds(List.of(10L), now))
+            .willReturn(List.of(failing, succeeding));
+        given(reservationEngine.releaseExpired(100L, List.of(failing)))
+            .willThrow(new LockTimeoutException("분산락 획득에 실패했습니다."));
+        given(reservationEngine.releaseExpired(200L, List.of(succeeding))).willReturn(2);
+
+        // when
+        ExpireResult result = expiryService.expireOrders(List.of(10L), now);
+
+        // then
+        assertAll(
+            () -> assertThat(result.released()).isEqualTo(2),
+            () -> assertThat(result.failedProducts()).isEqualTo(1),
+            () -> assertThat(result.hasFailure()).isTrue()
+        );
+        then(eventPublisher).should().publish(any(ReservationExpiredEvent.class));
+    }
+
+    @Test
+    @DisplayName("만료 예약이 없으면 아무것도 해제하지 않는다")
+    void expireOrdersWithNothingExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(reservationRepository.findExpiredByOrderIds(List.of(10L), now)).willReturn(List.of());
+
+        // when
+        ExpireResult result = expiryService.expireOrders(List.of(10L), now);
+
+        // then
+        assertThat(result.reservations()).isZero();
+        then(reservationEngine).should(never()).releaseExpired(anyLong(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.ecommerce.product.service;
 
 import com.example.ecommerce.common.exception.CustomException;
+import com.example.ecommerce.common.exception.ErrorCode;
 import com.example.ecommerce.product.domain.ProductStock;
 import com.example.ecommerce.product.domain.StockReservation;
 import com.example.ecommerce.product.domain.status.ReservationStatus;
 import com.example.ecommerce.product.domain.vo.Stock;
+import com.example.ecommerce.product.dto.StockReserveItem;
 import com.example.ecommerce.product.repository.ProductStockRepository;
 import com.example.ecommerce.product.repository.StockReservationRepository;
 import java.time.LocalDateTime;
@@ -26,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +41,12 @@ class StockServiceTest {
     @Mock
     private StockReservationRepository reservationRepository;
 
+    @Mock
+    private StockReservationWriter reservationWriter;
+
+    @Mock
+    private ProductDetailCache detailCache;
+
     @InjectMocks
     private StockService stockService;
 
@@ -157,6 +166,83 @@ class StockServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 일괄 예약 테스트")
+    class ReserveAllTest {
+
+        @Test
+        @DisplayName("주문의 모든 상품을 한 번에 예약한다")
+        void reserveAll() {
+            // given
+            Long orderId = 1L;
+            ProductStock stock1 = createProductStock(100L, 100, 0);
+            ProductStock stock2 = createProductStock(200L, 50, 0);
+            List<StockReserveItem> items = List.of(
+                new StockReserveItem(100L, 3),
+                new StockReserveItem(200L, 5)
+            );
+
+            given(stockRepository.findByIdOrElseThrow(100L)).willReturn(stock1);
+            given(stockRepository.findByIdOrElseThrow(200L)).willReturn(stock2);
+            given(reservationRepository.save(any(StockReservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            List<StockReservation> result = stockService.reserveAll(orderId, items);
+
+            // then
+            assertAll(
+                () -> assertThat(result).hasSize(2),
+                () -> assertThat(result).extracting(StockReservation::getProductId).containsExactly(100L, 200L),
+                () -> assertThat(stock1.getReservedStock()).isEqualTo(3),
+                () -> assertThat(stock2.getReservedStock()).isEqualTo(5),
+                () -> then(reservationRepository).should(times(2)).save(any(StockReservation.class))
+            );
+        }
+
+        @Test
+        @DisplayName("같은 상품이 여러 항목에 있으면 합계로 재고를 검증한다")
+        void reserveAllSumsDuplicateProducts() {
+            // given
+            ProductStock stock = createProductStock(100L, 10, 0);
+            List<StockReserveItem> items = List.of(
+                new StockReserveItem(100L, 6),
+                new StockReserveItem(100L, 6)
+            );
+
+            given(stockRepository.findByIdOrElseThrow(100L)).willReturn(stock);
+            given(reservationRepository.save(any(StockReservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when & then
+            assertThatThrownBy(() -> stockService.reserveAll(1L, items))
+                .isInstanceOf(CustomException.class);
+            then(stockRepository).should(times(1)).findByIdOrElseThrow(100L);
+        }
+
+        @Test
+        @DisplayName("한 상품이라도 재고가 부족하면 예약 실패한다")
+        void reserveAllFailsWhenAnyStockInsufficient() {
+            // given
+            ProductStock stock1 = createProductStock(100L, 100, 0);
+            ProductStock stock2 = createProductStock(200L, 1, 0);
+            List<StockReserveItem> items = List.of(
+                new StockReserveItem(100L, 3),
+                new StockReserveItem(200L, 5)
+            );
+
+            given(stockRepository.findByIdOrElseThrow(100L)).willReturn(stock1);
+            given(stockRepository.findByIdOrElseThrow(200L)).willReturn(stock2);
+            given(reservationRepository.save(any(StockReservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when & then
+            assertThatThrownBy(() -> stockService.reserveAll(1L, items))
+                .isInstanceOf(CustomException.class);
+            assertThat(stock2.getReservedStock()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("재고 확정 테스트")
     class ConfirmReservationTest {
@@ -190,7 +276,8 @@ class StockServiceTest {
                 () -> then(reservationRepository).should().findByIdOrElseThrow(reservationId),
                 () -> then(stockRepository).should().findByIdOrElseThrow(productId),
                 () -> then(stockRepository).should().save(stock),
-                () -> then(reservationRepository).should().save(reservation)
+                () -> then(reservationRepository).should().save(reservation),
+                () -> then(detailCache).should().markStale(productId)
             );
         }
 
@@ -289,92 +376,98 @@ class StockServiceTest {
     }
 
     @Nested
-    @DisplayName("재고 예약 만료 테스트")
-    class ExpireReservationTest {
+    @DisplayName("주문 단위 일괄 확정/해제 테스트")
+    class OrderBulkTest {
 
         @Test
-        @DisplayName("만료된 예약을 해제하고 예약 재고를 감소시킨다")
-        void expireReservation() {
-            // given
-            Long reservationId = 1L;
+        @DisplayName("주문의 예약 상품을 중복 없이 모아 한 번에 확정한다")
+        void confirmAllLocksDistinctProducts() {
+            // given: 같은 상품 예약 2건을 포함한 주문
             Long orderId = 1L;
-            Long productId = 100L;
-            int quantity = 10;
-
-            StockReservation expiredReservation = createReservation(
-                reservationId, orderId, productId, quantity, ReservationStatus.RESERVED
-            );
-            ProductStock stock = createProductStock(productId, 100, quantity);
-
-            given(reservationRepository.findByIdOrElseThrow(reservationId)).willReturn(expiredReservation);
-            given(stockRepository.findByIdOrElseThrow(productId)).willReturn(stock);
-
-            int initialReserved = stock.getReservedStock();
+            given(reservationRepository.findPendingByOrderId(orderId)).willReturn(List.of(
+                createReservation(1L, orderId, 200L, 1, ReservationStatus.RESERVED),
+                createReservation(2L, orderId, 100L, 2, ReservationStatus.RESERVED),
+                createReservation(3L, orderId, 200L, 3, ReservationStatus.RESERVED)
+            ));
 
             // when
-            stockService.expireReservation(productId, reservationId);
+            stockService.confirmAll(orderId);
 
             // then
-            assertAll(
-                () -> assertThat(expiredReservation.getStatus()).isEqualTo(ReservationStatus.RELEASED),
-                () -> assertThat(stock.getReservedStock()).isEqualTo(initialReserved - quantity),
-                () -> then(reservationRepository).should().findByIdOrElseThrow(reservationId),
-                () -> then(stockRepository).should().findByIdOrElseThrow(productId),
-                () -> then(stockRepository).should().save(stock),
-                () -> then(reservationRepository).should().save(expiredReservation)
-            );
+            then(reservationWriter).should().confirmAllLocked(orderId, List.of(200L, 100L));
+            then(stockRepository).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("만료 처리 시 currentStock은 변경되지 않는다")
-        void expireDoesNotChangeCurrentStock() {
+        @DisplayName("주문의 예약 상품을 모아 한 번에 해제한다")
+        void releaseAllLocksDistinctProducts() {
             // given
-            Long reservationId = 1L;
             Long orderId = 1L;
-            Long productId = 100L;
-            int quantity = 10;
+            given(reservationRepository.findPendingByOrderId(orderId)).willReturn(List.of(
+                createReservation(1L, orderId, 100L, 1, ReservationStatus.RESERVED),
+                createReservation(2L, orderId, 200L, 2, ReservationStatus.RESERVED)
+            ));
 
-            StockReservation expiredReservation = createReservation(
-                reservationId, orderId, productId, quantity, ReservationStatus.RESERVED
-            );
-            ProductStock stock = createProductStock(productId, 100, quantity);
+            // when
+            stockService.releaseAll(orderId);
 
-            given(reservationRepository.findByIdOrElseThrow(reservationId)).willReturn(expiredReservation);
-            given(stockRepository.findByIdOrElseThrow(productId)).willReturn(stock);
+            // then
+            then(reservationWriter).should().releaseAllLocked(orderId, List.of(100L, 200L));
+        }
 
-            int initialStock = stock.getCurrentStock().getQuantity();
+        @Test
+        @DisplayName("처리할 예약이 없으면 락 없이 예약 상태만 확인한다")
+        void confirmAllWithNothingPending() {
+            // given
+            Long orderId = 1L;
+            given(reservationRepository.findPendingByOrderId(orderId)).willReturn(Collections.emptyList());
 
             // when
-            stockService.expireReservation(productId, reservationId);
+            stockService.confirmAll(orderId);
 
             // then
-            assertThat(stock.getCurrentStock().getQuantity()).isEqualTo(initialStock);
+            then(reservationWriter).should().confirmAll(orderId);
+            then(reservationWriter).should(never()).confirmAllLocked(any(), any());
         }
 
         @Test
-        @DisplayName("expireReservations는 만료된 예약들을 일괄 처리한다")
-        void expireReservations() {
+        @DisplayName("만료로 해제된 주문의 확정은 실패한다")
+        void confirmAllFailsWhenReservationExpired() {
             // given
-            Long productId = 100L;
+            Long orderId = 1L;
+            given(reservationRepository.findPendingByOrderId(orderId)).willReturn(Collections.emptyList());
+            given(reservationWriter.confirmAll(orderId))
+                .willThrow(new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED));
 
-            StockReservation reservation1 = createReservation(1L, 1L, productId, 5, ReservationStatus.RESERVED);
-            StockReservation reservation2 = createReservation(2L, 2L, productId, 3, ReservationStatus.RESERVED);
+            // when & then
+            assertThatThrownBy(() -> stockService.confirmAll(orderId))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+    }
 
-            ProductStock stock = createProductStock(productId, 100, 8);
+    @Nested
+    @DisplayName("재고 예약 만료 테스트")
+    class ExpireReservationTest {
 
-            given(reservationRepository.findExpiredReservations(any(LocalDateTime.class)))
-                .willReturn(List.of(reservation1, reservation2));
-            given(reservationRepository.findByIdOrElseThrow(1L)).willReturn(reservation1);
-            given(reservationRepository.findByIdOrElseThrow(2L)).willReturn(reservation2);
-            given(stockRepository.findByIdOrElseThrow(productId)).willReturn(stock);
+        @Test
+        @DisplayName("releaseExpired는 상품의 만료 예약을 한 번에 해제한다")
+        void releaseExpired() {
+            // given
+            Long productId = 100L;
+            List<StockReservation> reservations = List.of(
+                createReservation(1L, 1L, productId, 2, ReservationStatus.RESERVED),
+                createReservation(2L, 2L, productId, 3, ReservationStatus.RESERVED)
+            );
+            given(reservationWriter.releaseExpired(productId, reservations)).willReturn(5);
 
             // when
-            stockService.expireReservations();
+            int released = stockService.releaseExpired(productId, reservations);
 
             // then
-            then(reservationRepository).should().findExpiredReservations(any(LocalDateTime.class));
-            then(stockRepository).should(times(2)).findByIdOrElseThrow(productId);
-            then(stockRepository).should(times(2)).save(stock);
+            assertThat(released).isEqualTo(5);
+            then(reservationWriter).should().releaseExpired(productId, reservations);
         }
     }
 }